@@ -1,17 +1,21 @@
 package ca.concordia.encs.conquerdia;
 
 import ca.concordia.encs.conquerdia.controller.CommandController;
+import ca.concordia.encs.conquerdia.controller.TournamentController;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.CardExchangeModel;
 import ca.concordia.encs.conquerdia.model.CommandResultModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
 import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.io.GameAutosaver;
+import ca.concordia.encs.conquerdia.model.io.GameJournal;
 import ca.concordia.encs.conquerdia.model.map.io.FileHelper;
 import ca.concordia.encs.conquerdia.model.map.io.MapIO;
 import ca.concordia.encs.conquerdia.view.CardExchangeView;
 import ca.concordia.encs.conquerdia.view.CommandResultView;
 import ca.concordia.encs.conquerdia.view.PhaseView;
 import ca.concordia.encs.conquerdia.view.PlayersWorldDominationView;
-import org.apache.commons.lang.StringUtils;
 
 import javax.swing.*;
 import java.io.PrintStream;
@@ -24,16 +28,100 @@ import java.util.Set;
  * Project Starter
  */
 public class Starter extends JFrame {
-    private final CommandController commandController = new CommandController();
+    private final CommandController commandController = new CommandController(GameContext.current());
+
+    /**
+     * Base name of the files that the game is saved to automatically
+     */
+    private static final String AUTOSAVE_FILE_NAME = "autosave";
+
+    /**
+     * Command line option that saves the game automatically at the start of each turn
+     */
+    private static final String AUTOSAVE_OPTION = "-autosave";
+
+    /**
+     * Number of automatic saves that are kept when the command line does not give it
+     */
+    private static final int DEFAULT_NUMBER_OF_AUTOSAVES = 3;
+
+    /**
+     * Base name of the snapshot and the journal of the actions of the game
+     */
+    private static final String JOURNAL_FILE_NAME = "journal";
+
+    /**
+     * Command line option that journals the actions of the game
+     */
+    private static final String JOURNAL_OPTION = "-journal";
+
+    /**
+     * Number of turns between two snapshots of the journal when the command line does not give it
+     */
+    private static final int DEFAULT_TURNS_BETWEEN_JOURNAL_SNAPSHOTS = 5;
 
     /**
      * Project main method
      *
-     * @param args input arguments
+     * @param args input arguments, <code>-autosave [N]</code> saves the game at the start of each turn to a rolling
+     *             set of N files, <code>-journal [N]</code> journals the actions of the game with a snapshot every N
+     *             turns
      */
     public static void main(String[] args) {
         FileHelper.CreateDirectoryIfNotExists(MapIO.MAPS_FOLDER_PATH);
-        new Starter().start(new Scanner(System.in), System.out);
+        try (GameAutosaver autosaver = createAutosaver(args);
+             GameJournal journal = createJournal(args)) {
+            GameContext.current().setAutosaver(autosaver);
+            GameContext.current().setJournal(journal);
+            new Starter().start(new Scanner(System.in), System.out);
+        } catch (ValidationException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * @param args input arguments
+     * @return the autosaver asked by the <code>-autosave [N]</code> option, null if the game is not saved automatically
+     * @throws ValidationException if the number of autosaves is not valid
+     */
+    static GameAutosaver createAutosaver(String[] args) throws ValidationException {
+        for (int i = 0; i < args.length; i++) {
+            if (AUTOSAVE_OPTION.equals(args[i])) {
+                int numberOfAutosaves = DEFAULT_NUMBER_OF_AUTOSAVES;
+                if (i + 1 < args.length && !args[i + 1].startsWith("-")) {
+                    try {
+                        numberOfAutosaves = Integer.parseInt(args[i + 1]);
+                    } catch (NumberFormatException e) {
+                        throw new ValidationException(String.format("\"%s\" is not a number of autosaves.", args[i + 1]));
+                    }
+                }
+                return new GameAutosaver(AUTOSAVE_FILE_NAME, numberOfAutosaves);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param args input arguments
+     * @return the journal asked by the <code>-journal [N]</code> option, null if the game is not journaled
+     * @throws ValidationException if the number of turns between two snapshots is not valid
+     */
+    static GameJournal createJournal(String[] args) throws ValidationException {
+        for (int i = 0; i < args.length; i++) {
+            if (JOURNAL_OPTION.equals(args[i])) {
+                int turnsBetweenSnapshots = DEFAULT_TURNS_BETWEEN_JOURNAL_SNAPSHOTS;
+                if (i + 1 < args.length && !args[i + 1].startsWith("-")) {
+                    try {
+                        turnsBetweenSnapshots = Integer.parseInt(args[i + 1]);
+                    } catch (NumberFormatException e) {
+                        throw new ValidationException(
+                                String.format("\"%s\" is not a number of turns between two snapshots.", args[i + 1]));
+                    }
+                }
+                return new GameJournal(JOURNAL_FILE_NAME, turnsBetweenSnapshots);
+            }
+        }
+        return null;
     }
 
     /**
@@ -59,6 +147,7 @@ public class Starter extends JFrame {
                     Set<String> players = new HashSet<>();
                     int numberOfGames = -1;
                     int maxNumberOfTurns = -1;
+                    Long seed = null;
                     String status = "start";
                     {
                         int i = 0;
@@ -114,6 +203,10 @@ public class Starter extends JFrame {
                                     }
                                     throw new Exception();
                                 case "maxTurns":
+                                    if ("-S".equals(part) && maxNumberOfTurns != -1) {
+                                        status = "seed";
+                                        continue;
+                                    }
                                     if (maxNumberOfTurns == -1) {
                                         Integer integer = Integer.valueOf(part);
                                         if (integer >= 10 && integer <= 50) {
@@ -124,54 +217,25 @@ public class Starter extends JFrame {
                                         }
                                     }
                                     throw new Exception("");
+                                case "seed":
+                                    if (seed == null) {
+                                        seed = Long.valueOf(part);
+                                        continue;
+                                    }
+                                    throw new Exception("");
 
                             }
                         }
                     }
 
-                    StringBuilder results = new StringBuilder();
-                    results.append("\t\t\t");
-                    for (int i = 0; i < numberOfGames; i++) {
-                        results.append("Game ").append(i + 1).append("\t\t");
+                    if (maxNumberOfTurns == -1) {
+                        throw new Exception("-D is required!");
                     }
-                    int mapNumber = 1;
-                    for (String map : maps) {
-                        results.append(System.getProperty("line.separator")).append("Map ").append(mapNumber++).append("\t\t");
-                        for (int i = 0; i < numberOfGames; i++) {
-                            String result;
-                            CommandResultModel.clearModel();
-                            PhaseModel.clear();
-                            CardExchangeModel.clear();
-                            PlayersModel.clear();
-
-                            PlayersModel.getInstance().addObserver(new PlayersWorldDominationView(output));
-                            PhaseModel.getInstance().addObserver(new PhaseView(output));
-                            PhaseModel.getInstance().setMaxNumberOfTurns(maxNumberOfTurns);
-                            {
-                                commandController.executeCommand("loadmap " + map);
-                            }
-                            if (PhaseModel.getInstance().getCurrentPhase().equals(PhaseModel.PhaseTypes.START_UP)) {
-                                {
-                                    StringBuilder sb = new StringBuilder();
-                                    sb.append("gameplayer");
-                                    for (String player : players) {
-                                        sb.append(" -add ").append(player).append(" ").append(player);
-                                    }
-                                    commandController.executeCommand(sb.toString());
-                                    commandController.executeCommand("populatecountries");
-                                }
-                                if (PhaseModel.getInstance().isDraw()) {
-                                    result = "Draw";
-                                } else {
-                                    result = PhaseModel.getInstance().getCurrentPlayer().getName();
-                                }
-                            } else {
-                                result = "Error";
-                            }
-                            results.append(StringUtils.rightPad(result, 10, " ")).append("\t");
-                        }
+                    TournamentController tournament = new TournamentController(maps, players, numberOfGames, maxNumberOfTurns);
+                    if (seed != null) {
+                        tournament.setSeed(seed);
                     }
-                    output.println(results.toString());
+                    output.println(tournament.play(output));
 
                 } catch (Exception ex) {
                     output.println("Invalid Tournament Command! " + ex.getMessage() != null ? ex.getMessage() : "");
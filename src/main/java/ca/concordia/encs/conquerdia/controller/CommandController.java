@@ -2,10 +2,7 @@ package ca.concordia.encs.conquerdia.controller;
 
 import ca.concordia.encs.conquerdia.controller.command.Command;
 import ca.concordia.encs.conquerdia.controller.command.CommandType;
-import ca.concordia.encs.conquerdia.model.CardExchangeModel;
-import ca.concordia.encs.conquerdia.model.CommandResultModel;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.util.Arrays;
@@ -14,70 +11,79 @@ import java.util.Arrays;
  * Handles commands
  */
 public class CommandController {
+    /**
+     * The game that the commands are executed on
+     */
+    private final GameContext context;
+
+    /**
+     * @param context the game that the commands are executed on
+     */
+    public CommandController(GameContext context) {
+        this.context = context;
+    }
 
     /**
+     * @return the game that the commands are executed on
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
+    /**
+     * Execute a command on the game of this controller. The game is bound to the current thread while the command
+     * is executed.
+     *
      * @param commandStr user command
      */
     public void executeCommand(String commandStr) {
-        do {
-            CommandResultModel.getInstance().clear();
-            if (PhaseModel.getInstance().getCurrentPlayer() != null && PhaseModel.getInstance().getCurrentPlayer().isComputer() && PhaseModel.getInstance().isAllCountriesArePopulated()) {
-                switch (PhaseModel.getInstance().getCurrentPhase()) {
-                    case START_UP:
-                        if (PhaseModel.getInstance().isAllCountriesArePopulated()) {
-                            if (PlayersModel.getInstance().isThereAnyUnplacedArmy()) {
-                                commandStr = "placearmy countryname";
-                            }
-                        }
-                        break;
-                    case REINFORCEMENT:
-                        if (PhaseModel.getInstance().getCurrentPlayer().canExchangeCard()) {
-                            commandStr = "exchangecards 1 2 3";
-                        } else {
-                            commandStr = "reinforce countryname 1";
-                        }
-                        break;
-                    case FORTIFICATION:
-                        commandStr = "fortify fromcountry tocountry 1";
-                        break;
-                    case ATTACK:
-                        if (PhaseModel.getInstance().getCurrentPlayer().getBattle() != null && PhaseModel.getInstance().getCurrentPlayer().getBattle().isConquered()) {
-                            commandStr = "attackmove " + PhaseModel.getInstance().getCurrentPlayer().getBattle().getNumberOfAttackerDices();
-                        } else if (PhaseModel.getInstance().getCurrentPlayer().canPerformAttack()) {
-                            commandStr = "attack countrynamefrom countynameto 1";
-                        } else {
-                            commandStr = "attack -noattack";
-                        }
-                        break;
-                }
-            }
+        GameContext previous = GameContext.bind(context);
+        try {
+            execute(commandStr);
+        } finally {
+            GameContext.bind(previous);
+        }
+    }
 
-            String[] inputCommandParts = commandStr.trim().split(" ");
-            if (inputCommandParts.length <= 0) {
-                CommandResultModel.getInstance().addResult("Invalid Command! A valid command must have at least one part.");
-                return;
-            }
-            CommandType commandType = Command.createCommand(inputCommandParts);
-            if (commandType == null) {
-                CommandResultModel.getInstance().addResult("Command not found.");
+    /**
+     * Execute the command of the user, unless it is the turn of a computer player, and then play the turns of the
+     * computer players until a human player has the turn or the game is finished.
+     *
+     * @param commandStr user command
+     */
+    private void execute(String commandStr) {
+        ComputerTurnDriver computerTurnDriver = new ComputerTurnDriver(context);
+        if (!computerTurnDriver.canPlay()) {
+            context.getCommandResultModel().clear();
+            if (!executeUserCommand(commandStr)) {
                 return;
             }
-            commandType.getCommand().execute(Arrays.asList(inputCommandParts));
+        }
+        computerTurnDriver.play();
+    }
 
-            Player currentPlayer = PhaseModel.getInstance().getCurrentPlayer();
-            if (currentPlayer != null) {
-                CardExchangeModel.getInstance().addCards(currentPlayer.getCards());
-            }
-//            try {
-//                Thread.sleep(1000);
-//            } catch (InterruptedException e) {
-//                e.printStackTrace();
-//            }
-        } while (PhaseModel.getInstance().getCurrentPlayer() != null &&
-                PhaseModel.getInstance().isAllCountriesArePopulated() &&
-                PhaseModel.getInstance().getCurrentPlayer().isComputer() &&
-                !PhaseModel.getInstance().isFinished()
-        );
+    /**
+     * @param commandStr user command
+     * @return false if the command is not found
+     */
+    private boolean executeUserCommand(String commandStr) {
+        String[] inputCommandParts = commandStr.trim().split(" ");
+        if (inputCommandParts.length <= 0) {
+            context.getCommandResultModel().addResult("Invalid Command! A valid command must have at least one part.");
+            return false;
+        }
+        CommandType commandType = Command.createCommand(inputCommandParts);
+        if (commandType == null) {
+            context.getCommandResultModel().addResult("Command not found.");
+            return false;
+        }
+        commandType.getCommand(context).execute(Arrays.asList(inputCommandParts));
+
+        Player currentPlayer = context.getPhaseModel().getCurrentPlayer();
+        if (currentPlayer != null) {
+            context.getCardExchangeModel().addCards(currentPlayer.getCards());
+        }
+        return true;
     }
 
 }
@@ -0,0 +1,156 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.Battle;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.io.GameJournal.RecordType;
+import ca.concordia.encs.conquerdia.model.player.Player;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plays the turns of the computer players of a game.
+ * <p>
+ * The strategies choose their own countries and armies, so the driver calls the actions of the current player
+ * directly instead of building a command line for them, and then applies the phase transition the same way a command
+ * does. In a headless game (see {@link GameContext#isHeadless()}) the players view, the phase log and the command
+ * results are not updated at all, only the phase transitions are observed.
+ */
+public class ComputerTurnDriver {
+    /**
+     * The game that the turns are played on
+     */
+    private final GameContext context;
+
+    /**
+     * @param context the game that the turns are played on
+     */
+    public ComputerTurnDriver(GameContext context) {
+        this.context = context;
+    }
+
+    /**
+     * @return true if the current player is a computer player that can play an action
+     */
+    public boolean canPlay() {
+        PhaseModel phaseModel = context.getPhaseModel();
+        Player currentPlayer = phaseModel.getCurrentPlayer();
+        return currentPlayer != null && currentPlayer.isComputer() && phaseModel.isAllCountriesArePopulated()
+                && !phaseModel.isFinished();
+    }
+
+    /**
+     * Play the actions of the computer players until a human player has the turn or the game is finished. The game
+     * is bound to the current thread while the actions are played.
+     */
+    public void play() {
+        GameContext previous = GameContext.bind(context);
+        try {
+            while (canPlay()) {
+                playAction();
+            }
+        } finally {
+            GameContext.bind(previous);
+        }
+    }
+
+    /**
+     * Play one action of the current player, which must be a computer player, and change the phase if needed.
+     * A rejected or failed action is reported to the command results, as a rejected command is, and the game stays
+     * in the same state.
+     */
+    public void playAction() {
+        PhaseModel phaseModel = context.getPhaseModel();
+        Player currentPlayer = phaseModel.getCurrentPlayer();
+        boolean headless = context.isHeadless();
+        if (!headless) {
+            context.getCommandResultModel().clear();
+        }
+        try {
+            List<String> phaseLog = performAction(phaseModel, currentPlayer);
+            if (!headless) {
+                context.getPlayersModel().update();
+                phaseModel.addPhaseLogs(phaseLog);
+            }
+            List<String> results = phaseModel.changePhase();
+            if (!headless) {
+                context.getCommandResultModel().addResultList(results);
+            }
+        } catch (ValidationException ex) {
+            if (!headless) {
+                context.getCommandResultModel().addResultList(ex.getValidationErrors());
+            }
+        } catch (RuntimeException ex) {
+            // a strategy that fails on one action tries again with other random choices, as with the commands
+            if (!headless) {
+                context.getCommandResultModel().addResult(String.format("%s could not play at the %s phase.",
+                        currentPlayer.getName(), phaseModel.getCurrentPhase().getName()));
+            }
+        }
+        currentPlayer = phaseModel.getCurrentPlayer();
+        if (currentPlayer != null && !headless) {
+            context.getCardExchangeModel().addCards(currentPlayer.getCards());
+        }
+    }
+
+    /**
+     * Perform the action of the current phase, the strategy of the player chooses its arguments
+     *
+     * @param phaseModel    the phase of the game
+     * @param currentPlayer the current player
+     * @return the messages of the action for the phase log, null if there is none
+     * @throws ValidationException if the player cannot perform the action
+     */
+    private List<String> performAction(PhaseModel phaseModel, Player currentPlayer) throws ValidationException {
+        switch (phaseModel.getCurrentPhase()) {
+            case START_UP:
+                if (context.getPlayersModel().isThereAnyUnplacedArmy()) {
+                    String log = currentPlayer.placeArmy(null);
+                    context.getPlayersModel().giveTurnToPlayerWithUnplacedArmies();
+                    context.journal(RecordType.PLACE_ARMY);
+                    return single(log);
+                }
+                return null;
+            case REINFORCEMENT:
+                if (currentPlayer.canExchangeCard()) {
+                    String exchangeLog = currentPlayer.exchangeCard(1, 2, 3);
+                    context.journal(RecordType.CARD_EXCHANGE);
+                    return single(exchangeLog);
+                }
+                String reinforceLog = currentPlayer.reinforce(null, 1);
+                context.journal(RecordType.REINFORCE);
+                return single(reinforceLog);
+            case ATTACK:
+                Battle battle = currentPlayer.getBattle();
+                if (battle != null && battle.isConquered()) {
+                    String moveLog = currentPlayer.attackMove(battle.getNumberOfAttackerDices());
+                    context.journal(RecordType.ATTACK_MOVE);
+                    return single(moveLog);
+                }
+                List<String> attackLog = currentPlayer.canPerformAttack()
+                        ? currentPlayer.attack(null, null, 1, false, false)
+                        : currentPlayer.attack(null, null, -1, false, true);
+                context.journal(RecordType.ATTACK);
+                return attackLog;
+            case FORTIFICATION:
+                String fortifyLog = currentPlayer.fortify(null, null, 1, false);
+                context.journal(RecordType.FORTIFY);
+                return single(fortifyLog);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param log one message, may be null
+     * @return a list with the message, null if the message is null or if the game is headless
+     */
+    private List<String> single(String log) {
+        if (log == null || context.isHeadless()) {
+            return null;
+        }
+        return Collections.singletonList(log);
+    }
+}
@@ -0,0 +1,180 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.AllOutAttackResolver;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.util.RandomSource;
+
+import java.util.List;
+
+/**
+ * Plays complete games of computer players without any view.
+ * <p>
+ * Every game gets a new headless {@link GameContext}: nothing observes its models, the battle messages, the phase
+ * log and the command results are not built, and nothing is printed. The turns are played by a
+ * {@link ComputerTurnDriver}. A simulator can play several games at the same time on different threads, the games
+ * only share the cache of the all out attack resolver.
+ */
+public class GameSimulator {
+    /**
+     * Resolves the all out attacks of all the games in one step, null to roll them round by round
+     */
+    private final AllOutAttackResolver allOutAttackResolver;
+
+    /**
+     * Create a simulator that resolves the all out attacks in one step
+     */
+    public GameSimulator() {
+        this(new AllOutAttackResolver());
+    }
+
+    /**
+     * @param allOutAttackResolver resolves the all out attacks of all the games in one step, null to roll them round
+     *                             by round
+     */
+    public GameSimulator(AllOutAttackResolver allOutAttackResolver) {
+        this.allOutAttackResolver = allOutAttackResolver;
+    }
+
+    /**
+     * Play a game with a random seed. The seed is given in the result, so that the game can be played again.
+     *
+     * @param map        the name of the map file
+     * @param strategies the strategies of the players, which are also the names of the players
+     * @param maxTurns   max number of turns of the game, at least 1 so that a game that nobody can win still ends
+     * @return the result of the game
+     * @throws ValidationException if the max number of turns is not positive, or the map cannot be loaded or the
+     *                             players cannot play on it
+     */
+    public Result play(String map, List<String> strategies, int maxTurns) throws ValidationException {
+        return play(map, strategies, maxTurns, RandomSource.fast().nextLong(Long.MAX_VALUE));
+    }
+
+    /**
+     * Play a game on the current thread
+     *
+     * @param map        the name of the map file
+     * @param strategies the strategies of the players, which are also the names of the players
+     * @param maxTurns   max number of turns of the game, at least 1 so that a game that nobody can win still ends
+     * @param seed       the seed of the game, the same game is played for the same seed
+     * @return the result of the game
+     * @throws ValidationException if the max number of turns is not positive, or the map cannot be loaded or the
+     *                             players cannot play on it
+     */
+    public Result play(String map, List<String> strategies, int maxTurns, long seed) throws ValidationException {
+        if (maxTurns < 1) {
+            throw new ValidationException("The max number of turns of a simulated game must be positive.");
+        }
+        GameContext context = new GameContext();
+        context.setSeed(seed);
+        context.setHeadless(true);
+        context.setAllOutAttackResolver(allOutAttackResolver);
+        GameContext previous = GameContext.bind(context);
+        try {
+            PhaseModel phaseModel = context.getPhaseModel();
+            PlayersModel playersModel = context.getPlayersModel();
+            phaseModel.setMaxNumberOfTurns(maxTurns);
+            String message = context.getWorldMap().loadMap(map);
+            if (!context.getWorldMap().isMapLoaded()) {
+                throw new ValidationException(message);
+            }
+            phaseModel.changePhase();
+            for (String strategy : strategies) {
+                playersModel.addPlayer(strategy, strategy);
+            }
+            phaseModel.populateCountries();
+            ComputerTurnDriver driver = new ComputerTurnDriver(context);
+            driver.play();
+            if (!phaseModel.isFinished()) {
+                throw new ValidationException("The game is stopped before its end.");
+            }
+            String winner = phaseModel.isDraw() ? null : phaseModel.getCurrentPlayer().getName();
+            return new Result(map, seed, winner, playersModel.getNumberOfTurns());
+        } finally {
+            GameContext.bind(previous);
+        }
+    }
+
+    /**
+     * The result of one game
+     */
+    public static final class Result {
+        /**
+         * the name of the map file
+         */
+        private final String map;
+
+        /**
+         * the seed of the game
+         */
+        private final long seed;
+
+        /**
+         * name of the winner, null if the game is a draw
+         */
+        private final String winner;
+
+        /**
+         * number of turns played
+         */
+        private final int numberOfTurns;
+
+        /**
+         * @param map           the name of the map file
+         * @param seed          the seed of the game
+         * @param winner        name of the winner, null if the game is a draw
+         * @param numberOfTurns number of turns played
+         */
+        public Result(String map, long seed, String winner, int numberOfTurns) {
+            this.map = map;
+            this.seed = seed;
+            this.winner = winner;
+            this.numberOfTurns = numberOfTurns;
+        }
+
+        /**
+         * @return the name of the map file
+         */
+        public String getMap() {
+            return map;
+        }
+
+        /**
+         * @return the seed of the game
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * @return name of the winner, null if the game is a draw
+         */
+        public String getWinner() {
+            return winner;
+        }
+
+        /**
+         * @return true if the game reached the max number of turns without any winner
+         */
+        public boolean isDraw() {
+            return winner == null;
+        }
+
+        /**
+         * @return number of turns played
+         */
+        public int getNumberOfTurns() {
+            return numberOfTurns;
+        }
+
+        /**
+         * @return the winner or "Draw"
+         */
+        @Override
+        public String toString() {
+            return isDraw() ? "Draw" : winner;
+        }
+    }
+}
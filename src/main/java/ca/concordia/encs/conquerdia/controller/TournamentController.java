@@ -0,0 +1,150 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import ca.concordia.encs.conquerdia.model.GameContext;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays all the games of a tournament.
+ * <p>
+ * Every game runs on a worker thread of a fixed pool sized to the available cores. Each game has a
+ * {@link GameContext} of its own, so the games do not share any state. The games are played headless by a
+ * {@link GameSimulator}, and a summary line of each game is printed in the order of the games once the tournament
+ * is finished.
+ */
+public class TournamentController {
+    /**
+     * Maps of the tournament
+     */
+    private final List<String> maps;
+
+    /**
+     * Strategies of the players
+     */
+    private final List<String> players;
+
+    /**
+     * Number of games to be played on each map
+     */
+    private final int numberOfGames;
+
+    /**
+     * Max number of turns of each game
+     */
+    private final int maxNumberOfTurns;
+
+    /**
+     * Number of worker threads
+     */
+    private final int numberOfThreads;
+
+    /**
+     * Plays the games, they share the cache of its all out attack resolver
+     */
+    private final GameSimulator simulator = new GameSimulator();
+
+    /**
+     * Seed of the tournament, null to play with random seeds
+     */
+    private Long seed;
+
+    /**
+     * @param maps             maps of the tournament
+     * @param players          strategies of the players
+     * @param numberOfGames    number of games to be played on each map
+     * @param maxNumberOfTurns max number of turns of each game
+     */
+    public TournamentController(Collection<String> maps, Collection<String> players, int numberOfGames, int maxNumberOfTurns) {
+        this(maps, players, numberOfGames, maxNumberOfTurns, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maps             maps of the tournament
+     * @param players          strategies of the players
+     * @param numberOfGames    number of games to be played on each map
+     * @param maxNumberOfTurns max number of turns of each game
+     * @param numberOfThreads  number of games that can be played at the same time
+     */
+    public TournamentController(Collection<String> maps, Collection<String> players, int numberOfGames, int maxNumberOfTurns, int numberOfThreads) {
+        this.maps = new ArrayList<>(maps);
+        this.players = new ArrayList<>(players);
+        this.numberOfGames = numberOfGames;
+        this.maxNumberOfTurns = maxNumberOfTurns;
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    /**
+     * Set the seed of the tournament. Every game gets its own seed derived from it, so a tournament with the same
+     * seed, maps and players is played again with the same results.
+     *
+     * @param seed the seed of the tournament
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Play all the games and build the results table
+     *
+     * @param output the stream that the output of the games is printed to
+     * @return the results table
+     * @throws InterruptedException when the tournament is interrupted
+     */
+    public String play(PrintStream output) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<List<Future<GameSimulator.Result>>> games = new ArrayList<>();
+            SplittableRandom seeds = seed == null ? null : new SplittableRandom(seed);
+            for (String map : maps) {
+                List<Future<GameSimulator.Result>> mapGames = new ArrayList<>();
+                for (int i = 0; i < numberOfGames; i++) {
+                    Long gameSeed = seeds == null ? null : seeds.nextLong();
+                    mapGames.add(executor.submit(() -> gameSeed == null
+                            ? simulator.play(map, players, maxNumberOfTurns)
+                            : simulator.play(map, players, maxNumberOfTurns, gameSeed)));
+                }
+                games.add(mapGames);
+            }
+
+            StringBuilder results = new StringBuilder();
+            results.append("\t\t\t");
+            for (int i = 0; i < numberOfGames; i++) {
+                results.append("Game ").append(i + 1).append("\t\t");
+            }
+            int mapNumber = 1;
+            for (List<Future<GameSimulator.Result>> mapGames : games) {
+                results.append(System.getProperty("line.separator")).append("Map ").append(mapNumber).append("\t\t");
+                int gameNumber = 1;
+                for (Future<GameSimulator.Result> game : mapGames) {
+                    String result;
+                    try {
+                        GameSimulator.Result gameResult = game.get();
+                        output.println(String.format("Map %d, Game %d (%s): %s after %d turns, seed %d", mapNumber,
+                                gameNumber, gameResult.getMap(), gameResult, gameResult.getNumberOfTurns(),
+                                gameResult.getSeed()));
+                        result = gameResult.toString();
+                    } catch (ExecutionException ex) {
+                        output.println(String.format("Map %d, Game %d: %s", mapNumber, gameNumber,
+                                ex.getCause().toString()));
+                        result = "Error";
+                    }
+                    results.append(StringUtils.rightPad(result, 10, " ")).append("\t");
+                    gameNumber++;
+                }
+                mapNumber++;
+            }
+            return results.toString();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.CommandResultModel;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.io.GameJournal;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,9 +13,21 @@ import java.util.List;
  */
 public abstract class AbstractCommand implements Command {
 
+    /**
+     * The game that this command is executed on
+     */
+    protected final GameContext context;
+
     protected final List<String> phaseLogList = new ArrayList<>();
     protected final List<String> resultList = new ArrayList<>();
 
+    /**
+     * @param context the game that this command is executed on
+     */
+    protected AbstractCommand(GameContext context) {
+        this.context = context;
+    }
+
     /**
      * Clear all things
      */
@@ -38,30 +49,34 @@ public abstract class AbstractCommand implements Command {
     @Override
     public final void execute(List<String> inputCommandParts) {
         clear();
-        if (!PhaseModel.getInstance().isValidCommand(getCommandType())) {
+        if (!context.getPhaseModel().isValidCommand(getCommandType())) {
             StringBuilder sb = new StringBuilder();
             sb.append("Invalid Command! Only below mentioned commands are valid at this phase.").append(System.getProperty("line.separator"));
-            sb.append("[").append(PhaseModel.getInstance().getValidCommands()).append("]");
-            CommandResultModel.getInstance().addResult(sb.toString());
+            sb.append("[").append(context.getPhaseModel().getValidCommands()).append("]");
+            context.getCommandResultModel().addResult(sb.toString());
             return;
         } else if (inputCommandParts.size() < getCommandType().getMinNumberOfParts()) {
             StringBuilder sb = new StringBuilder();
             sb.append("Invalid \"").append(getCommandType().getName()).append("\" Command! ").append(getCommandHelpMessage());
-            CommandResultModel.getInstance().addResult(sb.toString());
+            context.getCommandResultModel().addResult(sb.toString());
             return;
         } else {
             try {
                 runCommand(inputCommandParts);
-                PlayersModel.getInstance().update();
-                PhaseModel.getInstance().addPhaseLogs(phaseLogList);
-                resultList.addAll(PhaseModel.getInstance().changePhase());
-                CommandResultModel.getInstance().addResultList(resultList);
+                GameJournal.RecordType recordType = getJournalRecordType();
+                if (recordType != null) {
+                    context.journal(recordType);
+                }
+                context.getPlayersModel().update();
+                context.getPhaseModel().addPhaseLogs(phaseLogList);
+                resultList.addAll(context.getPhaseModel().changePhase());
+                context.getCommandResultModel().addResultList(resultList);
             } catch (ValidationException ex) {
-                CommandResultModel.getInstance().addResultList(ex.getValidationErrors());
+                context.getCommandResultModel().addResultList(ex.getValidationErrors());
             } catch (Exception ex) {
                 StringBuilder sb = new StringBuilder();
                 sb.append("Invalid Command! ").append(getCommandHelpMessage());
-                CommandResultModel.getInstance().addResult(sb.toString());
+                context.getCommandResultModel().addResult(sb.toString());
                 return;
             }
         }
@@ -83,6 +98,35 @@ public abstract class AbstractCommand implements Command {
      */
     protected abstract CommandType getCommandType();
 
+    /**
+     * @return the type of the journal record of this command, null if the command does not change the game
+     */
+    private GameJournal.RecordType getJournalRecordType() {
+        switch (getCommandType()) {
+            case PLACE_ARMY:
+            case PLACE_ALL:
+                return GameJournal.RecordType.PLACE_ARMY;
+            case REINFORCE:
+                return GameJournal.RecordType.REINFORCE;
+            case ATTACK:
+            case DEFEND:
+                return GameJournal.RecordType.ATTACK;
+            case ATTACK_MOVE:
+                return GameJournal.RecordType.ATTACK_MOVE;
+            case FORTIFY:
+                return GameJournal.RecordType.FORTIFY;
+            case EXCHANGE_CARDS:
+                return GameJournal.RecordType.CARD_EXCHANGE;
+            case LOAD_MAP:
+            case LOAD_GAME:
+            case GAME_PLAYER:
+            case POPULATE_COUNTRIES:
+                return GameJournal.RecordType.SETUP;
+            default:
+                return null;
+        }
+    }
+
     /**
      * @return true if the command has minimum number of parameters defined
      */
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -14,6 +14,13 @@ public class AttackCommand extends AbstractCommand {
 	 */
     public final static String COMMAND_HELP_MSG = "A valid \"attack\" command format is: \"attack fromcountry tocountry numdice\", or \"attack fromcountry tocountry -allout\" or \"attack -noattack\".";
 
+    /**
+     * @param context the game that this command is executed on
+     */
+    public AttackCommand(GameContext context) {
+        super(context);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -42,7 +49,7 @@ public class AttackCommand extends AbstractCommand {
                 }
             }
         }
-        phaseLogList.addAll(PlayersModel.getInstance().getCurrentPlayer().attack(countryNameFrom, countyNameTo, numberOfDices, isAllOut, isNoAttack));
+        phaseLogList.addAll(context.getPlayersModel().getCurrentPlayer().attack(countryNameFrom, countyNameTo, numberOfDices, isAllOut, isNoAttack));
     }
 
     /**
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.util.List;
@@ -17,6 +17,13 @@ public class AttackMoveCommand extends AbstractCommand {
 	 */
 	public static final String COMMAND_HELP_MSG = "A valid \"attackmove\" command format is \"attackmove num\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public AttackMoveCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -29,7 +36,7 @@ public class AttackMoveCommand extends AbstractCommand {
 					throw new NumberFormatException();
 				}
 
-				Player player = PhaseModel.getInstance().getCurrentPlayer();
+				Player player = context.getPhaseModel().getCurrentPlayer();
 				phaseLogList.add(player.attackMove(numOfArmiesToMove));
 
 			} catch (NumberFormatException ex) {
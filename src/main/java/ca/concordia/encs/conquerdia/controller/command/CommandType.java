@@ -1,31 +1,36 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
+import ca.concordia.encs.conquerdia.model.GameContext;
+
+import java.util.function.Function;
+
 /**
  * Every command in the game must be declare in this Enum class and also every
  * command class must extend {@link AbstractCommand} that implement
  * {@link Command command factory}.
  */
 public enum CommandType {
-	EDIT_CONTINENT("editcontinent", new EditContinentCommand(), 3),
-	EDIT_COUNTRY("editcountry", new EditCountryCommand(), 3),
-	EDIT_MAP("editmap", new EditMapCommand(), 2),
-	EDIT_NEIGHBOR("editneighbor", new EditNeighborCommand(), 4),
-	SHOW_MAP("showmap", new ShowMapCommand(), 1),
-	SAVE_MAP("savemap", new SaveMapCommand(), 2),
-	VALIDATE_MAP("validatemap", new ValidateMapCommand(), 1),
-	LOAD_MAP("loadmap", new LoadMapCommand(), 2),
-	GAME_PLAYER("gameplayer", new GamePlayerCommand(), 3),
-	POPULATE_COUNTRIES("populatecountries", new PopulateCountriesCommand(), 1),
-	PLACE_ARMY("placearmy", new PlaceArmyCommand(), 2),
-	PLACE_ALL("placeall", new PlaceAllCommand(), 1),
-	REINFORCE("reinforce", new ReinforceCommand(), 3),
-	FORTIFY("fortify", new FortifyCommand(), 2),
-	ATTACK("attack", new AttackCommand(), 2),
-	DEFEND("defend", new DefendCommand(), 2),
-	ATTACK_MOVE("attackmove", new AttackMoveCommand(), 2),
-	EXCHANGE_CARDS("exchangecards", new ExchangeCardsCommand(), 2),
-	LOAD_GAME("loadgame", new LoadGameCommand(), 2),
-	SAVE_GAME("savegame", new SaveGameCommand(), 2),
+	EDIT_CONTINENT("editcontinent", EditContinentCommand::new, 3),
+	EDIT_COUNTRY("editcountry", EditCountryCommand::new, 3),
+	EDIT_MAP("editmap", EditMapCommand::new, 2),
+	EDIT_NEIGHBOR("editneighbor", EditNeighborCommand::new, 4),
+	SHOW_MAP("showmap", ShowMapCommand::new, 1),
+	SAVE_MAP("savemap", SaveMapCommand::new, 2),
+	VALIDATE_MAP("validatemap", ValidateMapCommand::new, 1),
+	GENERATE_MAP("generatemap", GenerateMapCommand::new, 5),
+	LOAD_MAP("loadmap", LoadMapCommand::new, 2),
+	GAME_PLAYER("gameplayer", GamePlayerCommand::new, 3),
+	POPULATE_COUNTRIES("populatecountries", PopulateCountriesCommand::new, 1),
+	PLACE_ARMY("placearmy", PlaceArmyCommand::new, 2),
+	PLACE_ALL("placeall", PlaceAllCommand::new, 1),
+	REINFORCE("reinforce", ReinforceCommand::new, 3),
+	FORTIFY("fortify", FortifyCommand::new, 2),
+	ATTACK("attack", AttackCommand::new, 2),
+	DEFEND("defend", DefendCommand::new, 2),
+	ATTACK_MOVE("attackmove", AttackMoveCommand::new, 2),
+	EXCHANGE_CARDS("exchangecards", ExchangeCardsCommand::new, 2),
+	LOAD_GAME("loadgame", LoadGameCommand::new, 2),
+	SAVE_GAME("savegame", SaveGameCommand::new, 2),
 	;
 
 	/**
@@ -34,9 +39,10 @@ public enum CommandType {
 	private final String name;
 
 	/**
-	 * Command object
+	 * Factory of the command object for a game. Commands keep per-execution
+	 * state, so every execution gets its own instance.
 	 */
-	private final Command command;
+	private final Function<GameContext, Command> command;
 
 	/**
 	 * Number of parts needed to execute the comand
@@ -48,7 +54,7 @@ public enum CommandType {
 	 *                must pass to the game.
 	 * @param command The implementation of the factory for the command
 	 */
-	CommandType(String name, Command command, int minNumberOfParts) {
+	CommandType(String name, Function<GameContext, Command> command, int minNumberOfParts) {
 		this.name = name;
 		this.command = command;
 		this.minNumberOfParts = minNumberOfParts;
@@ -68,10 +74,11 @@ public enum CommandType {
 	}
 
 	/**
-	 * @return return the Implementation of the factory
+	 * @param context the game that the command is executed on
+	 * @return return a new instance of the Implementation of the factory
 	 */
-	public Command getCommand() {
-		return command;
+	public Command getCommand(GameContext context) {
+		return command.apply(context);
 	}
 
 	/**
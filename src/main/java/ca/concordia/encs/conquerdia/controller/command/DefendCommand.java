@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.util.List;
@@ -15,6 +15,13 @@ public class DefendCommand extends AbstractCommand {
 	 */
 	public static final String COMMAND_HELP_MSG = "A valid \"defend\" command format is \"defend numdice\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public DefendCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * Validates and executes the defend command with the input params.
 	 */
@@ -27,7 +34,7 @@ public class DefendCommand extends AbstractCommand {
 					throw new NumberFormatException();
 				}
 
-				Player defender = PhaseModel.getInstance().getCurrentPlayer();
+				Player defender = context.getPhaseModel().getCurrentPlayer();
 				phaseLogList.addAll(defender.defend(numDice));
 
 			} catch (NumberFormatException ex) {
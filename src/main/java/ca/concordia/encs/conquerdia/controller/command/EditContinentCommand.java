@@ -1,8 +1,8 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Continent;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 import java.util.Iterator;
 import java.util.List;
@@ -17,6 +17,13 @@ public class EditContinentCommand extends AbstractCommand {
 	 */
 	public final static String COMMAND_HELP_MSG = "The \"editcontinent\" command must has at least one option like \"-add\" or \"-remove\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public EditContinentCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * @return command type
 	 */
@@ -47,7 +54,7 @@ public class EditContinentCommand extends AbstractCommand {
 				String continentName = iterator.next();
 				String continentValue = iterator.next();
 				try {
-					WorldMap.getInstance().addContinent(continentName, Integer.valueOf(continentValue));
+					context.getWorldMap().addContinent(continentName, Integer.valueOf(continentValue));
 					phaseLogList.add(String.format("Continent with name \"%s\" and value \"%s\" is added to map",
 							continentName, continentValue));
 				} catch (ValidationException ex) {
@@ -60,7 +67,7 @@ public class EditContinentCommand extends AbstractCommand {
 			case "-remove": {
 				try {
 					String continentName = iterator.next();
-					Continent continent = WorldMap.getInstance().removeContinent(continentName);
+					Continent continent = context.getWorldMap().removeContinent(continentName);
 					phaseLogList.add(String.format("Continent with name \"%s\" is removed.", continentName));
 				} catch (ValidationException ex) {
 					resultList.addAll(ex.getValidationErrors());
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.Iterator;
 import java.util.List;
@@ -15,6 +15,13 @@ public class EditCountryCommand extends AbstractCommand {
 	 */
 	public final static String COMMAND_HELP_MSG = "Invalid input! The \"editcountry\" command must has at least one option like \"-add\" or \"-remove\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public EditCountryCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -45,7 +52,7 @@ public class EditCountryCommand extends AbstractCommand {
 				String countryName = iterator.next();
 				String continentName = iterator.next();
 				try {
-					WorldMap.getInstance().addCountry(countryName, continentName);
+					context.getWorldMap().addCountry(countryName, continentName);
 					phaseLogList.add(
 							String.format("Country with name \"%s\" is added to \"%s\"", countryName, continentName));
 				} catch (ValidationException ex) {
@@ -56,7 +63,7 @@ public class EditCountryCommand extends AbstractCommand {
 			case "-remove": {
 				try {
 					String countryName = iterator.next();
-					WorldMap.getInstance().removeCountry(countryName);
+					context.getWorldMap().removeCountry(countryName);
 					phaseLogList.add(String.format("Country with name \"%s\" is successfully removed from World Map",
 							countryName));
 				} catch (ValidationException ex) {
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -14,6 +14,13 @@ public class EditMapCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "A valid \"editmap\" command is something like \"editmap filename\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public EditMapCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -36,11 +43,11 @@ public class EditMapCommand extends AbstractCommand {
 	@Override
 	public void runCommand(List<String> inputCommandParts) throws ValidationException {
 		String fileName = inputCommandParts.get(1);
-		WorldMap.getInstance().editMap(fileName);
-		if (!WorldMap.getInstance().isReadyForEdit()) {
+		context.getWorldMap().editMap(fileName);
+		if (!context.getWorldMap().isReadyForEdit()) {
 			throw new ValidationException("Map is not loaded successfully!");
 		}
-		if (WorldMap.getInstance().isNewMapFromScratch()) {
+		if (context.getWorldMap().isNewMapFromScratch()) {
 			phaseLogList.add("A new map from scratch is loaded to edit.");
 		} else {
 			phaseLogList.add(String.format("Map with file name \"%s\" is loaded to edit", fileName));
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.Iterator;
 import java.util.List;
@@ -15,6 +15,13 @@ public class EditNeighborCommand extends AbstractCommand {
 	 */
 	public final static String COMMAND_HELP_MSG = "Invalid input! The \"editneighbor\" command must has at least one option like \"-add\" or \"-remove\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public EditNeighborCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -45,7 +52,7 @@ public class EditNeighborCommand extends AbstractCommand {
 			switch (option) {
 			case ("-add"): {
 				try {
-					WorldMap.getInstance().addNeighbour(firstCountryName, secondCountryName);
+					context.getWorldMap().addNeighbour(firstCountryName, secondCountryName);
 					phaseLogList.add(String.format("a country adjacency between \"%s\" and \"%s\" is added.",
 							firstCountryName, secondCountryName));
 				} catch (ValidationException ex) {
@@ -55,7 +62,7 @@ public class EditNeighborCommand extends AbstractCommand {
 			}
 			case "-remove": {
 				try {
-					WorldMap.getInstance().removeNeighbour(firstCountryName, secondCountryName);
+					context.getWorldMap().removeNeighbour(firstCountryName, secondCountryName);
 					phaseLogList.add(String.format("a country adjacency between \"%s\" and \"%s\" is removed.",
 							firstCountryName, secondCountryName));
 				} catch (ValidationException ex) {
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -15,6 +15,13 @@ public class ExchangeCardsCommand extends AbstractCommand {
 	 */
 	public final static String COMMAND_HELP_MSG = "exchangecards num num num –none (exchange three cards from the hand, as specified by three numbers that represent the position of the exchanged cards in the player’s hand. If –none is specified, choose to not exchange cards.)";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public ExchangeCardsCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -24,7 +31,7 @@ public class ExchangeCardsCommand extends AbstractCommand {
 			return;
 		} else {
 			try {
-				phaseLogList.add(PhaseModel.getInstance().getCurrentPlayer().exchangeCard(
+				phaseLogList.add(context.getPhaseModel().getCurrentPlayer().exchangeCard(
 						Integer.valueOf(inputCommandParts.get(1)), Integer.valueOf(inputCommandParts.get(2)),
 						Integer.valueOf(inputCommandParts.get(3))));
 			} catch (NumberFormatException ex) {
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -14,6 +14,13 @@ public class FortifyCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "a valid \"fortify\" command is something like \"fortify fromcountry tocountry num\" or \"fortify none\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public FortifyCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * Type of the commands
 	 */
@@ -53,7 +60,7 @@ public class FortifyCommand extends AbstractCommand {
 				throw new ValidationException("Number of armies(latest parameter) must be an integer number.");
 			}
 		}
-		phaseLogList.add(PhaseModel.getInstance().getCurrentPlayer().fortify(fromCountryName, toCountryName,
+		phaseLogList.add(context.getPhaseModel().getCurrentPlayer().fortify(fromCountryName, toCountryName,
 				numberOfArmy, noneFortify));
 	}
 }
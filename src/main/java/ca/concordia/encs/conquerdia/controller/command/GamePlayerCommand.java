@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.Iterator;
 import java.util.List;
@@ -15,6 +15,13 @@ public class GamePlayerCommand extends AbstractCommand {
 	 */
     public final static String COMMAND_HELP_MSG = "The \"gameplayer\" command is somthing like \"gameplayer -add playername strategy -remove playername\".";
 
+    /**
+     * @param context the game that this command is executed on
+     */
+    public GamePlayerCommand(GameContext context) {
+        super(context);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -45,7 +52,7 @@ public class GamePlayerCommand extends AbstractCommand {
                 case ("-add"): {
                     try {
                         String strategy = iterator.next();
-                        PlayersModel.getInstance().addPlayer(playerName, strategy);
+                        context.getPlayersModel().addPlayer(playerName, strategy);
                         phaseLogList.add(String.format("Player with name \"%s\" and strategy \"%s\" was added.", playerName, strategy));
                     } catch (ValidationException ex) {
                         resultList.addAll(ex.getValidationErrors());
@@ -54,7 +61,7 @@ public class GamePlayerCommand extends AbstractCommand {
                 }
                 case "-remove": {
                     try {
-                        PlayersModel.getInstance().removePlayer(playerName);
+                        context.getPlayersModel().removePlayer(playerName);
                         phaseLogList.add(String.format("Player with name \"%s\" was removed.", playerName));
                     } catch (ValidationException ex) {
                         resultList.addAll(ex.getValidationErrors());
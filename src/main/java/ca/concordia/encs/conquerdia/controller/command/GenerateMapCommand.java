@@ -0,0 +1,76 @@
+package ca.concordia.encs.conquerdia.controller.command;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.io.MapGenerator;
+
+import java.util.List;
+
+/**
+ * Generate map command handler, writes a large generated map to a map file without loading it
+ */
+public class GenerateMapCommand extends AbstractCommand {
+	/**
+	 * Helper message for the command
+	 */
+	private static final String COMMAND_HELP_MSG = "A valid \"generatemap\" command is something like \"generatemap filename numberofcountries numberofcontinents planar|grid|scalefree [seed] [-conquest]\".";
+
+	/**
+	 * Option to write a Conquest map instead of a Domination map
+	 */
+	private static final String CONQUEST_OPTION = "-conquest";
+
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public GenerateMapCommand(GameContext context) {
+		super(context);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected CommandType getCommandType() {
+		return CommandType.GENERATE_MAP;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getCommandHelpMessage() {
+		return COMMAND_HELP_MSG;
+	}
+
+	/**
+	 * @param inputCommandParts the command line parameters.
+	 */
+	@Override
+	public void runCommand(List<String> inputCommandParts) throws ValidationException {
+		String fileName = inputCommandParts.get(1);
+		MapGenerator.Topology topology = MapGenerator.Topology.findTopologyByName(inputCommandParts.get(4));
+		if (topology == null) {
+			throw new ValidationException(getCommandHelpMessage());
+		}
+		boolean conquest = false;
+		MapGenerator.Builder builder;
+		try {
+			builder = new MapGenerator.Builder(Integer.parseInt(inputCommandParts.get(2)),
+					Integer.parseInt(inputCommandParts.get(3))).setTopology(topology);
+			for (String option : inputCommandParts.subList(5, inputCommandParts.size())) {
+				if (option.equals(CONQUEST_OPTION)) {
+					conquest = true;
+				} else {
+					builder.setSeed(Long.parseLong(option));
+				}
+			}
+		} catch (NumberFormatException ex) {
+			throw new ValidationException("Invalid input! " + getCommandHelpMessage());
+		}
+		MapGenerator generator = builder.build();
+		generator.write(fileName, conquest);
+		phaseLogList.add(String.format("Map with file name \"%s\" has been generated with the seed %d", fileName,
+				generator.getSeed()));
+	}
+}
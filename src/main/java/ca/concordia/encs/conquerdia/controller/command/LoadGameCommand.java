@@ -3,6 +3,7 @@ package ca.concordia.encs.conquerdia.controller.command;
 import java.util.List;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.io.GameIO;
 
 /**
@@ -14,6 +15,13 @@ public class LoadGameCommand extends AbstractCommand {
 	 */
 	public static final String COMMAND_HELP_MSG = "A valid \"loadgame\" command format is \"loadgame filename\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public LoadGameCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * Validates and executes the loadgame command with the input params.
 	 * @throws ValidationException 
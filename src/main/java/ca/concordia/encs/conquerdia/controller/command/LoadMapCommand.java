@@ -1,6 +1,6 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -11,6 +11,13 @@ public class LoadMapCommand extends AbstractCommand {
 
     private static final String COMMAND_HELP_MSG = "Invalid loadmap command. a valid loadmap command is something like \"loadmap filename\".";
 
+    /**
+     * @param context the game that this command is executed on
+     */
+    public LoadMapCommand(GameContext context) {
+        super(context);
+    }
+
     /**
      * @return
      */
@@ -32,6 +39,6 @@ public class LoadMapCommand extends AbstractCommand {
      */
     @Override
     public void runCommand(List<String> inputCommandParts) {
-        phaseLogList.add(WorldMap.getInstance().loadMap(inputCommandParts.get(1)));
+        phaseLogList.add(context.getWorldMap().loadMap(inputCommandParts.get(1)));
     }
 }
\ No newline at end of file
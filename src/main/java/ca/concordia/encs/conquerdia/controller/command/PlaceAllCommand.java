@@ -1,15 +1,22 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
 import ca.concordia.encs.conquerdia.model.player.Player;
+import ca.concordia.encs.conquerdia.util.RandomSource;
 
-import java.security.SecureRandom;
 import java.util.List;
 import java.util.Set;
 
 public class PlaceAllCommand extends AbstractCommand {
+    /**
+     * @param context the game that this command is executed on
+     */
+    public PlaceAllCommand(GameContext context) {
+        super(context);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -31,14 +38,14 @@ public class PlaceAllCommand extends AbstractCommand {
      */
     @Override
     public void runCommand(List<String> inputCommandParts) throws ValidationException {
-        PhaseModel phaseModel = PhaseModel.getInstance();
+        PhaseModel phaseModel = context.getPhaseModel();
         if (!phaseModel.isAllCountriesArePopulated()) {
             throw new ValidationException("Before this command you must run \"populatecountries\" command!");
         }
 
-        SecureRandom randomNumber = new SecureRandom();
+        RandomSource randomNumber = context.getRandom();
 
-        while (PlayersModel.getInstance().isThereAnyUnplacedArmy()) {
+        while (context.getPlayersModel().isThereAnyUnplacedArmy()) {
             Player currentPlayer = phaseModel.getCurrentPlayer();
             if (currentPlayer.getUnplacedArmies() > 0) {
                 Set<String> countryNames = currentPlayer.getCountryNames();
@@ -48,7 +55,7 @@ public class PlaceAllCommand extends AbstractCommand {
                 phaseModel.getCurrentPlayer().placeArmy(countryName);
                 phaseLogList.add(String.format("%s placed one army to %s", currentPlayer.getName(), countryName));
             }
-            PlayersModel.getInstance().giveTurnToAnotherPlayer();
+            context.getPlayersModel().giveTurnToAnotherPlayer();
         }
     }
 
@@ -1,8 +1,8 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.util.List;
@@ -16,6 +16,13 @@ public class PlaceArmyCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "A valid \"placearmy\" command is something like \"placearmy countryname\".";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public PlaceArmyCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -37,7 +44,7 @@ public class PlaceArmyCommand extends AbstractCommand {
 	 */
 	@Override
 	public void runCommand(List<String> inputCommandParts) throws ValidationException {
-		PhaseModel phaseModel = PhaseModel.getInstance();
+		PhaseModel phaseModel = context.getPhaseModel();
 		if (!phaseModel.isAllCountriesArePopulated()) {
 			throw new ValidationException("Before this command you must run \"populatecountries\" command!");
 		}
@@ -45,10 +52,6 @@ public class PlaceArmyCommand extends AbstractCommand {
 		Player currentPlayer = phaseModel.getCurrentPlayer();
 
 		phaseLogList.add(currentPlayer.placeArmy(countryName));
-		PlayersModel.getInstance().giveTurnToAnotherPlayer();
-		while (PlayersModel.getInstance().isThereAnyUnplacedArmy()
-				&& PlayersModel.getInstance().getCurrentPlayer().getUnplacedArmies() <= 0) {
-			PlayersModel.getInstance().giveTurnToAnotherPlayer();
-		}
+		context.getPlayersModel().giveTurnToPlayerWithUnplacedArmies();
 	}
 }
\ No newline at end of file
@@ -1,9 +1,8 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 import java.util.List;
 
@@ -16,6 +15,13 @@ public class PopulateCountriesCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public PopulateCountriesCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -37,11 +43,11 @@ public class PopulateCountriesCommand extends AbstractCommand {
 	 */
 	@Override
 	public void runCommand(List<String> inputCommandParts) throws ValidationException {
-		PhaseModel phaseModel = PhaseModel.getInstance();
+		PhaseModel phaseModel = context.getPhaseModel();
 		phaseModel.populateCountries();
 		phaseLogList.add(
 				String.format("All %d countries are populated and each of %d players are allocated %d initial armies.",
-						WorldMap.getInstance().getCountries().size(), PlayersModel.getInstance().getNumberOfPlayers(),
+						context.getWorldMap().getNumberOfCountries(), context.getPlayersModel().getNumberOfPlayers(),
 						phaseModel.getNumberOfInitialArmies()));
 	}
 }
\ No newline at end of file
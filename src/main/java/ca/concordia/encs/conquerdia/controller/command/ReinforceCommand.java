@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.util.List;
@@ -15,6 +15,13 @@ public class ReinforceCommand extends AbstractCommand {
 	 */
 	public final static String COMMAND_HELP_MSG = "The \"reinforce\" command must has at least two parameter, first one is countryname and second one is number of armies.";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public ReinforceCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -39,7 +46,7 @@ public class ReinforceCommand extends AbstractCommand {
 		try {
 			String countryName = inputCommandParts.get(1);
 			int numberOfArmy = Integer.valueOf(inputCommandParts.get(2));
-			Player currentPlayer = PhaseModel.getInstance().getCurrentPlayer();
+			Player currentPlayer = context.getPhaseModel().getCurrentPlayer();
 			phaseLogList.add(currentPlayer.reinforce(countryName, numberOfArmy));
 		} catch (NumberFormatException ex) {
 			throw new ValidationException("Number of armies(latest parameter) must be an integer number.");
@@ -3,6 +3,7 @@ package ca.concordia.encs.conquerdia.controller.command;
 import java.util.List;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.io.GameIO;
 
 /**
@@ -12,7 +13,19 @@ public class SaveGameCommand extends AbstractCommand {
 	/**
 	 * Helper message for the user
 	 */
-	public static final String COMMAND_HELP_MSG = "A valid \"savegame\" command format is \"savegame filename\".";
+	public static final String COMMAND_HELP_MSG = "A valid \"savegame\" command format is \"savegame filename [-binary]\".";
+
+	/**
+	 * Option to save the game in the compact binary format instead of the text format
+	 */
+	private static final String BINARY_OPTION = "-binary";
+
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public SaveGameCommand(GameContext context) {
+		super(context);
+	}
 
 	/**
 	 * Validates and executes the savegame command with the input params.
@@ -20,11 +33,12 @@ public class SaveGameCommand extends AbstractCommand {
 	 */
 	@Override
 	protected void runCommand(List<String> inputCommandParts) throws ValidationException{
-		if ( inputCommandParts.size() == 2) {
+		boolean binary = inputCommandParts.size() == 3 && inputCommandParts.get(2).equals(BINARY_OPTION);
+		if ( inputCommandParts.size() == 2 || binary) {
 			String fileName = inputCommandParts.get(1);
 			try {
 				GameIO gameIO = new GameIO();
-				resultList.add(gameIO.saveGame(fileName));
+				resultList.add(binary ? gameIO.saveGameSnapshot(fileName) : gameIO.saveGame(fileName));
 			} catch (Exception e) {
 				throw new ValidationException(e.getMessage());
 			}
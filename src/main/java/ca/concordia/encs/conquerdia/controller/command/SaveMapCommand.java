@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -12,7 +12,19 @@ public class SaveMapCommand extends AbstractCommand {
 	/**
 	 * Helper message for the command
 	 */
-	private static final String COMMAND_HELP_MSG = "Invalid \"savemap\" command. a valid \"savemap\" command is something like \"savemap filename\".";
+	private static final String COMMAND_HELP_MSG = "Invalid \"savemap\" command. a valid \"savemap\" command is something like \"savemap filename [-binary]\".";
+
+	/**
+	 * Option to also save the compiled binary form of the map
+	 */
+	private static final String BINARY_OPTION = "-binary";
+
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public SaveMapCommand(GameContext context) {
+		super(context);
+	}
 
 	/**
 	 * {@inheritDoc}
@@ -35,8 +47,12 @@ public class SaveMapCommand extends AbstractCommand {
 	 */
 	@Override
 	public void runCommand(List<String> inputCommandParts) throws ValidationException {
+		boolean binary = inputCommandParts.size() == 3 && inputCommandParts.get(2).equals(BINARY_OPTION);
+		if (inputCommandParts.size() != 2 && !binary) {
+			throw new ValidationException(getCommandHelpMessage());
+		}
 		String fileName = inputCommandParts.get(1);
-		WorldMap.getInstance().saveMap(fileName);
+		context.getWorldMap().saveMap(fileName, binary);
 		phaseLogList.add(String.format("Map with file name \"%s\" has been saved successfully", fileName));
 	}
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.io.GameIO;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 import java.util.List;
 
@@ -14,6 +14,13 @@ public class ShowMapCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public ShowMapCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -35,7 +42,7 @@ public class ShowMapCommand extends AbstractCommand {
 	 */
 	@Override
 	public void runCommand(List<String> inputCommandParts) {
-		resultList.add(WorldMap.getInstance().showMap());
+		resultList.add(context.getWorldMap().showMap());
 	}
 
 }
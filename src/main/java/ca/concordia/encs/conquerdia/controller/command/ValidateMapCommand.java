@@ -1,6 +1,6 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 import java.util.List;
 
@@ -13,6 +13,13 @@ public class ValidateMapCommand extends AbstractCommand {
 	 */
 	private static final String COMMAND_HELP_MSG = "";
 
+	/**
+	 * @param context the game that this command is executed on
+	 */
+	public ValidateMapCommand(GameContext context) {
+		super(context);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -34,7 +41,7 @@ public class ValidateMapCommand extends AbstractCommand {
 	 */
 	@Override
 	public void runCommand(List<String> inputCommandParts) {
-		phaseLogList.add(WorldMap.getInstance().validateMap());
+		phaseLogList.add(context.getWorldMap().validateMap());
 	}
 
 }
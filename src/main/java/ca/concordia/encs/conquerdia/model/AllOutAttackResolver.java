@@ -0,0 +1,347 @@
+package ca.concordia.encs.conquerdia.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves an all out attack in one step instead of rolling the dice round by round.
+ * <p>
+ * An all out attack is a Markov chain over the number of armies of the attacking and the defending countries. The
+ * probability of every outcome of one round only depends on the number of dice of both sides, so it is computed
+ * once by enumerating all the faces of the dice. From these tables the probability of every final state of an
+ * attack that starts with <code>A</code> attacking and <code>D</code> defending armies is computed in
+ * <code>O(A * D)</code>, and a final state is sampled with a single random number. The final states have exactly
+ * the same distribution as the ones reached by {@link Battle#simulateBattle()} round by round.
+ * <p>
+ * The distribution of each pair of army counts is cached, only the attacks where both sides have at most
+ * {@link #getMaxNumberOfArmies()} armies are resolved by this class. A resolver does not hold any state of a game,
+ * so it can be shared by all the games of a process.
+ */
+public class AllOutAttackResolver {
+    /**
+     * The default max number of armies of each side of the attacks that are resolved in one step
+     */
+    public static final int DEFAULT_MAX_NUMBER_OF_ARMIES = 128;
+
+    /**
+     * ROUND_LOSS_PROBABILITIES[a][d][k] is the probability that the attacker loses k armies in a round where the
+     * attacker rolls a dice and the defender rolls d dice
+     */
+    private static final double[][][] ROUND_LOSS_PROBABILITIES = computeRoundLossProbabilities();
+
+    /**
+     * The distributions that are already computed, by pair of army counts
+     */
+    private final ConcurrentHashMap<Long, Outcomes> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Max number of armies of each side of the attacks that are resolved in one step
+     */
+    private final int maxNumberOfArmies;
+
+    /**
+     * Create a resolver with the default cap
+     */
+    public AllOutAttackResolver() {
+        this(DEFAULT_MAX_NUMBER_OF_ARMIES);
+    }
+
+    /**
+     * @param maxNumberOfArmies max number of armies of each side of the attacks that are resolved in one step, the
+     *                          memory used by the cache grows roughly with its cube, as every pair of army
+     *                          counts up to it can be cached with a number of final states that grows with the armies
+     */
+    public AllOutAttackResolver(int maxNumberOfArmies) {
+        this.maxNumberOfArmies = maxNumberOfArmies;
+    }
+
+    /**
+     * @return max number of armies of each side of the attacks that are resolved in one step
+     */
+    public int getMaxNumberOfArmies() {
+        return maxNumberOfArmies;
+    }
+
+    /**
+     * @param attackingArmies number of armies in the attacking country
+     * @param defendingArmies number of armies in the defending country
+     * @return true if this resolver can resolve the attack
+     */
+    public boolean canResolve(int attackingArmies, int defendingArmies) {
+        return attackingArmies >= 2 && defendingArmies >= 1
+                && attackingArmies <= maxNumberOfArmies && defendingArmies <= maxNumberOfArmies;
+    }
+
+    /**
+     * Sample the final state of an all out attack
+     *
+     * @param attackingArmies number of armies in the attacking country, at least 2
+     * @param defendingArmies number of armies in the defending country, at least 1
+     * @param diceRoller      the source of randomness of the game
+     * @return the final state
+     */
+    public Result resolve(int attackingArmies, int defendingArmies, DiceRoller diceRoller) {
+        Outcomes outcomes = getOutcomes(attackingArmies, defendingArmies);
+        int index = Arrays.binarySearch(outcomes.cumulativeProbabilities, diceRoller.nextProbability());
+        // the first final state whose cumulative probability is greater than the random number
+        index = index < 0 ? -index - 1 : index + 1;
+        index = Math.min(index, outcomes.results.length - 1);
+        return outcomes.results[index];
+    }
+
+    /**
+     * @param attackingArmies number of armies in the attacking country, at least 2
+     * @param defendingArmies number of armies in the defending country, at least 1
+     * @return the probability that the attacker conquers the defending country
+     */
+    public double getConquestProbability(int attackingArmies, int defendingArmies) {
+        Outcomes outcomes = getOutcomes(attackingArmies, defendingArmies);
+        double probability = 0;
+        double previous = 0;
+        for (int i = 0; i < outcomes.results.length; i++) {
+            if (outcomes.results[i].isConquered()) {
+                probability += outcomes.cumulativeProbabilities[i] - previous;
+            }
+            previous = outcomes.cumulativeProbabilities[i];
+        }
+        return probability;
+    }
+
+    /**
+     * @param attackingArmies number of armies in the attacking country
+     * @param defendingArmies number of armies in the defending country
+     * @return the distribution of the final states, from the cache when possible
+     */
+    private Outcomes getOutcomes(int attackingArmies, int defendingArmies) {
+        if (!canResolve(attackingArmies, defendingArmies)) {
+            throw new IllegalArgumentException(String.format("Cannot resolve an all out attack of %d on %d armies.",
+                    attackingArmies, defendingArmies));
+        }
+        long key = ((long) attackingArmies << 32) | defendingArmies;
+        return cache.computeIfAbsent(key, k -> computeOutcomes(attackingArmies, defendingArmies));
+    }
+
+    /**
+     * Compute the distribution of the final states of an all out attack
+     *
+     * @param attackingArmies number of armies in the attacking country
+     * @param defendingArmies number of armies in the defending country
+     * @return the distribution of the final states
+     */
+    private static Outcomes computeOutcomes(int attackingArmies, int defendingArmies) {
+        // probability of each state (i attacking armies, j defending armies) before a round
+        double[][] states = new double[attackingArmies + 1][defendingArmies + 1];
+        // conquered[i][a][d]: the attack ends with i attacking armies after a last round with a and d dice
+        double[][][] conquered = new double[attackingArmies + 1][4][3];
+        // lost[j]: the attack ends with the attacker having one army and j defending armies
+        double[] lost = new double[defendingArmies + 1];
+        states[attackingArmies][defendingArmies] = 1;
+
+        // every round removes at least one army, so the states are reached in decreasing order of both counts
+        for (int i = attackingArmies; i >= 2; i--) {
+            for (int j = defendingArmies; j >= 1; j--) {
+                double probability = states[i][j];
+                if (probability == 0)
+                    continue;
+                int attackerDice = Math.min(i - 1, 3);
+                int defenderDice = Math.min(j, 2);
+                int comparedDice = Math.min(attackerDice, defenderDice);
+                for (int attackerLosses = 0; attackerLosses <= comparedDice; attackerLosses++) {
+                    double next = probability * ROUND_LOSS_PROBABILITIES[attackerDice][defenderDice][attackerLosses];
+                    if (next == 0)
+                        continue;
+                    int nextAttackingArmies = i - attackerLosses;
+                    int nextDefendingArmies = j - (comparedDice - attackerLosses);
+                    if (nextDefendingArmies == 0) {
+                        conquered[nextAttackingArmies][attackerDice][defenderDice] += next;
+                    } else if (nextAttackingArmies < 2) {
+                        lost[nextDefendingArmies] += next;
+                    } else {
+                        states[nextAttackingArmies][nextDefendingArmies] += next;
+                    }
+                }
+            }
+        }
+
+        Outcomes outcomes = new Outcomes(attackingArmies * 6 + defendingArmies);
+        for (int i = 1; i <= attackingArmies; i++) {
+            for (int attackerDice = 1; attackerDice <= 3; attackerDice++) {
+                for (int defenderDice = 1; defenderDice <= 2; defenderDice++) {
+                    outcomes.add(new Result(i, 0, attackerDice, defenderDice), conquered[i][attackerDice][defenderDice]);
+                }
+            }
+        }
+        for (int j = 1; j <= defendingArmies; j++) {
+            outcomes.add(new Result(1, j, 0, Math.min(j, 2)), lost[j]);
+        }
+        return outcomes.trim();
+    }
+
+    /**
+     * Enumerate all the faces of the dice of one round
+     *
+     * @return the probability of each number of attacker losses, by number of attacker and defender dice
+     */
+    private static double[][][] computeRoundLossProbabilities() {
+        double[][][] probabilities = new double[4][3][];
+        for (int attackerDice = 1; attackerDice <= 3; attackerDice++) {
+            for (int defenderDice = 1; defenderDice <= 2; defenderDice++) {
+                int comparedDice = Math.min(attackerDice, defenderDice);
+                int[] counts = new int[comparedDice + 1];
+                int numberOfRolls = 1;
+                for (int i = 0; i < attackerDice + defenderDice; i++) {
+                    numberOfRolls *= DiceRoller.NUMBER_OF_FACES;
+                }
+                int[] attackerRoll = new int[attackerDice];
+                int[] defenderRoll = new int[defenderDice];
+                for (int roll = 0; roll < numberOfRolls; roll++) {
+                    int rest = roll;
+                    for (int i = 0; i < attackerDice; i++) {
+                        attackerRoll[i] = rest % DiceRoller.NUMBER_OF_FACES;
+                        rest /= DiceRoller.NUMBER_OF_FACES;
+                    }
+                    for (int i = 0; i < defenderDice; i++) {
+                        defenderRoll[i] = rest % DiceRoller.NUMBER_OF_FACES;
+                        rest /= DiceRoller.NUMBER_OF_FACES;
+                    }
+                    Arrays.sort(attackerRoll);
+                    Arrays.sort(defenderRoll);
+                    int attackerLosses = 0;
+                    for (int i = 1; i <= comparedDice; i++) {
+                        if (defenderRoll[defenderDice - i] >= attackerRoll[attackerDice - i]) {
+                            attackerLosses++;
+                        }
+                    }
+                    counts[attackerLosses]++;
+                }
+                probabilities[attackerDice][defenderDice] = new double[comparedDice + 1];
+                for (int k = 0; k <= comparedDice; k++) {
+                    probabilities[attackerDice][defenderDice][k] = (double) counts[k] / numberOfRolls;
+                }
+            }
+        }
+        return probabilities;
+    }
+
+    /**
+     * The final state of an all out attack
+     */
+    public static class Result {
+        /**
+         * Number of armies left in the attacking country
+         */
+        private final int attackingArmies;
+
+        /**
+         * Number of armies left in the defending country, 0 if it is conquered
+         */
+        private final int defendingArmies;
+
+        /**
+         * Number of dice rolled by the attacker in the last round, 0 if the attacker ran out of armies
+         */
+        private final int attackerDice;
+
+        /**
+         * Number of dice rolled by the defender in the last round
+         */
+        private final int defenderDice;
+
+        /**
+         * @param attackingArmies number of armies left in the attacking country
+         * @param defendingArmies number of armies left in the defending country
+         * @param attackerDice    number of dice rolled by the attacker in the last round
+         * @param defenderDice    number of dice rolled by the defender in the last round
+         */
+        private Result(int attackingArmies, int defendingArmies, int attackerDice, int defenderDice) {
+            this.attackingArmies = attackingArmies;
+            this.defendingArmies = defendingArmies;
+            this.attackerDice = attackerDice;
+            this.defenderDice = defenderDice;
+        }
+
+        /**
+         * @return number of armies left in the attacking country
+         */
+        public int getAttackingArmies() {
+            return attackingArmies;
+        }
+
+        /**
+         * @return number of armies left in the defending country, 0 if it is conquered
+         */
+        public int getDefendingArmies() {
+            return defendingArmies;
+        }
+
+        /**
+         * @return number of dice rolled by the attacker in the last round, 0 if the attacker ran out of armies
+         */
+        public int getAttackerDice() {
+            return attackerDice;
+        }
+
+        /**
+         * @return number of dice rolled by the defender in the last round
+         */
+        public int getDefenderDice() {
+            return defenderDice;
+        }
+
+        /**
+         * @return true if the defending country is conquered
+         */
+        public boolean isConquered() {
+            return defendingArmies == 0;
+        }
+    }
+
+    /**
+     * The distribution of the final states of one pair of army counts
+     */
+    private static class Outcomes {
+        /**
+         * Final states with a probability greater than zero
+         */
+        private Result[] results;
+
+        /**
+         * cumulativeProbabilities[i] is the probability of the final states 0 to i
+         */
+        private double[] cumulativeProbabilities;
+
+        /**
+         * Number of final states added so far
+         */
+        private int size;
+
+        /**
+         * @param capacity max number of final states
+         */
+        private Outcomes(int capacity) {
+            results = new Result[capacity];
+            cumulativeProbabilities = new double[capacity];
+        }
+
+        /**
+         * @param result      a final state
+         * @param probability its probability
+         */
+        private void add(Result result, double probability) {
+            if (probability <= 0)
+                return;
+            results[size] = result;
+            cumulativeProbabilities[size] = (size == 0 ? 0 : cumulativeProbabilities[size - 1]) + probability;
+            size++;
+        }
+
+        /**
+         * @return these outcomes without the unused capacity
+         */
+        private Outcomes trim() {
+            results = Arrays.copyOf(results, size);
+            cumulativeProbabilities = Arrays.copyOf(cumulativeProbabilities, size);
+            return this;
+        }
+    }
+}
@@ -4,9 +4,6 @@ import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * Represents a battle from the attacker to the defending country.
@@ -71,7 +68,22 @@ public class Battle implements Serializable {
 	/**
 	 * A util dice roller which simulates dice rolling
 	 */
-	private DiceRoller diceRoller;
+	private transient DiceRoller diceRoller;
+
+	/**
+	 * The game that this battle belongs to
+	 */
+	private transient GameContext context;
+
+	/**
+	 * Dice of the attacker in the last round, sorted in descending order
+	 */
+	private final transient int[] attackerDiceRolled = new int[3];
+
+	/**
+	 * Dice of the defender in the last round, sorted in descending order
+	 */
+	private final transient int[] defenderDiceRolled = new int[2];
 
 	/**
 	 * Holds internal state management for battle such as whether it is the time for
@@ -88,18 +100,19 @@ public class Battle implements Serializable {
 	}
 
 	/**
-	 * The constructor of the battle class. It is assumed that a battle is created
-	 * when
-	 * an attacked command has performed
+	 * The constructor of the battle class for a given game. It is assumed that a
+	 * battle is created when an attacked command has performed
 	 *
+	 * @param context          The game that the battle belongs to
 	 * @param attackingCountry The attacker country
 	 * @param defendingCountry The country that is being attacked.
 	 */
-	public Battle(Country attackingCountry, Country defendingCountry) {
+	public Battle(GameContext context, Country attackingCountry, Country defendingCountry) {
 		state = BattleState.Attacked;
+		this.context = context;
 		this.fromCountry = attackingCountry;
 		this.toCountry = defendingCountry;
-		diceRoller = DiceRoller.getInstance();
+		diceRoller = context.getDiceRoller();
 	}
 
 	/**
@@ -108,19 +121,26 @@ public class Battle implements Serializable {
 	 *
 	 * @return the result of the allOut Attack in messages
 	 */
-	public ArrayList<String> allOutAttack() {
-		ArrayList<String> log = new ArrayList<String>();
+	public BattleLog allOutAttack() {
+		BattleLog log = new BattleLog(context);
+		AllOutAttackResolver resolver = context.getAllOutAttackResolver();
+		if (resolver != null && resolver.canResolve(fromCountry.getNumberOfArmies(), toCountry.getNumberOfArmies())) {
+			resolveAllOutAttack(resolver, log);
+			return log;
+		}
 		boolean continueAttack = true;
 
 		do {
 			numberOfAttackerDices = getMaxDiceCountForAttacker();
 			if (numberOfAttackerDices < 1) {
 				continueAttack = false;
-				log.add(String.format("%s does not have anymore army to attack!!!", fromCountry.getOwner().getName()));
+				if (log.isEnabled()) {
+					log.add(BattleEvent.noMoreArmy(fromCountry.getOwner().getName()));
+				}
 			} else {
 				numberOfDefenderDices = getMaxDiceCountForDefender();
 				state = BattleState.Attacked;
-				log.addAll(simulateBattle());
+				simulateBattle(log);
 				continueAttack = (winner == null);
 			}
 		} while (continueAttack);
@@ -128,18 +148,56 @@ public class Battle implements Serializable {
 		return log;
 	}
 
+	/**
+	 * Performs an allOut attack in one step by sampling its final state
+	 *
+	 * @param resolver the resolver of the game
+	 * @param log      the log that receives the result of the allOut Attack
+	 */
+	private void resolveAllOutAttack(AllOutAttackResolver resolver, BattleLog log) {
+		AllOutAttackResolver.Result result = resolver.resolve(fromCountry.getNumberOfArmies(),
+				toCountry.getNumberOfArmies(), diceRoller);
+		int killedByDefender = fromCountry.getNumberOfArmies() - result.getAttackingArmies();
+		int killedByAttacker = toCountry.getNumberOfArmies() - result.getDefendingArmies();
+		fromCountry.removeArmy(killedByDefender);
+		toCountry.removeArmy(killedByAttacker);
+		numberOfAttackerDices = result.getAttackerDice();
+		numberOfDefenderDices = result.getDefenderDice();
+		state = BattleState.Defended;
+
+		if (log.isEnabled()) {
+			log.add(BattleEvent.allOutAttack(killedByAttacker, killedByDefender,
+					fromCountry.getName(), fromCountry.getNumberOfArmies(),
+					toCountry.getName(), toCountry.getNumberOfArmies()));
+		}
+		if (result.isConquered()) {
+			conquer(log);
+		} else if (log.isEnabled()) {
+			log.add(BattleEvent.noMoreArmy(fromCountry.getOwner().getName()));
+		}
+	}
+
 	/**
 	 * This method simulates the battle for attack commands
 	 *
-	 * @return An String of arrays demonstrating the result of simulating the
-	 *         attacks.
+	 * @return the result of simulating the attack in messages
 	 */
-	public ArrayList<String> simulateBattle() {
+	public BattleLog simulateBattle() {
+		BattleLog log = new BattleLog(context);
+		simulateBattle(log);
+		return log;
+	}
+
+	/**
+	 * Simulate one round of the battle
+	 *
+	 * @param log the log that receives the result of the round
+	 */
+	private void simulateBattle(BattleLog log) {
 		state = BattleState.Defended;
-		ArrayList<String> log = new ArrayList<>();
 
-		int[] attackerDiceRolled = diceRoller.generateSortedDices(numberOfAttackerDices);
-		int[] defenderDiceRolled = diceRoller.generateSortedDices(numberOfDefenderDices);
+		diceRoller.rollSortedDices(numberOfAttackerDices, attackerDiceRolled);
+		diceRoller.rollSortedDices(numberOfDefenderDices, defenderDiceRolled);
 
 		int killedByDefender = 0;
 		int killedByAttacker = 0;
@@ -156,29 +214,18 @@ public class Battle implements Serializable {
 		fromCountry.removeArmy(killedByDefender);
 		toCountry.removeArmy(killedByAttacker);
 
-		log.add(String.format("Attacker Rolled:  %s & Defender rolled %s."
-				+ " Attacker killed: %s & Defender killed: %s."
-				+ " Army Count: %s (%d) & %s (%d)",
-				Arrays.toString(attackerDiceRolled),
-				Arrays.toString(defenderDiceRolled),
-				killedByAttacker,
-				killedByDefender,
-				fromCountry.getName(), fromCountry.getNumberOfArmies(),
-				toCountry.getName(), toCountry.getNumberOfArmies()));
+		if (log.isEnabled()) {
+			log.add(BattleEvent.roll(attackerDiceRolled, numberOfAttackerDices,
+					defenderDiceRolled, numberOfDefenderDices,
+					killedByAttacker, killedByDefender,
+					fromCountry.getName(), fromCountry.getNumberOfArmies(),
+					toCountry.getName(), toCountry.getNumberOfArmies()));
+		}
 
 		// Check if toCuntry is Conquered
 		if (toCountry.hasNoArmy()) {
-			log.addAll(conquer());
-			log.add(String.format(
-					"Congrats! %s has conquered %s. Please move atleast %s of your armies from %s to the conquered country %s.",
-					fromCountry.getOwner().getName(),
-					toCountry.getName(),
-					numberOfAttackerDices,
-					fromCountry.getName(),
-					toCountry.getName()));
+			conquer(log);
 		}
-
-		return log;
 	}
 
 	/**
@@ -203,9 +250,10 @@ public class Battle implements Serializable {
 	/**
 	 * When the attack is done and the country is conquered this method is performed
 	 * to apply attack related rules
+	 *
+	 * @param log the log that receives the result of the conquest
 	 */
-	private List<String> conquer() {
-		List<String> result = new ArrayList<>();
+	private void conquer(BattleLog log) {
 		state = BattleState.Conquered;
 		Player defender = toCountry.getOwner();
 		defender.removeCountry(toCountry.getName());
@@ -214,9 +262,8 @@ public class Battle implements Serializable {
 		int numberOfContinents = attacker.getNumberOfContinents();
 		attacker.addCountry(toCountry);
 		boolean isAttackerOwnedAContinent = attacker.getNumberOfContinents() > numberOfContinents;
-		if (isAttackerOwnedAContinent) {
-			result.add(String.format("Attacker (%s) conquered a continent as well.", attacker.getName(),
-					defender.getCards().size(), defender.getName()));
+		if (isAttackerOwnedAContinent && log.isEnabled()) {
+			log.add(BattleEvent.continentConquered(attacker.getName()));
 		}
 
 		winner = fromCountry;
@@ -224,9 +271,12 @@ public class Battle implements Serializable {
 		attacker.setSuccessfulAttack(true);
 		/// Check Number of countries owned by the defender, if 0 gives all cards to
 		/// attacker and remove player from model player queue
-		result.addAll(getCardsOfDefenderIfLost(defender, attacker));
+		getCardsOfDefenderIfLost(defender, attacker, log);
 
-		return result;
+		if (log.isEnabled()) {
+			log.add(BattleEvent.conquest(attacker.getName(), fromCountry.getName(), toCountry.getName(),
+					numberOfAttackerDices));
+		}
 	}
 
 	/**
@@ -234,20 +284,17 @@ public class Battle implements Serializable {
 	 * 
 	 * @param defender The defending player
 	 * @param attacker The attacking player
-	 * @return the result from the getCards
+	 * @param log      the log that receives the result
 	 */
-	private List<String> getCardsOfDefenderIfLost(Player defender, Player attacker) {
-		List<String> result = new ArrayList<String>();
+	private void getCardsOfDefenderIfLost(Player defender, Player attacker, BattleLog log) {
 		if (defender.getNumberOfCountries() == 0) {
-			result.add(String.format("%s is kicked out from game.", defender.getName()));
-			PlayersModel.getInstance().getPlayers().remove(defender);
+			log.add(BattleEvent.kickedOut(defender.getName()));
+			context.getPlayersModel().getPlayers().remove(defender);
 			if (defender.getCards().size() > 0) {
-				result.add(String.format("Attacker (%s) wins all %d cards of kicked out player (%s).",
-						attacker.getName(), defender.getCards().size(), defender.getName()));
+				log.add(BattleEvent.cardsWon(attacker.getName(), defender.getCards().size(), defender.getName()));
 				attacker.getCards().addAll(defender.getCards());
 			}
 		}
-		return result;
 	}
 
 	/**
@@ -0,0 +1,309 @@
+package ca.concordia.encs.conquerdia.model;
+
+import java.util.Arrays;
+
+/**
+ * One thing that happened during a battle, such as a roll of the dice or a conquest.
+ * <p>
+ * An event only keeps the numbers and the names that describe it. The message that is shown to the players is built
+ * by {@link #toString()}, so an event that nobody reads costs no formatting at all.
+ */
+public final class BattleEvent {
+	/**
+	 * The kinds of events of a battle
+	 */
+	public enum Type {
+		/**
+		 * One round of dice and the armies that it killed
+		 */
+		ROLL,
+		/**
+		 * An all out attack that is resolved in one step
+		 */
+		ALL_OUT_ATTACK,
+		/**
+		 * The attacker has no army left to attack
+		 */
+		NO_MORE_ARMY,
+		/**
+		 * The defending country is conquered
+		 */
+		CONQUEST,
+		/**
+		 * The conquest gave a whole continent to the attacker
+		 */
+		CONTINENT_CONQUERED,
+		/**
+		 * The defender lost their last country
+		 */
+		KICKED_OUT,
+		/**
+		 * The attacker won the cards of the defender that is kicked out
+		 */
+		CARDS_WON,
+	}
+
+	/**
+	 * The kind of the event
+	 */
+	private final Type type;
+
+	/**
+	 * Name of the attacker, or of the kicked out player
+	 */
+	private final String playerName;
+
+	/**
+	 * Name of the defender, for the cards won
+	 */
+	private final String otherPlayerName;
+
+	/**
+	 * Name of the attacking country
+	 */
+	private final String fromCountryName;
+
+	/**
+	 * Name of the defending country
+	 */
+	private final String toCountryName;
+
+	/**
+	 * Dice of the attacker, sorted in descending order
+	 */
+	private final int[] attackerDice;
+
+	/**
+	 * Dice of the defender, sorted in descending order
+	 */
+	private final int[] defenderDice;
+
+	/**
+	 * Armies killed by the attacker
+	 */
+	private final int killedByAttacker;
+
+	/**
+	 * Armies killed by the defender
+	 */
+	private final int killedByDefender;
+
+	/**
+	 * Number of dice rolled in the last round of a conquest, the least number of armies to move
+	 */
+	private final int numberOfDiceToMove;
+
+	/**
+	 * Number of cards won
+	 */
+	private final int numberOfCards;
+
+	/**
+	 * Armies left in the attacking country
+	 */
+	private final int fromArmies;
+
+	/**
+	 * Armies left in the defending country
+	 */
+	private final int toArmies;
+
+	/**
+	 * Private constructor, the events are created by the static factory methods
+	 */
+	private BattleEvent(Type type, String playerName, String otherPlayerName, String fromCountryName,
+			String toCountryName, int[] attackerDice, int[] defenderDice, int killedByAttacker, int killedByDefender,
+			int numberOfDiceToMove, int numberOfCards, int fromArmies, int toArmies) {
+		this.type = type;
+		this.playerName = playerName;
+		this.otherPlayerName = otherPlayerName;
+		this.fromCountryName = fromCountryName;
+		this.toCountryName = toCountryName;
+		this.attackerDice = attackerDice;
+		this.defenderDice = defenderDice;
+		this.killedByAttacker = killedByAttacker;
+		this.killedByDefender = killedByDefender;
+		this.numberOfDiceToMove = numberOfDiceToMove;
+		this.numberOfCards = numberOfCards;
+		this.fromArmies = fromArmies;
+		this.toArmies = toArmies;
+	}
+
+	/**
+	 * @param attackerDice     the buffer with the dice of the attacker
+	 * @param numAttackerDice  number of dice of the attacker in the buffer
+	 * @param defenderDice     the buffer with the dice of the defender
+	 * @param numDefenderDice  number of dice of the defender in the buffer
+	 * @param killedByAttacker armies killed by the attacker
+	 * @param killedByDefender armies killed by the defender
+	 * @param fromCountryName  name of the attacking country
+	 * @param fromArmies       armies left in the attacking country
+	 * @param toCountryName    name of the defending country
+	 * @param toArmies         armies left in the defending country
+	 * @return one round of dice
+	 */
+	public static BattleEvent roll(int[] attackerDice, int numAttackerDice, int[] defenderDice, int numDefenderDice,
+			int killedByAttacker, int killedByDefender, String fromCountryName, int fromArmies,
+			String toCountryName, int toArmies) {
+		return new BattleEvent(Type.ROLL, null, null, fromCountryName, toCountryName,
+				Arrays.copyOf(attackerDice, numAttackerDice), Arrays.copyOf(defenderDice, numDefenderDice),
+				killedByAttacker, killedByDefender, 0, 0, fromArmies, toArmies);
+	}
+
+	/**
+	 * @param killedByAttacker armies killed by the attacker
+	 * @param killedByDefender armies killed by the defender
+	 * @param fromCountryName  name of the attacking country
+	 * @param fromArmies       armies left in the attacking country
+	 * @param toCountryName    name of the defending country
+	 * @param toArmies         armies left in the defending country
+	 * @return an all out attack resolved in one step
+	 */
+	public static BattleEvent allOutAttack(int killedByAttacker, int killedByDefender, String fromCountryName,
+			int fromArmies, String toCountryName, int toArmies) {
+		return new BattleEvent(Type.ALL_OUT_ATTACK, null, null, fromCountryName, toCountryName, null, null,
+				killedByAttacker, killedByDefender, 0, 0, fromArmies, toArmies);
+	}
+
+	/**
+	 * @param attackerName name of the attacker
+	 * @return the attacker has no army left to attack
+	 */
+	public static BattleEvent noMoreArmy(String attackerName) {
+		return new BattleEvent(Type.NO_MORE_ARMY, attackerName, null, null, null, null, null, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * @param attackerName    name of the attacker
+	 * @param fromCountryName name of the attacking country
+	 * @param toCountryName   name of the conquered country
+	 * @param numberOfDice    number of dice rolled in the last round, the least number of armies to move
+	 * @return the defending country is conquered
+	 */
+	public static BattleEvent conquest(String attackerName, String fromCountryName, String toCountryName,
+			int numberOfDice) {
+		return new BattleEvent(Type.CONQUEST, attackerName, null, fromCountryName, toCountryName, null, null, 0, 0,
+				numberOfDice, 0, 0, 0);
+	}
+
+	/**
+	 * @param attackerName name of the attacker
+	 * @return the conquest gave a whole continent to the attacker
+	 */
+	public static BattleEvent continentConquered(String attackerName) {
+		return new BattleEvent(Type.CONTINENT_CONQUERED, attackerName, null, null, null, null, null, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * @param defenderName name of the defender
+	 * @return the defender lost their last country
+	 */
+	public static BattleEvent kickedOut(String defenderName) {
+		return new BattleEvent(Type.KICKED_OUT, defenderName, null, null, null, null, null, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * @param attackerName  name of the attacker
+	 * @param numberOfCards number of cards won
+	 * @param defenderName  name of the kicked out defender
+	 * @return the attacker won the cards of the defender
+	 */
+	public static BattleEvent cardsWon(String attackerName, int numberOfCards, String defenderName) {
+		return new BattleEvent(Type.CARDS_WON, attackerName, defenderName, null, null, null, null, 0, 0, 0,
+				numberOfCards, 0, 0);
+	}
+
+	/**
+	 * @return the kind of the event
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return the dice of the attacker of a roll, sorted in descending order
+	 */
+	public int[] getAttackerDice() {
+		return attackerDice == null ? null : attackerDice.clone();
+	}
+
+	/**
+	 * @return the dice of the defender of a roll, sorted in descending order
+	 */
+	public int[] getDefenderDice() {
+		return defenderDice == null ? null : defenderDice.clone();
+	}
+
+	/**
+	 * @return the armies killed by the attacker of a roll or an all out attack
+	 */
+	public int getKilledByAttacker() {
+		return killedByAttacker;
+	}
+
+	/**
+	 * @return the armies killed by the defender of a roll or an all out attack
+	 */
+	public int getKilledByDefender() {
+		return killedByDefender;
+	}
+
+	/**
+	 * @return the number of dice rolled in the last round of a conquest, the least number of armies to move
+	 */
+	public int getNumberOfDiceToMove() {
+		return numberOfDiceToMove;
+	}
+
+	/**
+	 * @return the number of cards won
+	 */
+	public int getNumberOfCards() {
+		return numberOfCards;
+	}
+
+	/**
+	 * @return the message of the event, as it is shown to the players
+	 */
+	@Override
+	public String toString() {
+		switch (type) {
+		case ROLL:
+			return String.format("Attacker Rolled:  %s & Defender rolled %s."
+					+ " Attacker killed: %s & Defender killed: %s."
+					+ " Army Count: %s (%d) & %s (%d)",
+					Arrays.toString(attackerDice),
+					Arrays.toString(defenderDice),
+					killedByAttacker,
+					killedByDefender,
+					fromCountryName, fromArmies,
+					toCountryName, toArmies);
+		case ALL_OUT_ATTACK:
+			return String.format("All out attack resolved. Attacker killed: %s & Defender killed: %s."
+					+ " Army Count: %s (%d) & %s (%d)",
+					killedByAttacker,
+					killedByDefender,
+					fromCountryName, fromArmies,
+					toCountryName, toArmies);
+		case NO_MORE_ARMY:
+			return String.format("%s does not have anymore army to attack!!!", playerName);
+		case CONQUEST:
+			return String.format(
+					"Congrats! %s has conquered %s. Please move atleast %s of your armies from %s to the conquered country %s.",
+					playerName,
+					toCountryName,
+					numberOfDiceToMove,
+					fromCountryName,
+					toCountryName);
+		case CONTINENT_CONQUERED:
+			return String.format("Attacker (%s) conquered a continent as well.", playerName);
+		case KICKED_OUT:
+			return String.format("%s is kicked out from game.", playerName);
+		case CARDS_WON:
+			return String.format("Attacker (%s) wins all %d cards of kicked out player (%s).", playerName,
+					numberOfCards, otherPlayerName);
+		default:
+			return type.name();
+		}
+	}
+}
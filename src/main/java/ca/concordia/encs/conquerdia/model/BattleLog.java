@@ -0,0 +1,117 @@
+package ca.concordia.encs.conquerdia.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The messages of a battle, kept as {@link BattleEvent}s and plain messages and rendered to text only when they are
+ * read.
+ * <p>
+ * A log of a headless game (see {@link GameContext#isHeadless()}) is disabled: it drops everything that is added to
+ * it, and the callers can check {@link #isEnabled()} to skip building the events at all.
+ */
+public class BattleLog extends AbstractList<String> {
+	/**
+	 * The events and the plain messages, in order
+	 */
+	private final List<Object> entries;
+
+	/**
+	 * false if everything added to this log is dropped
+	 */
+	private final boolean enabled;
+
+	/**
+	 * @param context the game of the battle, the log is disabled if the game is headless
+	 */
+	public BattleLog(GameContext context) {
+		this(!context.isHeadless());
+	}
+
+	/**
+	 * @param enabled false to drop everything added to this log
+	 */
+	public BattleLog(boolean enabled) {
+		this.enabled = enabled;
+		this.entries = new ArrayList<>();
+	}
+
+	/**
+	 * @return false if everything added to this log is dropped
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Add an event to the end of the log
+	 *
+	 * @param event the event
+	 */
+	public void add(BattleEvent event) {
+		if (enabled) {
+			entries.add(event);
+		}
+	}
+
+	/**
+	 * @param index index of the entry
+	 * @return the event at the index, null if the entry is a plain message
+	 */
+	public BattleEvent getEvent(int index) {
+		Object entry = entries.get(index);
+		return entry instanceof BattleEvent ? (BattleEvent) entry : null;
+	}
+
+	/**
+	 * Render the entry at the index
+	 */
+	@Override
+	public String get(int index) {
+		return entries.get(index).toString();
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Add a plain message, it is dropped if the log is disabled
+	 */
+	@Override
+	public void add(int index, String message) {
+		if (enabled) {
+			entries.add(index, message);
+			modCount++;
+		}
+	}
+
+	/**
+	 * Add all the entries of another log without rendering them
+	 */
+	@Override
+	public boolean addAll(Collection<? extends String> messages) {
+		if (!enabled) {
+			return false;
+		}
+		if (messages instanceof BattleLog) {
+			modCount++;
+			return entries.addAll(((BattleLog) messages).entries);
+		}
+		return super.addAll(messages);
+	}
+
+	@Override
+	public String set(int index, String message) {
+		return entries.set(index, message).toString();
+	}
+
+	@Override
+	public String remove(int index) {
+		modCount++;
+		return entries.remove(index).toString();
+	}
+}
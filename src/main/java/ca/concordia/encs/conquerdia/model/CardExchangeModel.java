@@ -3,16 +3,13 @@ package ca.concordia.encs.conquerdia.model;
 import ca.concordia.encs.conquerdia.util.Observable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Card Exchange Model
  */
 public class CardExchangeModel extends Observable {
-	/**
-	 * Singleton instance holder
-	 */
-	private static CardExchangeModel instance;
 
 	/**
 	 * Cards
@@ -25,30 +22,23 @@ public class CardExchangeModel extends Observable {
 	private boolean reinforcementPhaseActive;
 
 	/**
-	 * Private constructor for singleton
+	 * Package-private constructor, the instance of each game is created by {@link GameContext}
 	 */
-	private CardExchangeModel() {
+	CardExchangeModel() {
 	}
 
 	/**
-	 * @return the instance
+	 * @return the instance of the game bound to the current thread
 	 */
 	public static CardExchangeModel getInstance() {
-		if (instance == null) {
-			synchronized (CommandResultModel.class) {
-				if (instance == null) {
-					instance = new CardExchangeModel();
-				}
-			}
-		}
-		return instance;
+		return GameContext.current().getCardExchangeModel();
 	}
 
 	/**
 	 * Clear this model
 	 */
 	public static void clear() {
-		instance = null;
+		GameContext.current().clearCardExchangeModel();
 	}
 
 	/**
@@ -59,7 +49,7 @@ public class CardExchangeModel extends Observable {
 			this.cards.clear();
 			this.cards.addAll(cards);
 			setChanged();
-			notifyObservers(this);
+			notifyObservers();
 		}
 	}
 
@@ -83,4 +73,16 @@ public class CardExchangeModel extends Observable {
 	public List<CardType> getCards() {
 		return cards;
 	}
+
+	/**
+	 * @param arg the argument of the notification
+	 * @return a copy of the cards to exchange, empty out of the reinforce phase
+	 */
+	@Override
+	protected Object snapshot(Object arg) {
+		if (!reinforcementPhaseActive) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(new ArrayList<>(cards));
+	}
 }
@@ -4,46 +4,36 @@ import ca.concordia.encs.conquerdia.util.Observable;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Result for the command
  */
 public class CommandResultModel extends Observable {
-	/**
-	 * Singleton holder for the command
-	 */
-	private static CommandResultModel instance;
 	/**
 	 * Result of the command
 	 */
 	private final List<String> resultList = new ArrayList<>();
 
 	/**
-	 * Constructor set private for singleton design pattern for Command Result Model
+	 * Package-private constructor, the instance of each game is created by {@link GameContext}
 	 */
-	private CommandResultModel() {
+	CommandResultModel() {
 	}
 
 	/**
-	 * @return The instance of the result model Singleton class.
+	 * @return The instance of the result model of the game bound to the current thread.
 	 */
 	public static CommandResultModel getInstance() {
-		if (instance == null) {
-			synchronized (CommandResultModel.class) {
-				if (instance == null) {
-					instance = new CommandResultModel();
-				}
-			}
-		}
-		return instance;
+		return GameContext.current().getCommandResultModel();
 	}
 
 	/**
 	 * Clear this model
 	 */
 	public static void clearModel() {
-		instance = null;
+		GameContext.current().clearCommandResultModel();
 	}
 
 	/**
@@ -64,7 +54,7 @@ public class CommandResultModel extends Observable {
 				}
 			}
 			setChanged();
-			notifyObservers(this);
+			notifyObservers();
 		}
 	}
 
@@ -75,7 +65,7 @@ public class CommandResultModel extends Observable {
 		if (!StringUtils.isBlank(result)) {
 			this.resultList.add(result);
 			setChanged();
-			notifyObservers(this);
+			notifyObservers();
 		}
 	}
 
@@ -85,4 +75,24 @@ public class CommandResultModel extends Observable {
 	public List<String> getResultList() {
 		return resultList;
 	}
+
+	/**
+	 * @param arg the argument of the notification
+	 * @return a copy of the result list
+	 */
+	@Override
+	protected Object snapshot(Object arg) {
+		return Collections.unmodifiableList(new ArrayList<>(resultList));
+	}
+
+	/**
+	 * The results are cleared at the start of each command, so a merged notification could drop the results that
+	 * are not shown yet
+	 *
+	 * @return false, each notification is delivered
+	 */
+	@Override
+	protected boolean isMergeable() {
+		return false;
+	}
 }
@@ -1,68 +1,174 @@
 package ca.concordia.encs.conquerdia.model;
 
-import java.security.SecureRandom;
-import java.util.ArrayList;
+import ca.concordia.encs.conquerdia.util.RandomSource;
+
+import java.util.Arrays;
 
 /**
  * Provides methods to simulate dice rolls
+ * <p>
+ * The dice are generated in batches: a single random number below {@link #NUMBER_OF_FACES} to the power of
+ * {@link #BATCH_SIZE} is split into its base {@link #NUMBER_OF_FACES} digits, and every digit is one uniform and
+ * independent dice. The sorted rolls of a battle round are written to arrays given by the caller, so rolling the
+ * dice does not allocate anything.
  */
 public class DiceRoller {
+	/**
+	 * Number of faces of a dice
+	 */
+	public static final int NUMBER_OF_FACES = 6;
+
+	/**
+	 * Number of dice generated from one random number, the largest power of the number of faces that fits in a
+	 * positive long
+	 */
+	public static final int BATCH_SIZE = 24;
+
+	/**
+	 * Number of faces to the power of the batch size
+	 */
+	private static final long BATCH_BOUND = computeBatchBound();
 
 	/**
 	 * Randomizer
 	 */
-	private SecureRandom rand;
+	private final RandomSource rand;
+
+	/**
+	 * Dice of the current batch that are not rolled yet
+	 */
+	private final int[] batch = new int[BATCH_SIZE];
 
 	/**
-	 * Singleton holder
+	 * Index of the next dice of the current batch
 	 */
-	private static DiceRoller instance;
+	private int batchPosition = BATCH_SIZE;
 
 	/**
-	 * Returns the singleton instance
+	 * Returns the instance of the game bound to the current thread
 	 */
 	public static DiceRoller getInstance() {
-		if (instance == null) {
-			instance = new DiceRoller();
-		}
-		return instance;
+		return GameContext.current().getDiceRoller();
 	}
 
 	/**
 	 * Clear this model
 	 */
 	public static void clear() {
-		instance = null;
+		GameContext.current().clearDiceRoller();
+	}
+
+	/**
+	 * Package-private constructor, the instance of each game is created by {@link GameContext}
+	 */
+	DiceRoller() {
+		this(RandomSource.fast());
 	}
 
 	/**
-	 * Private constructor for the singleton
+	 * Package-private constructor, the instance of each game is created by {@link GameContext}
+	 *
+	 * @param rand the source of the random numbers of the game
 	 */
-	private DiceRoller() {
-		rand = new SecureRandom();
+	DiceRoller(RandomSource rand) {
+		this.rand = rand;
 	}
 
 	/**
 	 * this method generates a random number between 1-6
-	 * 
+	 *
 	 * @return a random number between 1-6
 	 */
 	public int rollDice() {
-		return rand.nextInt(5) + 1;
+		if (batchPosition == BATCH_SIZE) {
+			fillBatch();
+		}
+		return batch[batchPosition++];
+	}
+
+	/**
+	 * @return a random number uniformly distributed between 0 (inclusive) and 1 (exclusive)
+	 */
+	public double nextProbability() {
+		return rand.nextDouble();
+	}
+
+	/**
+	 * Roll some dice and write them sorted in descending order to the beginning of an array
+	 *
+	 * @param numDice number of dice, between 0 and 3
+	 * @param dice    the array that receives the dice, at least numDice long
+	 */
+	public void rollSortedDices(int numDice, int[] dice) {
+		for (int i = 0; i < numDice; i++) {
+			dice[i] = rollDice();
+		}
+		// sorting network for up to three elements
+		if (numDice >= 2) {
+			compareAndSwap(dice, 0, 1);
+		}
+		if (numDice == 3) {
+			compareAndSwap(dice, 1, 2);
+			compareAndSwap(dice, 0, 1);
+		}
 	}
 
 	/**
 	 * @return An array of DESC sorted random integer each element between 1-6
 	 */
 	public int[] generateSortedDices(int numDice) {
+		int[] dices = new int[numDice];
+		if (numDice <= 3) {
+			rollSortedDices(numDice, dices);
+			return dices;
+		}
+		for (int i = 0; i < numDice; i++) {
+			dices[i] = rollDice();
+		}
+		Arrays.sort(dices);
+		for (int i = 0, j = numDice - 1; i < j; i++, j--) {
+			int swap = dices[i];
+			dices[i] = dices[j];
+			dices[j] = swap;
+		}
+		return dices;
+	}
 
-		ArrayList<Integer> dices = new ArrayList<>(numDice);
+	/**
+	 * Generate the next batch of dice from one random number
+	 */
+	private void fillBatch() {
+		long value = rand.nextLong(BATCH_BOUND);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batch[i] = (int) (value % NUMBER_OF_FACES) + 1;
+			value /= NUMBER_OF_FACES;
+		}
+		batchPosition = 0;
+	}
 
-		for (int i = 0; i < numDice; i++) {
-			dices.add(rollDice());
+	/**
+	 * Put the greater of two elements first
+	 *
+	 * @param dice   the array
+	 * @param first  index of the element that must be the greater
+	 * @param second index of the element that must be the lower
+	 */
+	private static void compareAndSwap(int[] dice, int first, int second) {
+		if (dice[first] < dice[second]) {
+			int swap = dice[first];
+			dice[first] = dice[second];
+			dice[second] = swap;
 		}
+	}
 
-		dices.sort((a, b) -> b - a);
-		return dices.stream().mapToInt(Integer::intValue).toArray();
+	/**
+	 * @return number of faces to the power of the batch size
+	 */
+	private static long computeBatchBound() {
+		long bound = 1;
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			bound *= NUMBER_OF_FACES;
+		}
+		return bound;
 	}
 }
@@ -0,0 +1,330 @@
+package ca.concordia.encs.conquerdia.model;
+
+import ca.concordia.encs.conquerdia.model.io.GameAutosaver;
+import ca.concordia.encs.conquerdia.model.io.GameJournal;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.util.Observable;
+import ca.concordia.encs.conquerdia.util.ObserverDispatcher;
+import ca.concordia.encs.conquerdia.util.RandomSource;
+
+/**
+ * Holds all the state of one game: the map, the phase, the players, the cards, the command results and the dice.
+ * <p>
+ * A process can host as many games as needed by creating one context per game. The context of a game is bound to the
+ * thread that is executing a command of this game (see {@link #bind(GameContext)}), and the <code>getInstance()</code>
+ * method of every model returns the model of the context that is bound to the current thread. A thread that never
+ * binds a context has a default context of its own.
+ */
+public class GameContext {
+    /**
+     * The context that is bound to each thread
+     */
+    private static final ThreadLocal<GameContext> current = ThreadLocal.withInitial(GameContext::new);
+
+    /**
+     * The world map of the game
+     */
+    private WorldMap worldMap;
+
+    /**
+     * The phase model of the game
+     */
+    private PhaseModel phaseModel;
+
+    /**
+     * The players of the game
+     */
+    private PlayersModel playersModel;
+
+    /**
+     * The card exchange model of the game
+     */
+    private CardExchangeModel cardExchangeModel;
+
+    /**
+     * The result of the last command of the game
+     */
+    private CommandResultModel commandResultModel;
+
+    /**
+     * The dice roller of the game
+     */
+    private DiceRoller diceRoller;
+
+    /**
+     * Resolves the all out attacks in one step, null to roll the dice round by round
+     */
+    private AllOutAttackResolver allOutAttackResolver;
+
+    /**
+     * The source of all the random numbers of the game
+     */
+    private RandomSource random;
+
+    /**
+     * true if nobody reads the battle messages of the game, so that they are not recorded at all
+     */
+    private boolean headless;
+
+    /**
+     * Delivers the notifications of the models of the game on a background thread, null to notify synchronously
+     */
+    private ObserverDispatcher observerDispatcher;
+
+    /**
+     * Saves the game at the start of its turns, null if the game is not saved automatically
+     */
+    private GameAutosaver autosaver;
+
+    /**
+     * Journals the actions of the game, null if the game is not journaled
+     */
+    private GameJournal journal;
+
+    /**
+     * @return the context that is bound to the current thread
+     */
+    public static GameContext current() {
+        return current.get();
+    }
+
+    /**
+     * Bind a context to the current thread.
+     *
+     * @param context the context to be bound, <code>null</code> gives a new default context to the current thread
+     * @return the context that was bound to the current thread before, so that it can be bound again afterwards
+     */
+    public static GameContext bind(GameContext context) {
+        GameContext previous = current.get();
+        if (context == null) {
+            current.remove();
+        } else {
+            current.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * @return the world map of the game
+     */
+    public WorldMap getWorldMap() {
+        if (worldMap == null) {
+            worldMap = new WorldMap();
+        }
+        return worldMap;
+    }
+
+    /**
+     * @return the phase model of the game
+     */
+    public PhaseModel getPhaseModel() {
+        if (phaseModel == null) {
+            phaseModel = new PhaseModel(this);
+            phaseModel.setDispatcher(observerDispatcher);
+        }
+        return phaseModel;
+    }
+
+    /**
+     * @return the players of the game
+     */
+    public PlayersModel getPlayersModel() {
+        if (playersModel == null) {
+            playersModel = new PlayersModel(this);
+            playersModel.setDispatcher(observerDispatcher);
+        }
+        return playersModel;
+    }
+
+    /**
+     * @return the card exchange model of the game
+     */
+    public CardExchangeModel getCardExchangeModel() {
+        if (cardExchangeModel == null) {
+            cardExchangeModel = new CardExchangeModel();
+            cardExchangeModel.setDispatcher(observerDispatcher);
+        }
+        return cardExchangeModel;
+    }
+
+    /**
+     * @return the result of the last command of the game
+     */
+    public CommandResultModel getCommandResultModel() {
+        if (commandResultModel == null) {
+            commandResultModel = new CommandResultModel();
+            commandResultModel.setDispatcher(observerDispatcher);
+        }
+        return commandResultModel;
+    }
+
+    /**
+     * @return the dice roller of the game
+     */
+    public DiceRoller getDiceRoller() {
+        if (diceRoller == null) {
+            diceRoller = new DiceRoller(getRandom());
+        }
+        return diceRoller;
+    }
+
+    /**
+     * @return the source of all the random numbers of the game, a fast source with a random seed by default
+     */
+    public RandomSource getRandom() {
+        if (random == null) {
+            random = RandomSource.fast();
+        }
+        return random;
+    }
+
+    /**
+     * Replace the source of the random numbers of the game
+     *
+     * @param random the new source
+     */
+    public void setRandom(RandomSource random) {
+        this.random = random;
+        this.diceRoller = null;
+    }
+
+    /**
+     * Use a fast source with the given seed, so that the game can be replayed
+     *
+     * @param seed the seed of the game
+     */
+    public void setSeed(long seed) {
+        setRandom(RandomSource.fast(seed));
+    }
+
+    /**
+     * @return the resolver of the all out attacks of the game, null if they are rolled round by round
+     */
+    public AllOutAttackResolver getAllOutAttackResolver() {
+        return allOutAttackResolver;
+    }
+
+    /**
+     * @param allOutAttackResolver the resolver of the all out attacks of the game, null to roll them round by round
+     */
+    public void setAllOutAttackResolver(AllOutAttackResolver allOutAttackResolver) {
+        this.allOutAttackResolver = allOutAttackResolver;
+    }
+
+    /**
+     * @return true if the battle messages of the game are dropped, see {@link BattleLog}
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * @param headless true to drop the battle messages of the game, for the games that are not shown to anyone
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * @return the dispatcher of the notifications of the models of the game, null if they are synchronous
+     */
+    public ObserverDispatcher getObserverDispatcher() {
+        return observerDispatcher;
+    }
+
+    /**
+     * Deliver the notifications of the phase, players, card exchange and command result models of the game on the
+     * thread of a dispatcher, so that slow views do not stall the game. Repeated notifications of a model are merged.
+     *
+     * @param observerDispatcher the dispatcher, null to notify the views synchronously
+     */
+    public void setObserverDispatcher(ObserverDispatcher observerDispatcher) {
+        this.observerDispatcher = observerDispatcher;
+        for (Observable model : new Observable[]{phaseModel, playersModel, cardExchangeModel, commandResultModel}) {
+            if (model != null) {
+                model.setDispatcher(observerDispatcher);
+            }
+        }
+    }
+
+    /**
+     * @return the autosaver of the game, null if the game is not saved automatically
+     */
+    public GameAutosaver getAutosaver() {
+        return autosaver;
+    }
+
+    /**
+     * @param autosaver saves the game at the start of its turns, null to stop saving it automatically
+     */
+    public void setAutosaver(GameAutosaver autosaver) {
+        this.autosaver = autosaver;
+    }
+
+    /**
+     * @return the journal of the game, null if the game is not journaled
+     */
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @param journal journals the actions of the game, null to stop journaling them
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Append a record of an action to the journal of the game, if any
+     *
+     * @param type the type of the action
+     */
+    public void journal(GameJournal.RecordType type) {
+        if (journal != null) {
+            journal.record(type, this);
+        }
+    }
+
+    /**
+     * Discard the world map, a new one is created on the next access
+     */
+    public void clearWorldMap() {
+        worldMap = null;
+    }
+
+    /**
+     * Discard the phase model, a new one is created on the next access
+     */
+    public void clearPhaseModel() {
+        phaseModel = null;
+    }
+
+    /**
+     * Discard the players model, a new one is created on the next access
+     */
+    public void clearPlayersModel() {
+        playersModel = null;
+    }
+
+    /**
+     * Discard the card exchange model, a new one is created on the next access
+     */
+    public void clearCardExchangeModel() {
+        cardExchangeModel = null;
+    }
+
+    /**
+     * Discard the command result model, a new one is created on the next access
+     */
+    public void clearCommandResultModel() {
+        commandResultModel = null;
+    }
+
+    /**
+     * Discard the dice roller, a new one is created on the next access
+     */
+    public void clearDiceRoller() {
+        diceRoller = null;
+    }
+}
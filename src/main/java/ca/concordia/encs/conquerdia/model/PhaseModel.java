@@ -2,13 +2,14 @@ package ca.concordia.encs.conquerdia.model;
 
 import ca.concordia.encs.conquerdia.controller.command.CommandType;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.io.GameAutosaver;
+import ca.concordia.encs.conquerdia.model.io.GameJournal;
 import ca.concordia.encs.conquerdia.model.map.Country;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
 import ca.concordia.encs.conquerdia.model.player.Player;
 import ca.concordia.encs.conquerdia.util.Observable;
+import ca.concordia.encs.conquerdia.util.RandomSource;
 
 import java.io.Serializable;
-import java.security.SecureRandom;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -17,10 +18,11 @@ import java.util.stream.Collectors;
  * This class represent the phases of the game
  */
 public class PhaseModel extends Observable {
+
     /**
-     * current instance
+     * The game that this model belongs to
      */
-    private static PhaseModel instance;
+    private final GameContext context;
 
     /**
      * List of phase log
@@ -58,32 +60,28 @@ public class PhaseModel extends Observable {
     private int maxNumberOfTurns = -1;
 
     /**
-     * private Constructor to implementation of the Singleton Pattern
+     * Package-private constructor, the instance of each game is created by {@link GameContext}
+     *
+     * @param context the game that this model belongs to
      */
-    private PhaseModel() {
+    PhaseModel(GameContext context) {
+        this.context = context;
     }
 
     /**
-     * This method is used for getting a single instance of the {@link PhaseModel}
+     * This method is used for getting the {@link PhaseModel} of the game bound to the current thread
      *
      * @return single instance of the {@link PhaseModel phase}
      */
     public static PhaseModel getInstance() {
-        if (instance == null) {
-            synchronized (PhaseModel.class) {
-                if (instance == null) {
-                    instance = new PhaseModel();
-                }
-            }
-        }
-        return instance;
+        return GameContext.current().getPhaseModel();
     }
 
     /**
      * Clear this model
      */
     public static void clear() {
-        instance = null;
+        GameContext.current().clearPhaseModel();
     }
 
     /**
@@ -159,7 +157,7 @@ public class PhaseModel extends Observable {
      * @return current player
      */
     public Player getCurrentPlayer() {
-        return PlayersModel.getInstance().getCurrentPlayer();
+        return context.getPlayersModel().getCurrentPlayer();
     }
 
     /**
@@ -167,73 +165,80 @@ public class PhaseModel extends Observable {
      */
     public List<String> changePhase() {
         List<String> results = new ArrayList<>();
+        // nobody reads the messages of a headless game
+        boolean verbose = !context.isHeadless();
         Player currentPlayer = getCurrentPlayer();
+        PhaseTypes previousPhase = currentPhase;
         switch (currentPhase) {
             case NONE: {
-                if (WorldMap.getInstance().isMapLoaded()) {
+                if (context.getWorldMap().isMapLoaded()) {
                     changePhase(PhaseTypes.START_UP);
-                } else if (WorldMap.getInstance().isReadyForEdit()) {
+                } else if (context.getWorldMap().isReadyForEdit()) {
                     changePhase(PhaseTypes.EDIT_MAP);
                 }
                 break;
             }
             case EDIT_MAP: {
-                if (WorldMap.getInstance().isMapLoaded()) {
+                if (context.getWorldMap().isMapLoaded()) {
                     changePhase(PhaseTypes.START_UP);
                 }
                 break;
             }
             case START_UP: {
                 if (allCountriesArePopulated) {
-                    if (PlayersModel.getInstance().isThereAnyUnplacedArmy()) {
-                        results.add(String.format("Dear %s, you have %d unplaced armies.", currentPlayer.getName(),
-                                currentPlayer.getUnplacedArmies()));
-                        results.add(
-                                "Use \"placearmy\" to place one of them or use \"placeall\" to automatically randomly place all remaining unplaced armies for all players.");
+                    if (context.getPlayersModel().isThereAnyUnplacedArmy()) {
+                        if (verbose) {
+                            results.add(String.format("Dear %s, you have %d unplaced armies.", currentPlayer.getName(),
+                                    currentPlayer.getUnplacedArmies()));
+                            results.add(
+                                    "Use \"placearmy\" to place one of them or use \"placeall\" to automatically randomly place all remaining unplaced armies for all players.");
+                        }
                     } else {
-                        PlayersModel.getInstance().giveTurnToFirstPlayer();
+                        context.getPlayersModel().giveTurnToFirstPlayer();
                         changePhase(PhaseTypes.REINFORCEMENT);
-                        CardExchangeModel.getInstance().setReinforcementPhaseActive(true);
-                        results.add(
-                                "================================================================================================================================================");
-                        results.add("All players have placed their armies.");
-                        results.add("Startup phase is finished.");
-                        results.add("The turn-based main phase of the game is about to begin.");
-                        results.add(
-                                "================================================================================================================================================");
-
+                        context.getCardExchangeModel().setReinforcementPhaseActive(true);
                         currentPlayer.calculateNumberOfReinforcementArmies();
-                        results.add(String.format(
-                                "Dear %s, Congratulations! You've got %d armies at this phase! You can place them wherever in your territory.",
-                                currentPlayer.getName(), currentPlayer.getUnplacedArmies()));
-                        results.add(String.format("[%s]",
-                                currentPlayer.getCountryNames().stream().collect(Collectors.joining(", "))));
+                        turnStarted();
+                        if (verbose) {
+                            results.add(
+                                    "================================================================================================================================================");
+                            results.add("All players have placed their armies.");
+                            results.add("Startup phase is finished.");
+                            results.add("The turn-based main phase of the game is about to begin.");
+                            results.add(
+                                    "================================================================================================================================================");
+                            addReinforcementMessages(results, currentPlayer);
+                        }
                     }
                 }
                 break;
             }
             case REINFORCEMENT: {
                 if (currentPlayer.getUnplacedArmies() > 0) {
-                    results.add(
-                            String.format("You have %d reinforcement army. You can place them wherever in your territory.",
-                                    currentPlayer.getUnplacedArmies()));
-                    results.add(String.format("[%s]",
-                            currentPlayer.getCountryNames().stream().collect(Collectors.joining(", "))));
+                    if (verbose) {
+                        results.add(
+                                String.format("You have %d reinforcement army. You can place them wherever in your territory.",
+                                        currentPlayer.getUnplacedArmies()));
+                        results.add(String.format("[%s]",
+                                currentPlayer.getCountryNames().stream().collect(Collectors.joining(", "))));
+                    }
                 } else if (currentPlayer.getCards().size() >= 5) {
                     results.add(
                             "You have more than five cards. You must exchange them by using \"exchangecards\" command.");
                 } else {
                     changePhase(PhaseTypes.ATTACK);
-                    CardExchangeModel.getInstance().setReinforcementPhaseActive(false);
-                    results.add(
-                            String.format("%s, You can declare an attack or use \"attack -noattack\" to skip this phase.",
-                                    currentPlayer.getName()));
+                    context.getCardExchangeModel().setReinforcementPhaseActive(false);
+                    if (verbose) {
+                        results.add(
+                                String.format("%s, You can declare an attack or use \"attack -noattack\" to skip this phase.",
+                                        currentPlayer.getName()));
+                    }
                 }
                 break;
             }
             case ATTACK: {
                 if (currentPlayer.isAttackFinished()) {
-                    if (PlayersModel.getInstance().getPlayers().size() <= 1) {
+                    if (context.getPlayersModel().getPlayers().size() <= 1) {
                         finished = true;
                     } else {
                         if (currentPlayer.hasSuccessfulAttack()) {
@@ -241,6 +246,8 @@ public class PhaseModel extends Observable {
                         }
                         changePhase(PhaseTypes.FORTIFICATION);
                     }
+                } else if (!verbose) {
+                    break;
                 } else if (currentPlayer.canMoveAttack()) {
                     results.add(String.format(
                             "Congrats! %s, please move your army to your newly conquered country %s. You can use \"attackmove -num\" to move your armies.",
@@ -260,36 +267,70 @@ public class PhaseModel extends Observable {
             }
             case FORTIFICATION: {
                 if (currentPlayer.isFortificationFinished()) {
-                    PlayersModel.getInstance().giveTurnToAnotherPlayer();
-                    currentPlayer = PlayersModel.getInstance().getCurrentPlayer();
+                    context.getPlayersModel().giveTurnToAnotherPlayer();
+                    currentPlayer = context.getPlayersModel().getCurrentPlayer();
                     changePhase(PhaseTypes.REINFORCEMENT);
-                    CardExchangeModel.getInstance().setReinforcementPhaseActive(true);
+                    context.getCardExchangeModel().setReinforcementPhaseActive(true);
                     currentPlayer.calculateNumberOfReinforcementArmies();
-                    results.add(String.format(
-                            "Dear %s, Congratulations! You've got %d armies at this phase! You can place them wherever in your territory.",
-                            currentPlayer.getName(), currentPlayer.getUnplacedArmies()));
-                    results.add(String.format("[%s]",
-                            currentPlayer.getCountryNames().stream().collect(Collectors.joining(", "))));
+                    turnStarted();
+                    if (verbose) {
+                        addReinforcementMessages(results, currentPlayer);
+                    }
                 }
                 break;
             }
         }
-        if (maxNumberOfTurns != -1 && !finished && PlayersModel.getInstance().getNumberOfTurns() >= maxNumberOfTurns) {
+        // turns are counted from the end of the startup phase, placing initial armies does not count as a turn
+        if (maxNumberOfTurns != -1 && !finished && !currentPhase.equals(PhaseTypes.START_UP)
+                && context.getPlayersModel().getNumberOfTurns() >= maxNumberOfTurns) {
             draw = true;
             finished = true;
         }
+        if (currentPhase != previousPhase) {
+            context.journal(GameJournal.RecordType.PHASE_CHANGE);
+        }
         return results;
     }
 
+    /**
+     * Let the autosaver and the journal of the game, if any, know that a player starts a turn
+     */
+    private void turnStarted() {
+        GameAutosaver autosaver = context.getAutosaver();
+        if (autosaver != null) {
+            autosaver.turnStarted(context);
+        }
+        GameJournal journal = context.getJournal();
+        if (journal != null) {
+            journal.turnStarted(context);
+        }
+    }
+
+    /**
+     * Add the messages that give the reinforcement armies to a player
+     *
+     * @param results       the list that receives the messages
+     * @param currentPlayer the player who starts the reinforcement phase
+     */
+    private void addReinforcementMessages(List<String> results, Player currentPlayer) {
+        results.add(String.format(
+                "Dear %s, Congratulations! You've got %d armies at this phase! You can place them wherever in your territory.",
+                currentPlayer.getName(), currentPlayer.getUnplacedArmies()));
+        results.add(String.format("[%s]",
+                currentPlayer.getCountryNames().stream().collect(Collectors.joining(", "))));
+    }
+
     /**
      * @param phaseTypes type to change
      */
     private void changePhase(PhaseTypes phaseTypes) {
         phaseLog.clear();
         currentPhase = phaseTypes;
-        phaseLog.add(LocalTime.now() + " - " + phaseTypes.getName() + " phase has start");
+        if (!context.isHeadless()) {
+            phaseLog.add(LocalTime.now() + " - " + phaseTypes.getName() + " phase has start");
+        }
         setChanged();
-        notifyObservers(this);
+        notifyObservers();
     }
 
     /**
@@ -324,15 +365,24 @@ public class PhaseModel extends Observable {
         return sb.toString();
     }
 
+    /**
+     * @param arg the argument of the notification
+     * @return the status of the game when it is notified
+     */
+    @Override
+    protected Object snapshot(Object arg) {
+        return getPhaseStatus();
+    }
+
     /**
      * @param logs add this list to the list of the log
      */
     public void addPhaseLogs(List<String> logs) {
-        if (logs != null && !logs.isEmpty()) {
+        if (logs != null && !logs.isEmpty() && !context.isHeadless()) {
             LocalTime now = LocalTime.now();
             logs.stream().forEach(log -> phaseLog.add(now + " - " + log));
             setChanged();
-            notifyObservers(this);
+            notifyObservers();
         }
     }
 
@@ -343,40 +393,39 @@ public class PhaseModel extends Observable {
         if (allCountriesArePopulated) {
             throw new ValidationException("All countries are populated before!");
         }
-        int numberOfPlayers = PlayersModel.getInstance().getNumberOfPlayers();
+        int numberOfPlayers = context.getPlayersModel().getNumberOfPlayers();
         if (numberOfPlayers < 2) {
             throw new ValidationException("The game need at least Two players to start.");
         }
         if (numberOfPlayers > 6) {
             throw new ValidationException("Too Many Players! The Maximum number of player is 6.");
         }
-        Set<Country> countries = WorldMap.getInstance().getCountries();
+        List<Country> countries = new ArrayList<>(context.getWorldMap().getCountries());
         int numberOfCountries = countries.size();
         if (numberOfPlayers > numberOfCountries)
             throw new ValidationException(
                     "Too Many Players! Number of player must be equal or lower than number of countries in map!");
-        SecureRandom randomNumber = new SecureRandom();
+        RandomSource randomNumber = context.getRandom();
         int randomInt = randomNumber.nextInt(numberOfPlayers - 1);
         for (int i = 0; i < randomInt; i++) {
-            PlayersModel.getInstance().giveTurnToAnotherPlayer();
+            context.getPlayersModel().giveTurnToAnotherPlayer();
         }
         Player firstPlayer = getCurrentPlayer();
-        PlayersModel.getInstance().setFirstPlayer(firstPlayer);
+        context.getPlayersModel().setFirstPlayer(firstPlayer);
         while (!countries.isEmpty()) {
-            Country[] countryArray = new Country[countries.size()];
-            countryArray = countries.toArray(countryArray);
             int value = randomNumber.nextInt(countries.size());
-            Country country = countryArray[value];
+            Country country = countries.get(value);
 
             country.setOwner(getCurrentPlayer());
             country.placeOneArmy();
             getCurrentPlayer().addCountry(country);
-            countries.remove(country);
-            PlayersModel.getInstance().giveTurnToAnotherPlayer();
+            countries.set(value, countries.get(countries.size() - 1));
+            countries.remove(countries.size() - 1);
+            context.getPlayersModel().giveTurnToAnotherPlayer();
         }
-        PlayersModel.getInstance().giveTurnToFirstPlayer();
+        context.getPlayersModel().giveTurnToFirstPlayer();
         numberOfInitialArmies = calculateNumberOfInitialArmies(numberOfPlayers);
-        PlayersModel.getInstance().getPlayers()
+        context.getPlayersModel().getPlayers()
                 .forEach(player -> player.addUnplacedArmies(numberOfInitialArmies - player.getNumberOfCountries()));
         allCountriesArePopulated = true;
     }
@@ -420,8 +469,8 @@ public class PhaseModel extends Observable {
      * Phase Types
      */
     public enum PhaseTypes implements Serializable {
-        NONE("None", new HashSet<>(Arrays.asList(CommandType.LOAD_MAP, CommandType.LOAD_GAME, CommandType.EDIT_MAP))),
-        EDIT_MAP("Edit Map", new HashSet<>(Arrays.asList(CommandType.LOAD_MAP, CommandType.EDIT_CONTINENT, CommandType.EDIT_COUNTRY, CommandType.EDIT_NEIGHBOR, CommandType.SHOW_MAP, CommandType.SAVE_MAP, CommandType.VALIDATE_MAP))),
+        NONE("None", new HashSet<>(Arrays.asList(CommandType.LOAD_MAP, CommandType.LOAD_GAME, CommandType.EDIT_MAP, CommandType.GENERATE_MAP))),
+        EDIT_MAP("Edit Map", new HashSet<>(Arrays.asList(CommandType.LOAD_MAP, CommandType.EDIT_CONTINENT, CommandType.EDIT_COUNTRY, CommandType.EDIT_NEIGHBOR, CommandType.SHOW_MAP, CommandType.SAVE_MAP, CommandType.VALIDATE_MAP, CommandType.GENERATE_MAP))),
         START_UP("Startup", new HashSet<>(Arrays.asList(CommandType.SHOW_MAP, CommandType.GAME_PLAYER, CommandType.POPULATE_COUNTRIES, CommandType.PLACE_ARMY, CommandType.PLACE_ALL, CommandType.SAVE_GAME))),
         REINFORCEMENT("Reinforcement", new HashSet<>(Arrays.asList(CommandType.SHOW_MAP, CommandType.REINFORCE, CommandType.EXCHANGE_CARDS, CommandType.SAVE_GAME))),
         ATTACK("Attack", new HashSet<>(Arrays.asList(CommandType.SHOW_MAP, CommandType.ATTACK, CommandType.DEFEND, CommandType.ATTACK_MOVE, CommandType.SAVE_GAME))),
@@ -5,8 +5,11 @@ import ca.concordia.encs.conquerdia.model.player.Player;
 import ca.concordia.encs.conquerdia.util.Observable;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
@@ -14,10 +17,11 @@ import java.util.Set;
  * Players Information
  */
 public class PlayersModel extends Observable {
+
     /**
-     * current instance of this model
+     * The game that this model belongs to
      */
-    private static PlayersModel instance;
+    private final GameContext context;
 
     /**
      * Name of the players
@@ -40,32 +44,41 @@ public class PlayersModel extends Observable {
     private int numberOfTurns = -1;
 
     /**
-     * private Constructor to implementation of the Singleton Pattern
+     * The number of armies a player will get for cards is first 5, then increases
+     * by 5 every time any player does so (i.e. 5, 10, 15, …).
      */
-    private PlayersModel() {
+    private int numberOfArmiesForExchangeCard = 0;
+
+    /**
+     * Package-private constructor, the instance of each game is created by {@link GameContext}
+     *
+     * @param context the game that this model belongs to
+     */
+    PlayersModel(GameContext context) {
+        this.context = context;
     }
 
     /**
-     * This method is used for getting a single instance of the {@link PlayersModel}
+     * This method is used for getting the {@link PlayersModel} of the game bound to the current thread
      *
      * @return single instance of the {@link PlayersModel phase}
      */
     public static PlayersModel getInstance() {
-        if (instance == null) {
-            synchronized (PlayersModel.class) {
-                if (instance == null) {
-                    instance = new PlayersModel();
-                }
-            }
-        }
-        return instance;
+        return GameContext.current().getPlayersModel();
     }
 
     /**
      * Clear this model
      */
     public static void clear() {
-        instance = null;
+        GameContext.current().clearPlayersModel();
+    }
+
+    /**
+     * @return the game that this model belongs to
+     */
+    public GameContext getContext() {
+        return context;
     }
 
     /**
@@ -109,6 +122,36 @@ public class PlayersModel extends Observable {
         return numberOfTurns;
     }
 
+    /**
+     * @param numberOfTurns number of turns, such as the one of a restored game
+     */
+    public void setNumberOfTurns(int numberOfTurns) {
+        this.numberOfTurns = numberOfTurns;
+    }
+
+    /**
+     * @return the number of armies that the last card exchange of any player was worth, 0 if there was none
+     */
+    public int getNumberOfArmiesForExchangeCard() {
+        return numberOfArmiesForExchangeCard;
+    }
+
+    /**
+     * @param numberOfArmiesForExchangeCard the number of armies that the last card exchange of any player was worth,
+     *                                      such as the one of a restored game
+     */
+    public void setNumberOfArmiesForExchangeCard(int numberOfArmiesForExchangeCard) {
+        this.numberOfArmiesForExchangeCard = numberOfArmiesForExchangeCard;
+    }
+
+    /**
+     * @return the number of armies that the next card exchange of any player is worth
+     */
+    public int nextNumberOfArmiesForExchangeCard() {
+        numberOfArmiesForExchangeCard += 5;
+        return numberOfArmiesForExchangeCard;
+    }
+
     /**
      * @return number of players
      */
@@ -134,7 +177,7 @@ public class PlayersModel extends Observable {
         if (playerNames.contains(playerName)) {
             throw new ValidationException(String.format("Player with name \"%s\" is already exist.", playerName));
         }
-        Player player = Player.factory(playerName, strategy);
+        Player player = Player.factory(context, playerName, strategy);
         playerNames.add(playerName);
         players.add(player);
     }
@@ -169,6 +212,16 @@ public class PlayersModel extends Observable {
         numberOfTurns++;
     }
 
+    /**
+     * Give turn to the next player that still has unplaced armies, in the startup phase
+     */
+    public void giveTurnToPlayerWithUnplacedArmies() {
+        giveTurnToAnotherPlayer();
+        while (isThereAnyUnplacedArmy() && getCurrentPlayer().getUnplacedArmies() <= 0) {
+            giveTurnToAnotherPlayer();
+        }
+    }
+
     /**
      * Give turn to the first player
      */
@@ -183,7 +236,7 @@ public class PlayersModel extends Observable {
      * @return true if there is any player with unplaced army
      */
     public boolean isThereAnyUnplacedArmy() {
-        return PlayersModel.getInstance().getPlayers().stream().filter(player -> player.getUnplacedArmies() > 0).count() > 0;
+        return players.stream().filter(player -> player.getUnplacedArmies() > 0).count() > 0;
     }
 
     //
@@ -191,4 +244,87 @@ public class PlayersModel extends Observable {
         setChanged();
         notifyObservers();
     }
+
+    /**
+     * @param arg the argument of the notification
+     * @return the domination of each player when it is notified, in the order of the players
+     */
+    @Override
+    protected Object snapshot(Object arg) {
+        int numberOfAllCountries = context.getWorldMap().getNumberOfCountries();
+        List<Domination> dominations = new ArrayList<>(players.size());
+        for (Player player : players) {
+            dominations.add(new Domination(player.getName(),
+                    numberOfAllCountries == 0 ? 0 : player.getNumberOfCountries() * 100 / numberOfAllCountries,
+                    new ArrayList<>(player.getContinentNames()), player.getTotalNumberOfArmies()));
+        }
+        return Collections.unmodifiableList(dominations);
+    }
+
+    /**
+     * What a player controls, as the players world domination view shows it
+     */
+    public static final class Domination {
+        /**
+         * name of the player
+         */
+        private final String playerName;
+
+        /**
+         * percentage of the countries of the map owned by the player
+         */
+        private final int percentageOfMap;
+
+        /**
+         * name of the continents owned by the player
+         */
+        private final List<String> continentNames;
+
+        /**
+         * total number of armies of the player
+         */
+        private final int totalNumberOfArmies;
+
+        /**
+         * @param playerName          name of the player
+         * @param percentageOfMap     percentage of the countries of the map owned by the player
+         * @param continentNames      name of the continents owned by the player
+         * @param totalNumberOfArmies total number of armies of the player
+         */
+        private Domination(String playerName, int percentageOfMap, List<String> continentNames,
+                           int totalNumberOfArmies) {
+            this.playerName = playerName;
+            this.percentageOfMap = percentageOfMap;
+            this.continentNames = Collections.unmodifiableList(continentNames);
+            this.totalNumberOfArmies = totalNumberOfArmies;
+        }
+
+        /**
+         * @return name of the player
+         */
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        /**
+         * @return percentage of the countries of the map owned by the player
+         */
+        public int getPercentageOfMap() {
+            return percentageOfMap;
+        }
+
+        /**
+         * @return name of the continents owned by the player
+         */
+        public List<String> getContinentNames() {
+            return continentNames;
+        }
+
+        /**
+         * @return total number of armies of the player
+         */
+        public int getTotalNumberOfArmies() {
+            return totalNumberOfArmies;
+        }
+    }
 }
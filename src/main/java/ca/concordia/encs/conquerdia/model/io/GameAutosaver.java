@@ -0,0 +1,218 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.CommandResultModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
+
+/**
+ * Saves a game automatically at the start of its turns, see {@link GameContext#setAutosaver(GameAutosaver)}.
+ * <p>
+ * The game thread only captures a {@link GameSnapshot}, which copies the owners and the armies of the countries, the
+ * players and the phase into a few arrays. The snapshot is written and synced on a background thread while the game
+ * goes on. If the game starts another turn before the last snapshot is written, the waiting snapshot is replaced by
+ * the new one. The snapshots are written in turn to a rolling set of files named
+ * <code>fileName.1.snapshot</code> to <code>fileName.N.snapshot</code>, so a crash while a file is written still
+ * leaves the previous snapshots, and each of them can be loaded with <code>loadgame fileName.i</code>.
+ * <p>
+ * A game that cannot be captured is reported to the players through the {@link CommandResultModel} at once, and a
+ * snapshot that cannot be written at the start of the next turn. The error is kept until a snapshot is written again,
+ * see {@link #getLastError()}.
+ */
+public class GameAutosaver implements AutoCloseable {
+	/**
+	 * Base name of the snapshot files
+	 */
+	private final String fileName;
+
+	/**
+	 * Number of snapshot files that are kept
+	 */
+	private final int numberOfSnapshots;
+
+	/**
+	 * Number of turns between two snapshots
+	 */
+	private final int turnsBetweenSnapshots;
+
+	/**
+	 * The snapshot that is captured but not written yet, null if there is none
+	 */
+	private final AtomicReference<GameSnapshot> pending = new AtomicReference<>();
+
+	/**
+	 * The single thread that writes the snapshots
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Number of turns started since the last snapshot, only used by the game thread
+	 */
+	private int turnsSinceLastSnapshot;
+
+	/**
+	 * Number of snapshots written, only used by the thread that writes them
+	 */
+	private int numberOfWrittenSnapshots;
+
+	/**
+	 * Name of the last snapshot written, without its extension, null if there is none
+	 */
+	private volatile String lastSnapshotFileName;
+
+	/**
+	 * The error of the last snapshot if it could not be written, null if it was written
+	 */
+	private volatile ValidationException lastError;
+
+	/**
+	 * The error of a snapshot that is not reported to the players yet, null if there is none
+	 */
+	private final AtomicReference<ValidationException> unreportedError = new AtomicReference<>();
+
+	/**
+	 * Create an autosaver that saves every turn
+	 *
+	 * @param fileName          base name of the snapshot files
+	 * @param numberOfSnapshots number of snapshot files that are kept
+	 * @throws ValidationException if the number of snapshots is not positive
+	 */
+	public GameAutosaver(String fileName, int numberOfSnapshots) throws ValidationException {
+		this(fileName, numberOfSnapshots, 1);
+	}
+
+	/**
+	 * @param fileName              base name of the snapshot files
+	 * @param numberOfSnapshots     number of snapshot files that are kept
+	 * @param turnsBetweenSnapshots number of turns between two snapshots
+	 * @throws ValidationException if a number is not positive
+	 */
+	public GameAutosaver(String fileName, int numberOfSnapshots, int turnsBetweenSnapshots)
+			throws ValidationException {
+		if (numberOfSnapshots < 1 || turnsBetweenSnapshots < 1) {
+			throw new ValidationException("The number of autosaves and of turns between them must be positive.");
+		}
+		this.fileName = fileName;
+		this.numberOfSnapshots = numberOfSnapshots;
+		this.turnsBetweenSnapshots = turnsBetweenSnapshots;
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "game-autosaver");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Called on the game thread when a player starts a turn. Capture a snapshot of the game if it is time to, and
+	 * queue it to be written.
+	 *
+	 * @param context the game
+	 */
+	public void turnStarted(GameContext context) {
+		ValidationException error = unreportedError.getAndSet(null);
+		if (error != null) {
+			report(context, error);
+		}
+		if (++turnsSinceLastSnapshot < turnsBetweenSnapshots) {
+			return;
+		}
+		turnsSinceLastSnapshot = 0;
+		GameSnapshot snapshot;
+		try {
+			snapshot = GameSnapshot.capture(context);
+		} catch (ValidationException e) {
+			lastError = e;
+			report(context, e);
+			return;
+		}
+		if (pending.getAndSet(snapshot) == null) {
+			executor.execute(this::writePending);
+		}
+	}
+
+	/**
+	 * Show an error of the autosaver to the players
+	 *
+	 * @param context the game
+	 * @param error   the error
+	 */
+	private void report(GameContext context, ValidationException error) {
+		context.getCommandResultModel().addResult("The game cannot be saved automatically: " + error.getMessage());
+	}
+
+	/**
+	 * Write the last snapshot captured, to the oldest file of the rolling set
+	 */
+	private void writePending() {
+		GameSnapshot snapshot = pending.getAndSet(null);
+		if (snapshot == null) {
+			return;
+		}
+		String snapshotFileName = getSnapshotFileName(numberOfWrittenSnapshots % numberOfSnapshots + 1);
+		try {
+			snapshot.write(Paths.get(snapshotFileName + GameSnapshot.FILE_EXTENSION), true);
+			numberOfWrittenSnapshots++;
+			lastSnapshotFileName = snapshotFileName;
+			lastError = null;
+		} catch (ValidationException e) {
+			lastError = e;
+			unreportedError.set(e);
+		}
+	}
+
+	/**
+	 * @param index index of the snapshot file, from 1 to the number of snapshots
+	 * @return the name of the snapshot file, without its extension
+	 */
+	public String getSnapshotFileName(int index) {
+		return fileName + "." + index;
+	}
+
+	/**
+	 * @return the name of the last snapshot written, without its extension, null if there is none
+	 */
+	public String getLastSnapshotFileName() {
+		return lastSnapshotFileName;
+	}
+
+	/**
+	 * @return the error of the last snapshot if it could not be written, null if it was written or there is none
+	 */
+	public ValidationException getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * Wait until the snapshots captured before this call are written
+	 *
+	 * @throws InterruptedException when the current thread is interrupted while waiting
+	 */
+	public void flush() throws InterruptedException {
+		try {
+			executor.submit(() -> {
+			}).get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Write the pending snapshot and stop the thread of the autosaver. The thread is a daemon, so this waits for the
+	 * last snapshot to be written before the game exits.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
@@ -11,6 +12,7 @@ import java.util.Set;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.Battle;
 import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
 import ca.concordia.encs.conquerdia.model.PhaseModel.PhaseTypes;
 import ca.concordia.encs.conquerdia.model.PlayersModel;
@@ -43,14 +45,36 @@ public class GameIO {
 		return saveGameLog;
 	}
 	/**
-	 * 
+	 * Save the game in the compact binary format of {@link GameSnapshot}
+	 *
+	 * @param fileName the filename to save the game state
+	 * @return Returns the result of the game state save
+	 * @throws ValidationException
+	 */
+	public String saveGameSnapshot(String fileName) throws ValidationException {
+		GameSnapshot.capture(GameContext.current()).write(Paths.get(fileName + GameSnapshot.FILE_EXTENSION));
+		return "Game state was saved in the " + fileName + GameSnapshot.FILE_EXTENSION
+				+ " file successfuly! You can Exit the game.";
+	}
+	/**
+	 * Load a game from its binary snapshot and the journal that follows it, if they exist and are not older than its
+	 * text state file, else from the text state file.
+	 *
 	 * @param fileName the filename to load the game
 	 * @return message that shows the game load state.
 	 * @throws Exception
 	 */
 	public List<String> loadGame(String fileName) throws Exception {
-		gameStateIO.setBuilder(new GameLoaderBuilder(fileName));
-		gameStateIO.constructGameState();
+		File snapshotFile = new File(fileName + GameSnapshot.FILE_EXTENSION);
+		File journalFile = new File(fileName + GameJournal.FILE_EXTENSION);
+		File stateFile = new File(fileName + ".state");
+		if (snapshotFile.isFile() && Math.max(snapshotFile.lastModified(), journalFile.lastModified()) >= stateFile
+				.lastModified()) {
+			GameJournal.load(fileName, GameContext.current());
+		} else {
+			gameStateIO.setBuilder(new GameLoaderBuilder(fileName));
+			gameStateIO.constructGameState();
+		}
 		List<String> message = new ArrayList<String>();
 		message.add(("Game is Loaded Successfuly!"));
 		return message;
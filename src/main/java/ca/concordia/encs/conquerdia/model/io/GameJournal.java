@@ -0,0 +1,750 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.CommandResultModel;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.PhaseModel.PhaseTypes;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.player.Player;
+import ca.concordia.encs.conquerdia.model.io.GameSnapshot.PlayerState;
+
+/**
+ * An append-only journal of the actions of a game, paired with a full {@link GameSnapshot}, see
+ * {@link GameContext#setJournal(GameJournal)}.
+ * <p>
+ * After each action the game thread appends one small record: the type of the action, the phase, the players and the
+ * battle, and only the countries that the action has changed, which the journal learns from
+ * {@link Country#setChangeListener}. The records keep the values after the action rather than the choices of the
+ * players, so they are replayed without rolling any dice. A background thread writes the records through a
+ * {@link FileChannel} and syncs them: the records that are appended while it syncs are written and synced together
+ * with the next sync.
+ * <p>
+ * Every few turns, and whenever the map or the players are replaced, the journal writes a new
+ * <code>fileName.snapshot</code> and starts <code>fileName.journal</code> again. The journal starts with the checksum
+ * of its snapshot, so {@link #load(String, GameContext)} only replays the records that follow the snapshot, and it
+ * stops at the first record that is cut or damaged by a crash.
+ * <p>
+ * When a snapshot or a record cannot be captured or written, the journal file is closed and no more records are
+ * recorded, since they would not follow the snapshot on the disk. The error is reported to the players through the
+ * {@link CommandResultModel} at the start of the next turn, and the journal starts again from a new snapshot, see
+ * {@link #getLastError()}.
+ */
+public class GameJournal implements AutoCloseable {
+	/**
+	 * The types of the records of the journal
+	 */
+	public enum RecordType {
+		/**
+		 * Initial armies are placed
+		 */
+		PLACE_ARMY,
+		/**
+		 * Reinforcement armies are placed
+		 */
+		REINFORCE,
+		/**
+		 * A round or an all out attack is resolved
+		 */
+		ATTACK,
+		/**
+		 * Armies are moved to a conquered country
+		 */
+		ATTACK_MOVE,
+		/**
+		 * Armies are moved between two countries of a player
+		 */
+		FORTIFY,
+		/**
+		 * Cards are exchanged for armies
+		 */
+		CARD_EXCHANGE,
+		/**
+		 * The phase has changed
+		 */
+		PHASE_CHANGE,
+		/**
+		 * The players or the countries are set up before the game starts
+		 */
+		SETUP,
+	}
+
+	/**
+	 * Extension of the journal files
+	 */
+	public static final String FILE_EXTENSION = ".journal";
+
+	/**
+	 * First int of every journal file, "CQJL"
+	 */
+	private static final int MAGIC = 0x43514A4C;
+
+	/**
+	 * Version of the binary format
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Length of the header of a journal file: magic, version and checksum of its snapshot
+	 */
+	private static final int HEADER_LENGTH = 12;
+
+	/**
+	 * Base name of the snapshot and the journal files
+	 */
+	private final String fileName;
+
+	/**
+	 * Number of turns between two snapshots
+	 */
+	private final int turnsBetweenSnapshots;
+
+	/**
+	 * The records and the snapshots that are not written yet, in order
+	 */
+	private final List<Object> pending = new ArrayList<>();
+
+	/**
+	 * The single thread that writes the records and the snapshots
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * true if a write of the pending entries is queued
+	 */
+	private boolean writeScheduled;
+
+	/**
+	 * The countries of the last snapshot sorted by name, the index of a country is its id. Only used by the game
+	 * thread, like the fields below.
+	 */
+	private Country[] countries;
+
+	/**
+	 * The ids of the countries of the last snapshot
+	 */
+	private final Map<Country, Integer> countryIds = new IdentityHashMap<>();
+
+	/**
+	 * The players of the last snapshot, the index of a player is its id in the records
+	 */
+	private Player[] players;
+
+	/**
+	 * true for the ids of the countries that changed since the last record
+	 */
+	private boolean[] dirty;
+
+	/**
+	 * The ids of the countries that changed since the last record
+	 */
+	private int[] dirtyIds;
+
+	/**
+	 * Number of ids in {@link #dirtyIds}
+	 */
+	private int numberOfDirty;
+
+	/**
+	 * Number of turns started since the last snapshot
+	 */
+	private int turnsSinceLastSnapshot;
+
+	/**
+	 * The journal file that is being appended to, only used by the thread that writes
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The error of the last write if it failed, null if it succeeded
+	 */
+	private volatile ValidationException lastError;
+
+	/**
+	 * The error of a write that is not reported to the players yet, null if there is none. No record is recorded
+	 * while it is set.
+	 */
+	private final AtomicReference<ValidationException> unreportedError = new AtomicReference<>();
+
+	/**
+	 * @param fileName              base name of the snapshot and the journal files
+	 * @param turnsBetweenSnapshots number of turns between two snapshots
+	 * @throws ValidationException if the number of turns is not positive
+	 */
+	public GameJournal(String fileName, int turnsBetweenSnapshots) throws ValidationException {
+		if (turnsBetweenSnapshots < 1) {
+			throw new ValidationException("The number of turns between two snapshots must be positive.");
+		}
+		this.fileName = fileName;
+		this.turnsBetweenSnapshots = turnsBetweenSnapshots;
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "game-journal");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Called on the game thread after an action is applied. Append a record of the action, or write a new snapshot
+	 * if one is due or if the map or the players have been replaced since the last one.
+	 *
+	 * @param type    the type of the action
+	 * @param context the game
+	 */
+	public void record(RecordType type, GameContext context) {
+		if (!context.getWorldMap().isMapLoaded() || unreportedError.get() != null) {
+			return;
+		}
+		try {
+			if (countries == null || turnsSinceLastSnapshot >= turnsBetweenSnapshots || isReplaced(context)) {
+				snapshot(context);
+			} else {
+				enqueue(encodeRecord(type, context));
+			}
+		} catch (ValidationException e) {
+			keepError(e);
+		}
+	}
+
+	/**
+	 * @param type    the type of the action
+	 * @param context the game
+	 * @return the bytes of the record of the action
+	 * @throws ValidationException if a country of the game cannot be packed
+	 */
+	private byte[] encodeRecord(RecordType type, GameContext context) throws ValidationException {
+		PhaseModel phaseModel = context.getPhaseModel();
+		Player[] queue = context.getPlayersModel().getPlayers().toArray(new Player[0]);
+		PlayerState[] playerStates = new PlayerState[queue.length];
+		int size = 1 + 4 + 4 + 1 + 4 + 4 + 1 + 1 + 1 + 4 + 8 * numberOfDirty;
+		for (int i = 0; i < queue.length; i++) {
+			playerStates[i] = new PlayerState(queue[i]);
+			size += 1 + playerStates[i].size();
+		}
+		int[] battle = GameSnapshot.battle(countries, queue.length == 0 ? null : queue[0]);
+		if (battle != null) {
+			size += 4 * battle.length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(4 + size + 4);
+		buffer.putInt(size);
+		buffer.put((byte) type.ordinal());
+		PhaseTypes currentPhase = phaseModel.getCurrentPhase();
+		buffer.putInt(currentPhase == null ? -1 : currentPhase.ordinal());
+		buffer.putInt(phaseModel.getNumberOfInitialArmies());
+		buffer.put((byte) (phaseModel.isAllCountriesArePopulated() ? 1 : 0));
+		buffer.putInt(context.getPlayersModel().getNumberOfTurns());
+		buffer.putInt(context.getPlayersModel().getNumberOfArmiesForExchangeCard());
+		buffer.put((byte) idOf(context.getPlayersModel().getFirstPlayer()));
+		buffer.put((byte) queue.length);
+		for (int i = 0; i < queue.length; i++) {
+			buffer.put((byte) idOf(queue[i]));
+			playerStates[i].encode(buffer);
+		}
+		buffer.put((byte) (battle == null ? 0 : 1));
+		if (battle != null) {
+			for (int value : battle) {
+				buffer.putInt(value);
+			}
+		}
+		buffer.putInt(numberOfDirty);
+		for (int i = 0; i < numberOfDirty; i++) {
+			int id = dirtyIds[i];
+			Country country = countries[id];
+			buffer.putInt(id);
+			buffer.putInt(GameSnapshot.pack(idOf(country.getOwner()), country));
+			dirty[id] = false;
+		}
+		numberOfDirty = 0;
+		buffer.putInt(checksum(buffer.array(), 4, size));
+		return buffer.array();
+	}
+
+	/**
+	 * Called on the game thread when a player starts a turn, a snapshot is written with the next record when it is
+	 * due. A write error is reported here, and the journal starts again from a snapshot at the next record.
+	 *
+	 * @param context the game
+	 */
+	public void turnStarted(GameContext context) {
+		ValidationException error = unreportedError.getAndSet(null);
+		if (error != null) {
+			context.getCommandResultModel().addResult("The game cannot be journaled: " + error.getMessage());
+			countries = null;
+		}
+		turnsSinceLastSnapshot++;
+	}
+
+	/**
+	 * @param context the game
+	 * @return true if the countries or the players of the game are not the ones of the last snapshot
+	 */
+	private boolean isReplaced(GameContext context) {
+		WorldMap worldMap = context.getWorldMap();
+		if (worldMap.getNumberOfCountries() != countries.length
+				|| countries.length > 0 && worldMap.getCountry(countries[0].getName()) != countries[0]) {
+			return true;
+		}
+		for (Player player : context.getPlayersModel().getPlayers()) {
+			if (idOf(player) < 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Capture a snapshot of the game, queue it to be written, and start recording the changes of its countries
+	 *
+	 * @param context the game
+	 * @throws ValidationException if the game cannot be captured
+	 */
+	private void snapshot(GameContext context) throws ValidationException {
+		GameSnapshot snapshot = GameSnapshot.capture(context);
+		countries = GameSnapshot.sortedCountries(context.getWorldMap());
+		players = context.getPlayersModel().getPlayers().toArray(new Player[0]);
+		countryIds.clear();
+		for (int id = 0; id < countries.length; id++) {
+			countryIds.put(countries[id], id);
+			countries[id].setChangeListener(this::countryChanged);
+		}
+		dirty = new boolean[countries.length];
+		dirtyIds = new int[countries.length];
+		numberOfDirty = 0;
+		turnsSinceLastSnapshot = 0;
+		enqueue(snapshot);
+	}
+
+	/**
+	 * Remember that a country has changed since the last record
+	 *
+	 * @param country the country
+	 */
+	private void countryChanged(Country country) {
+		Integer id = countryIds.get(country);
+		if (id != null && !dirty[id]) {
+			dirty[id] = true;
+			dirtyIds[numberOfDirty++] = id;
+		}
+	}
+
+	/**
+	 * @param player a player or null
+	 * @return the id of the player in the last snapshot, -1 if the player is null or not found
+	 */
+	private int idOf(Player player) {
+		for (int id = 0; id < players.length; id++) {
+			if (players[id] == player) {
+				return id;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Queue a record or a snapshot to be written
+	 *
+	 * @param entry the bytes of a record or a snapshot
+	 */
+	private synchronized void enqueue(Object entry) {
+		pending.add(entry);
+		if (!writeScheduled) {
+			writeScheduled = true;
+			executor.execute(this::writePending);
+		}
+	}
+
+	/**
+	 * Write the pending entries in order. The consecutive records are written together and synced once. After an
+	 * error the journal file is closed, and the records are dropped until the game thread queues a new snapshot.
+	 */
+	private void writePending() {
+		List<Object> entries;
+		synchronized (this) {
+			entries = new ArrayList<>(pending);
+			pending.clear();
+			writeScheduled = false;
+		}
+		List<ByteBuffer> records = new ArrayList<>();
+		try {
+			for (Object entry : entries) {
+				if (entry instanceof GameSnapshot) {
+					commit(records);
+					writeSnapshot((GameSnapshot) entry);
+				} else {
+					records.add(ByteBuffer.wrap((byte[]) entry));
+				}
+			}
+			commit(records);
+		} catch (IOException e) {
+			fail(new ValidationException(
+					String.format("The journal \"%s\" cannot be written: %s", fileName, e.getMessage())));
+		} catch (ValidationException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * Keep an error until it is reported on the game thread, no record is recorded until then
+	 *
+	 * @param error the error
+	 */
+	private void keepError(ValidationException error) {
+		lastError = error;
+		unreportedError.set(error);
+	}
+
+	/**
+	 * Close the journal file after a write error and keep the error for the game thread
+	 *
+	 * @param error the error
+	 */
+	private void fail(ValidationException error) {
+		try {
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+			// the journal file is dropped anyway
+		}
+		channel = null;
+		keepError(error);
+	}
+
+	/**
+	 * Append records to the journal file and sync them, the records are dropped if the journal file is closed after
+	 * an error
+	 *
+	 * @param records the records, the list is cleared
+	 * @throws IOException if the records cannot be written
+	 */
+	private void commit(List<ByteBuffer> records) throws IOException {
+		if (records.isEmpty() || channel == null) {
+			records.clear();
+			return;
+		}
+		ByteBuffer[] buffers = records.toArray(new ByteBuffer[0]);
+		long remaining = 0;
+		for (ByteBuffer buffer : buffers) {
+			remaining += buffer.remaining();
+		}
+		while (remaining > 0) {
+			remaining -= channel.write(buffers);
+		}
+		channel.force(false);
+		records.clear();
+	}
+
+	/**
+	 * Replace the snapshot file with a new snapshot, then start a new journal file that follows it
+	 *
+	 * @param snapshot the snapshot
+	 * @throws IOException         if a file cannot be written
+	 * @throws ValidationException if the snapshot cannot be written
+	 */
+	private void writeSnapshot(GameSnapshot snapshot) throws IOException, ValidationException {
+		Path snapshotPath = Paths.get(fileName + GameSnapshot.FILE_EXTENSION);
+		Path temporaryPath = Paths.get(fileName + GameSnapshot.FILE_EXTENSION + ".tmp");
+		snapshot.write(temporaryPath, true);
+		Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+		channel = FileChannel.open(Paths.get(fileName + FILE_EXTENSION), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+		header.putInt(MAGIC).putInt(VERSION).putInt(snapshot.getChecksum());
+		header.flip();
+		while (header.hasRemaining()) {
+			channel.write(header);
+		}
+		channel.force(false);
+		lastError = null;
+	}
+
+	/**
+	 * @return the error of the last write if it failed, null if it succeeded or there was none
+	 */
+	public ValidationException getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * Wait until the records and the snapshots queued before this call are written and synced
+	 *
+	 * @throws InterruptedException when the current thread is interrupted while waiting
+	 */
+	public void flush() throws InterruptedException {
+		try {
+			executor.submit(() -> {
+			}).get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Write the pending records, stop the thread of the journal and close the journal file
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+			lastError = new ValidationException(
+					String.format("The journal \"%s\" cannot be closed: %s", fileName, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Load a game from its snapshot file and replay the records of its journal file that follow the snapshot
+	 *
+	 * @param fileName base name of the snapshot and the journal files
+	 * @param context  the game to load
+	 * @return number of records replayed
+	 * @throws ValidationException if the snapshot cannot be loaded
+	 */
+	public static int load(String fileName, GameContext context) throws ValidationException {
+		GameSnapshot snapshot = GameSnapshot.read(Paths.get(fileName + GameSnapshot.FILE_EXTENSION));
+		Path journalPath = Paths.get(fileName + FILE_EXTENSION);
+		int numberOfRecords = 0;
+		if (Files.isRegularFile(journalPath)) {
+			ByteBuffer journal;
+			try {
+				journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+			} catch (IOException e) {
+				throw new ValidationException(journalPath + " cannot be read: " + e.getMessage());
+			}
+			if (journal.remaining() >= HEADER_LENGTH && journal.getInt(0) == MAGIC && journal.getInt(4) == VERSION
+					&& journal.getInt(8) == snapshot.getChecksum()) {
+				Replay replay = new Replay(snapshot);
+				journal.position(HEADER_LENGTH);
+				while (replay.apply(journal)) {
+					numberOfRecords++;
+				}
+				snapshot = replay.toSnapshot();
+			}
+		}
+		snapshot.restore(context);
+		return numberOfRecords;
+	}
+
+	/**
+	 * @param bytes  the content
+	 * @param offset start of the content to check
+	 * @param length length of the content to check
+	 * @return the CRC32 of the content
+	 */
+	private static int checksum(byte[] bytes, int offset, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, offset, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * The state of a game while the records of its journal are replayed on its snapshot
+	 */
+	private static final class Replay {
+		/**
+		 * The snapshot that the records follow
+		 */
+		private final GameSnapshot snapshot;
+
+		/**
+		 * The players of the snapshot, the index of a player is its id in the records
+		 */
+		private final PlayerState[] players;
+
+		/**
+		 * The ids of the players in the order of their turns
+		 */
+		private int[] queue;
+
+		/**
+		 * The packed countries, their owner is the id of a player
+		 */
+		private final int[] countries;
+
+		/**
+		 * id of the first player, -1 if there is none
+		 */
+		private int firstPlayer;
+
+		/**
+		 * Current phase of the game
+		 */
+		private PhaseTypes currentPhase;
+
+		/**
+		 * Number of initial armies of each player
+		 */
+		private int numberOfInitialArmies;
+
+		/**
+		 * true if the countries are given to the players
+		 */
+		private boolean allCountriesArePopulated;
+
+		/**
+		 * Number of turns played
+		 */
+		private int numberOfTurns;
+
+		/**
+		 * Number of armies that the last card exchange was worth
+		 */
+		private int numberOfArmiesForExchangeCard;
+
+		/**
+		 * The battle of the current player, null if there is none
+		 */
+		private int[] battle;
+
+		/**
+		 * @param snapshot the snapshot that the records follow
+		 */
+		private Replay(GameSnapshot snapshot) {
+			this.snapshot = snapshot;
+			players = snapshot.getPlayers();
+			queue = new int[players.length];
+			for (int id = 0; id < queue.length; id++) {
+				queue[id] = id;
+			}
+			countries = snapshot.getCountries();
+			firstPlayer = snapshot.getFirstPlayer();
+			currentPhase = snapshot.getCurrentPhase();
+			numberOfInitialArmies = snapshot.getNumberOfInitialArmies();
+			allCountriesArePopulated = snapshot.isAllCountriesArePopulated();
+			numberOfTurns = snapshot.getNumberOfTurns();
+			numberOfArmiesForExchangeCard = snapshot.getNumberOfArmiesForExchangeCard();
+			battle = snapshot.getBattle();
+		}
+
+		/**
+		 * Apply the next record of a journal
+		 *
+		 * @param journal the journal, positioned at the start of a record
+		 * @return false if there is no complete and valid record left
+		 */
+		private boolean apply(ByteBuffer journal) {
+			if (journal.remaining() < 8) {
+				return false;
+			}
+			int start = journal.position();
+			int size = journal.getInt(start);
+			if (size <= 0 || size > journal.remaining() - 8
+					|| journal.getInt(start + 4 + size) != checksum(journal.array(), start + 4, size)) {
+				return false;
+			}
+			ByteBuffer record = ByteBuffer.wrap(journal.array(), start + 4, size);
+			try {
+				record.get();
+				int phase = record.getInt();
+				PhaseTypes recordPhase = phase < 0 ? null : PhaseTypes.values()[phase];
+				int recordInitialArmies = record.getInt();
+				boolean recordPopulated = record.get() != 0;
+				int recordNumberOfTurns = record.getInt();
+				int recordArmiesForExchangeCard = record.getInt();
+				int recordFirstPlayer = record.get();
+				int[] recordQueue = new int[record.get()];
+				PlayerState[] recordPlayers = new PlayerState[recordQueue.length];
+				for (int i = 0; i < recordQueue.length; i++) {
+					recordQueue[i] = record.get();
+					recordPlayers[i] = PlayerState.decode(record);
+					if (recordQueue[i] < 0 || recordQueue[i] >= players.length) {
+						return false;
+					}
+				}
+				int[] recordBattle = null;
+				if (record.get() != 0) {
+					recordBattle = new int[6];
+					for (int i = 0; i < recordBattle.length; i++) {
+						recordBattle[i] = record.getInt();
+					}
+				}
+				int numberOfChanges = record.getInt();
+				int[] changedIds = new int[numberOfChanges];
+				int[] changedCountries = new int[numberOfChanges];
+				for (int i = 0; i < numberOfChanges; i++) {
+					changedIds[i] = record.getInt();
+					changedCountries[i] = record.getInt();
+					int owner = GameSnapshot.ownerOf(changedCountries[i]);
+					if (changedIds[i] < 0 || changedIds[i] >= countries.length || owner >= players.length) {
+						return false;
+					}
+				}
+
+				currentPhase = recordPhase;
+				numberOfInitialArmies = recordInitialArmies;
+				allCountriesArePopulated = recordPopulated;
+				numberOfTurns = recordNumberOfTurns;
+				numberOfArmiesForExchangeCard = recordArmiesForExchangeCard;
+				firstPlayer = recordFirstPlayer;
+				queue = recordQueue;
+				for (int i = 0; i < recordQueue.length; i++) {
+					players[recordQueue[i]] = recordPlayers[i];
+				}
+				battle = recordBattle;
+				for (int i = 0; i < numberOfChanges; i++) {
+					countries[changedIds[i]] = changedCountries[i];
+				}
+			} catch (RuntimeException e) {
+				return false;
+			}
+			journal.position(start + 4 + size + 4);
+			return true;
+		}
+
+		/**
+		 * @return the snapshot of the replayed game, with its players in the order of their turns
+		 */
+		private GameSnapshot toSnapshot() {
+			int[] positions = new int[players.length];
+			Arrays.fill(positions, -1);
+			PlayerState[] queuePlayers = new PlayerState[queue.length];
+			for (int i = 0; i < queue.length; i++) {
+				positions[queue[i]] = i;
+				queuePlayers[i] = players[queue[i]];
+			}
+			int[] queueCountries = new int[countries.length];
+			for (int id = 0; id < countries.length; id++) {
+				int owner = GameSnapshot.ownerOf(countries[id]);
+				queueCountries[id] = GameSnapshot.withOwner(countries[id], owner < 0 ? -1 : positions[owner]);
+			}
+			return new GameSnapshot(snapshot.getMapFileName(), snapshot.getMapFingerprint(),
+					snapshot.getMapTopology(), currentPhase, numberOfInitialArmies, allCountriesArePopulated,
+					numberOfTurns, numberOfArmiesForExchangeCard, queuePlayers, firstPlayer < 0 ? -1 : positions[firstPlayer], queueCountries, battle);
+		}
+	}
+}
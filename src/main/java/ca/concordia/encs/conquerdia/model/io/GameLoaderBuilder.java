@@ -192,7 +192,6 @@ public class GameLoaderBuilder extends GameStateBuilder {
                 			 }
                 			 
                 			 player.setUnplacedArmies(Integer.parseInt(csvPlayer[11]));
-                			 player.setTotalNumberOfArmies(Integer.parseInt(csvPlayer[12]));
                 			 players.add(player);
                 			 line = reader.readLine();
                 		}
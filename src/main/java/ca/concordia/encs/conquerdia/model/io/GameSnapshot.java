@@ -0,0 +1,839 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.zip.CRC32;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.Battle;
+import ca.concordia.encs.conquerdia.model.Battle.BattleState;
+import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.PhaseModel.PhaseTypes;
+import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.map.Continent;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.map.io.BinaryMapFile;
+import ca.concordia.encs.conquerdia.model.map.io.MapTopology;
+import ca.concordia.encs.conquerdia.model.player.Player;
+
+/**
+ * An immutable copy of the state of a game, in a compact binary form.
+ * <p>
+ * The map is kept as its {@link MapTopology}, in the form of a compiled map file, so a game is restored without
+ * reading or parsing the map file, which may also have changed since. A fingerprint of the continents, countries and
+ * borders checks the restored map. The id of a country is its index in the countries of the map sorted by name, and
+ * each country is kept as one packed int with its owner, its armies and its attack declared flag, so a game with a
+ * country of more than {@link #MAX_ARMIES} armies or with more than {@link #MAX_PLAYERS} players cannot be captured.
+ * A snapshot file is the version, the packed state and a CRC32 of the whole content, so a file that is cut or written by another version is rejected instead of loaded
+ * halfway. The text <code>.state</code> file of {@link GameIO} stays the readable form of a saved game.
+ */
+public final class GameSnapshot {
+	/**
+	 * Extension of the snapshot files
+	 */
+	public static final String FILE_EXTENSION = ".snapshot";
+
+	/**
+	 * First int of every snapshot file, "CQSS"
+	 */
+	private static final int MAGIC = 0x43515353;
+
+	/**
+	 * Version of the binary format
+	 */
+	private static final int VERSION = 3;
+
+	/**
+	 * Owner index of a country that nobody owns
+	 */
+	private static final int NO_OWNER = 0xFF;
+
+	/**
+	 * Bit of a packed country for its attack declared flag
+	 */
+	private static final int ATTACK_DECLARED_BIT = 1 << 23;
+
+	/**
+	 * Bits of a packed country for its armies
+	 */
+	private static final int ARMIES_MASK = ATTACK_DECLARED_BIT - 1;
+
+	/**
+	 * Max number of armies of a country in a snapshot
+	 */
+	public static final int MAX_ARMIES = ARMIES_MASK;
+
+	/**
+	 * Max number of players in a snapshot, the index of the last one is just below the one of no owner
+	 */
+	public static final int MAX_PLAYERS = NO_OWNER;
+
+	/**
+	 * Orders the countries by name, the index of a country in this order is its id
+	 */
+	private static final Comparator<Country> BY_NAME = Comparator.comparing(Country::getName);
+
+	/**
+	 * File name of the map of the game
+	 */
+	private final String mapFileName;
+
+	/**
+	 * Fingerprint of the map of the game, see {@link #fingerprint(WorldMap)}
+	 */
+	private final long mapFingerprint;
+
+	/**
+	 * Continents, countries and borders of the map of the game
+	 */
+	private final MapTopology mapTopology;
+
+	/**
+	 * Current phase of the game
+	 */
+	private final PhaseTypes currentPhase;
+
+	/**
+	 * Number of initial armies of each player
+	 */
+	private final int numberOfInitialArmies;
+
+	/**
+	 * true if the countries are given to the players
+	 */
+	private final boolean allCountriesArePopulated;
+
+	/**
+	 * Number of turns played
+	 */
+	private final int numberOfTurns;
+
+	/**
+	 * Number of armies that the last card exchange was worth
+	 */
+	private final int numberOfArmiesForExchangeCard;
+
+	/**
+	 * The players, in the order of their turns starting with the current player
+	 */
+	private final PlayerState[] players;
+
+	/**
+	 * Index of the first player, -1 if there is none
+	 */
+	private final int firstPlayer;
+
+	/**
+	 * The packed countries, indexed by their id
+	 */
+	private final int[] countries;
+
+	/**
+	 * The battle of the current player: ids of the attacking, defending and winner countries, dice of the attacker
+	 * and of the defender and the ordinal of its state, with -1 for the missing values. null if there is no battle.
+	 */
+	private final int[] battle;
+
+	/**
+	 * CRC32 of the content of the snapshot file, null until the snapshot is encoded or read
+	 */
+	private volatile Integer checksum;
+
+	/**
+	 * Package-private constructor, the snapshots are captured from a game, read from a file or replayed from a
+	 * {@link GameJournal}
+	 */
+	GameSnapshot(String mapFileName, long mapFingerprint, MapTopology mapTopology, PhaseTypes currentPhase,
+			int numberOfInitialArmies, boolean allCountriesArePopulated, int numberOfTurns,
+			int numberOfArmiesForExchangeCard, PlayerState[] players, int firstPlayer, int[] countries, int[] battle) {
+		this.mapFileName = mapFileName;
+		this.mapFingerprint = mapFingerprint;
+		this.mapTopology = mapTopology;
+		this.currentPhase = currentPhase;
+		this.numberOfInitialArmies = numberOfInitialArmies;
+		this.allCountriesArePopulated = allCountriesArePopulated;
+		this.numberOfTurns = numberOfTurns;
+		this.numberOfArmiesForExchangeCard = numberOfArmiesForExchangeCard;
+		this.players = players;
+		this.firstPlayer = firstPlayer;
+		this.countries = countries;
+		this.battle = battle;
+	}
+
+	/**
+	 * Copy the state of a game. The game must not change while it is copied, the snapshot can then be written on any
+	 * thread.
+	 *
+	 * @param context the game
+	 * @return the snapshot of the game
+	 * @throws ValidationException if the game has too many players or a country has too many armies
+	 */
+	public static GameSnapshot capture(GameContext context) throws ValidationException {
+		WorldMap worldMap = context.getWorldMap();
+		PlayersModel playersModel = context.getPlayersModel();
+		PhaseModel phaseModel = context.getPhaseModel();
+		Country[] sortedCountries = sortedCountries(worldMap);
+
+		Player[] playerList = playersModel.getPlayers().toArray(new Player[0]);
+		if (playerList.length > MAX_PLAYERS) {
+			throw new ValidationException(
+					String.format("A game of more than %d players cannot be saved.", MAX_PLAYERS));
+		}
+		PlayerState[] players = new PlayerState[playerList.length];
+		for (int i = 0; i < playerList.length; i++) {
+			players[i] = new PlayerState(playerList[i]);
+		}
+
+		int[] countries = new int[sortedCountries.length];
+		for (int id = 0; id < sortedCountries.length; id++) {
+			Country country = sortedCountries[id];
+			countries[id] = pack(indexOf(playerList, country.getOwner()), country);
+		}
+
+		return new GameSnapshot(worldMap.getFileName(), fingerprint(sortedCountries), MapTopology.of(worldMap),
+				phaseModel.getCurrentPhase(), phaseModel.getNumberOfInitialArmies(),
+				phaseModel.isAllCountriesArePopulated(), playersModel.getNumberOfTurns(),
+				playersModel.getNumberOfArmiesForExchangeCard(), players,
+				indexOf(playerList, playersModel.getFirstPlayer()), countries,
+				battle(sortedCountries, playerList.length == 0 ? null : playerList[0]));
+	}
+
+	/**
+	 * @param owner   index of the owner of the country, -1 if nobody owns it
+	 * @param country the country
+	 * @return the country packed in one int
+	 * @throws ValidationException if the owner or the armies of the country do not fit in the packed int
+	 */
+	static int pack(int owner, Country country) throws ValidationException {
+		if (owner >= MAX_PLAYERS) {
+			throw new ValidationException(
+					String.format("A game of more than %d players cannot be saved.", MAX_PLAYERS));
+		}
+		int armies = country.getNumberOfArmies();
+		if (armies < 0 || armies > MAX_ARMIES) {
+			throw new ValidationException(String.format(
+					"The country \"%s\" has %d armies, a game with more than %d armies in a country cannot be saved.",
+					country.getName(), armies, MAX_ARMIES));
+		}
+		return (owner < 0 ? NO_OWNER : owner) << 24
+				| (country.isAttackDeclared() ? ATTACK_DECLARED_BIT : 0)
+				| armies;
+	}
+
+	/**
+	 * @param packed a packed country
+	 * @return the index of the owner of the country, -1 if nobody owns it
+	 */
+	static int ownerOf(int packed) {
+		int owner = packed >>> 24;
+		return owner == NO_OWNER ? -1 : owner;
+	}
+
+	/**
+	 * @param packed a packed country
+	 * @param owner  index of the new owner of the country, -1 if nobody owns it
+	 * @return the packed country with the new owner
+	 */
+	static int withOwner(int packed, int owner) {
+		return (owner < 0 ? NO_OWNER : owner) << 24 | (packed & 0xFFFFFF);
+	}
+
+	/**
+	 * @param sortedCountries the countries of the map sorted by name
+	 * @param currentPlayer   the current player, may be null
+	 * @return the battle of the current player, see {@link #battle}, null if there is none
+	 */
+	static int[] battle(Country[] sortedCountries, Player currentPlayer) {
+		Battle currentBattle = currentPlayer == null ? null : currentPlayer.getBattle();
+		if (currentBattle == null || currentBattle.getFromCountry() == null || currentBattle.getToCountry() == null) {
+			return null;
+		}
+		return new int[] {
+				idOf(sortedCountries, currentBattle.getFromCountry()),
+				idOf(sortedCountries, currentBattle.getToCountry()),
+				idOf(sortedCountries, currentBattle.getWinner()),
+				currentBattle.getNumberOfAttackerDices(),
+				currentBattle.getNumberOfDefenderDices(),
+				currentBattle.getState() == null ? -1 : currentBattle.getState().ordinal() };
+	}
+
+	/**
+	 * Read a snapshot file
+	 *
+	 * @param path path of the file
+	 * @return the snapshot
+	 * @throws ValidationException if the file cannot be read or is not a valid snapshot
+	 */
+	public static GameSnapshot read(Path path) throws ValidationException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < 12 || size > Integer.MAX_VALUE) {
+				throw new ValidationException(path + " is not a game snapshot.");
+			}
+			buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+			}
+			buffer.flip();
+		} catch (IOException e) {
+			throw new ValidationException(path + " cannot be read: " + e.getMessage());
+		}
+		return decode(buffer, path.toString());
+	}
+
+	/**
+	 * Write this snapshot to a file through a {@link FileChannel}, the file is replaced if it exists
+	 *
+	 * @param path path of the file
+	 * @throws ValidationException if the file cannot be written
+	 */
+	public void write(Path path) throws ValidationException {
+		write(path, false);
+	}
+
+	/**
+	 * Write this snapshot to a file through a {@link FileChannel}, the file is replaced if it exists
+	 *
+	 * @param path path of the file
+	 * @param sync true to wait until the content is on the storage device
+	 * @throws ValidationException if the file cannot be written
+	 */
+	public void write(Path path, boolean sync) throws ValidationException {
+		ByteBuffer buffer = encode();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			if (sync) {
+				channel.force(true);
+			}
+		} catch (IOException e) {
+			throw new ValidationException(path + " cannot be written: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Copy the map of this snapshot to a game, without reading the map file, and give it the state of the snapshot
+	 *
+	 * @param context the game
+	 * @throws ValidationException if the map of the snapshot cannot be loaded or does not match its countries
+	 */
+	public void restore(GameContext context) throws ValidationException {
+		WorldMap worldMap = context.getWorldMap();
+		String message = worldMap.loadMap(mapFileName, mapTopology);
+		if (!worldMap.isMapLoaded()) {
+			throw new ValidationException(message);
+		}
+		Country[] sortedCountries = sortedCountries(worldMap);
+		if (sortedCountries.length != countries.length || fingerprint(sortedCountries) != mapFingerprint) {
+			throw new ValidationException(
+					String.format("The map \"%s\" of the snapshot does not match its countries.", mapFileName));
+		}
+
+		Queue<Player> playerQueue = new LinkedList<>();
+		Player[] playerList = new Player[players.length];
+		for (int i = 0; i < players.length; i++) {
+			playerList[i] = players[i].toPlayer(context);
+			playerQueue.add(playerList[i]);
+		}
+
+		for (int id = 0; id < countries.length; id++) {
+			Country country = sortedCountries[id];
+			int packed = countries[id];
+			country.setNumberOfArmies(packed & ARMIES_MASK);
+			country.setAttackDeclared((packed & ATTACK_DECLARED_BIT) != 0);
+			int owner = ownerOf(packed);
+			if (owner >= 0) {
+				playerList[owner].addCountry(country);
+			}
+		}
+
+		if (battle != null && playerList.length > 0) {
+			Battle currentBattle = new Battle(context, sortedCountries[battle[0]], sortedCountries[battle[1]]);
+			currentBattle.setWinner(battle[2] < 0 ? null : sortedCountries[battle[2]]);
+			currentBattle.setNumberOfAttackerDices(battle[3]);
+			currentBattle.setNumberOfDefenderDices(battle[4]);
+			currentBattle.setState(battle[5] < 0 ? null : BattleState.values()[battle[5]]);
+			playerList[0].setBattle(currentBattle);
+		}
+
+		PlayersModel playersModel = context.getPlayersModel();
+		playersModel.setPlayers(playerQueue);
+		playersModel.setFirstPlayer(firstPlayer < 0 ? null : playerList[firstPlayer]);
+
+		PhaseModel phaseModel = context.getPhaseModel();
+		phaseModel.setCurrentPhase(currentPhase);
+		phaseModel.setNumberOfInitialArmies(numberOfInitialArmies);
+		phaseModel.setAllCountriesArePopulated(allCountriesArePopulated);
+		phaseModel.getPhaseLog().clear();
+		playersModel.setNumberOfTurns(numberOfTurns);
+		playersModel.setNumberOfArmiesForExchangeCard(numberOfArmiesForExchangeCard);
+	}
+
+	/**
+	 * @return file name of the map of the game
+	 */
+	public String getMapFileName() {
+		return mapFileName;
+	}
+
+	/**
+	 * @return fingerprint of the map of the game
+	 */
+	public long getMapFingerprint() {
+		return mapFingerprint;
+	}
+
+	/**
+	 * @return continents, countries and borders of the map of the game
+	 */
+	public MapTopology getMapTopology() {
+		return mapTopology;
+	}
+
+	/**
+	 * A fingerprint of the continents, the countries and the borders of a map. Two maps with the same fingerprint give
+	 * the same ids to the same countries.
+	 *
+	 * @param worldMap the map
+	 * @return the fingerprint of the map
+	 */
+	public static long fingerprint(WorldMap worldMap) {
+		return fingerprint(sortedCountries(worldMap));
+	}
+
+	/**
+	 * @param sortedCountries the countries of the map sorted by name
+	 * @return the 64 bits FNV-1a hash of the countries with their continents and their neighbours
+	 */
+	private static long fingerprint(Country[] sortedCountries) {
+		long hash = 0xcbf29ce484222325L;
+		for (Country country : sortedCountries) {
+			hash = hash(hash, country.getName());
+			Continent continent = country.getContinent();
+			hash = hash(hash, continent.getName());
+			hash = hash(hash, continent.getValue());
+			String[] neighbours = country.getAdjacentCountriesName().toArray(new String[0]);
+			Arrays.sort(neighbours);
+			for (String neighbour : neighbours) {
+				hash = hash(hash, neighbour);
+			}
+			hash = hash(hash, neighbours.length);
+		}
+		return hash;
+	}
+
+	/**
+	 * @param hash  the hash so far
+	 * @param value the text to add, with a separator
+	 * @return the new hash
+	 */
+	private static long hash(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+		}
+		return (hash ^ 0xFFFF) * 0x100000001b3L;
+	}
+
+	/**
+	 * @param hash  the hash so far
+	 * @param value the number to add
+	 * @return the new hash
+	 */
+	private static long hash(long hash, int value) {
+		for (int shift = 0; shift < 32; shift += 8) {
+			hash = (hash ^ ((value >>> shift) & 0xFF)) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * @param worldMap the map
+	 * @return the countries of the map sorted by name, the index of a country is its id
+	 */
+	static Country[] sortedCountries(WorldMap worldMap) {
+		Country[] sortedCountries = worldMap.getCountries().toArray(new Country[0]);
+		Arrays.sort(sortedCountries, BY_NAME);
+		return sortedCountries;
+	}
+
+	/**
+	 * @param sortedCountries the countries of the map sorted by name
+	 * @param country         a country of the map or null
+	 * @return the id of the country, -1 if it is null
+	 */
+	private static int idOf(Country[] sortedCountries, Country country) {
+		return country == null ? -1 : Arrays.binarySearch(sortedCountries, country, BY_NAME);
+	}
+
+	/**
+	 * @param players the players
+	 * @param player  a player or null
+	 * @return the index of the player, -1 if the player is null or not found
+	 */
+	private static int indexOf(Player[] players, Player player) {
+		for (int i = 0; i < players.length; i++) {
+			if (players[i] == player) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the content of the snapshot file, ready to be written
+	 */
+	ByteBuffer encode() {
+		byte[] mapName = mapFileName.getBytes(StandardCharsets.UTF_8);
+		byte[] compiledMap = BinaryMapFile.encode(mapTopology);
+		int size = 4 + 4 + 8 + 4 + mapName.length + 4 + compiledMap.length + 4 + 4 + 1 + 4 + 4 + 4 + 4 + 4
+				+ 4 * countries.length + 1
+				+ (battle == null ? 0 : 4 * battle.length) + 4;
+		for (PlayerState player : players) {
+			size += player.size();
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putInt(VERSION).putLong(mapFingerprint);
+		buffer.putInt(mapName.length).put(mapName);
+		buffer.putInt(compiledMap.length).put(compiledMap);
+		buffer.putInt(currentPhase == null ? -1 : currentPhase.ordinal());
+		buffer.putInt(numberOfInitialArmies);
+		buffer.put((byte) (allCountriesArePopulated ? 1 : 0));
+		buffer.putInt(numberOfTurns);
+		buffer.putInt(numberOfArmiesForExchangeCard);
+		buffer.putInt(players.length);
+		for (PlayerState player : players) {
+			player.encode(buffer);
+		}
+		buffer.putInt(firstPlayer);
+		buffer.putInt(countries.length);
+		for (int country : countries) {
+			buffer.putInt(country);
+		}
+		buffer.put((byte) (battle == null ? 0 : 1));
+		if (battle != null) {
+			for (int value : battle) {
+				buffer.putInt(value);
+			}
+		}
+		int crc = checksum(buffer.array(), buffer.position());
+		buffer.putInt(crc);
+		buffer.flip();
+		checksum = crc;
+		return buffer;
+	}
+
+	/**
+	 * @return the CRC32 of the content of the snapshot file, the snapshot is only encoded if it was neither encoded
+	 *         nor read before
+	 */
+	int getChecksum() {
+		Integer crc = checksum;
+		if (crc == null) {
+			encode();
+			crc = checksum;
+		}
+		return crc;
+	}
+
+	/**
+	 * @param buffer the content of a snapshot file
+	 * @param source name of the file for the error messages
+	 * @return the snapshot
+	 * @throws ValidationException if the content is not a valid snapshot
+	 */
+	static GameSnapshot decode(ByteBuffer buffer, String source) throws ValidationException {
+		int length = buffer.remaining() - 4;
+		if (buffer.getInt(0) != MAGIC) {
+			throw new ValidationException(source + " is not a game snapshot.");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new ValidationException(source + " is a game snapshot of an unknown version " + buffer.getInt(4)
+					+ ".");
+		}
+		if (buffer.getInt(length) != checksum(buffer.array(), length)) {
+			throw new ValidationException(source + " is damaged.");
+		}
+		try {
+			buffer.position(8);
+			long mapFingerprint = buffer.getLong();
+			String mapFileName = getString(buffer);
+			byte[] compiledMap = new byte[buffer.getInt()];
+			buffer.get(compiledMap);
+			MapTopology mapTopology = BinaryMapFile.decode(compiledMap, source);
+			int phase = buffer.getInt();
+			PhaseTypes currentPhase = phase < 0 ? null : PhaseTypes.values()[phase];
+			int numberOfInitialArmies = buffer.getInt();
+			boolean allCountriesArePopulated = buffer.get() != 0;
+			int numberOfTurns = buffer.getInt();
+			int numberOfArmiesForExchangeCard = buffer.getInt();
+			PlayerState[] players = new PlayerState[buffer.getInt()];
+			for (int i = 0; i < players.length; i++) {
+				players[i] = PlayerState.decode(buffer);
+			}
+			int firstPlayer = buffer.getInt();
+			int[] countries = new int[buffer.getInt()];
+			for (int id = 0; id < countries.length; id++) {
+				countries[id] = buffer.getInt();
+				int owner = countries[id] >>> 24;
+				if (owner != NO_OWNER && owner >= players.length) {
+					throw new ValidationException(source + " is damaged.");
+				}
+			}
+			int[] battle = null;
+			if (buffer.get() != 0) {
+				battle = new int[6];
+				for (int i = 0; i < battle.length; i++) {
+					battle[i] = buffer.getInt();
+				}
+				if (battle[0] < 0 || battle[0] >= countries.length || battle[1] < 0 || battle[1] >= countries.length
+						|| battle[2] >= countries.length || battle[5] >= BattleState.values().length) {
+					throw new ValidationException(source + " is damaged.");
+				}
+			}
+			GameSnapshot snapshot = new GameSnapshot(mapFileName, mapFingerprint, mapTopology, currentPhase,
+					numberOfInitialArmies, allCountriesArePopulated, numberOfTurns, numberOfArmiesForExchangeCard,
+					players, firstPlayer, countries, battle);
+			snapshot.checksum = buffer.getInt(length);
+			return snapshot;
+		} catch (RuntimeException e) {
+			throw new ValidationException(source + " is damaged.");
+		}
+	}
+
+	/**
+	 * @param bytes  the content
+	 * @param length length of the content to check
+	 * @return the CRC32 of the content
+	 */
+	private static int checksum(byte[] bytes, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * @param buffer the buffer
+	 * @return a string written as its length and its UTF-8 bytes
+	 */
+	private static String getString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return current phase of the game
+	 */
+	PhaseTypes getCurrentPhase() {
+		return currentPhase;
+	}
+
+	/**
+	 * @return number of initial armies of each player
+	 */
+	int getNumberOfInitialArmies() {
+		return numberOfInitialArmies;
+	}
+
+	/**
+	 * @return true if the countries are given to the players
+	 */
+	boolean isAllCountriesArePopulated() {
+		return allCountriesArePopulated;
+	}
+
+	/**
+	 * @return number of turns played
+	 */
+	int getNumberOfTurns() {
+		return numberOfTurns;
+	}
+
+	/**
+	 * @return number of armies that the last card exchange was worth
+	 */
+	int getNumberOfArmiesForExchangeCard() {
+		return numberOfArmiesForExchangeCard;
+	}
+
+	/**
+	 * @return a copy of the players, in the order of their turns starting with the current player
+	 */
+	PlayerState[] getPlayers() {
+		return players.clone();
+	}
+
+	/**
+	 * @return index of the first player, -1 if there is none
+	 */
+	int getFirstPlayer() {
+		return firstPlayer;
+	}
+
+	/**
+	 * @return a copy of the packed countries, indexed by their id
+	 */
+	int[] getCountries() {
+		return countries.clone();
+	}
+
+	/**
+	 * @return a copy of the battle of the current player, see {@link #battle}, null if there is none
+	 */
+	int[] getBattle() {
+		return battle == null ? null : battle.clone();
+	}
+
+	/**
+	 * The state of one player in a snapshot
+	 */
+	static final class PlayerState {
+		/**
+		 * Bit of the fortification finished flag
+		 */
+		private static final int FORTIFICATION_FINISHED = 1;
+
+		/**
+		 * Bit of the attack finished flag
+		 */
+		private static final int ATTACK_FINISHED = 2;
+
+		/**
+		 * Bit of the successful attack flag
+		 */
+		private static final int SUCCESSFUL_ATTACK = 4;
+
+		/**
+		 * UTF-8 bytes of the name of the player
+		 */
+		private final byte[] name;
+
+		/**
+		 * UTF-8 bytes of the strategy of the player
+		 */
+		private final byte[] strategy;
+
+		/**
+		 * Number of armies that the player has not placed yet
+		 */
+		private final int unplacedArmies;
+
+		/**
+		 * The flags of the player
+		 */
+		private final byte flags;
+
+		/**
+		 * Ordinals of the cards of the player
+		 */
+		private final byte[] cards;
+
+		/**
+		 * @param name           UTF-8 bytes of the name of the player
+		 * @param strategy       UTF-8 bytes of the strategy of the player
+		 * @param unplacedArmies number of armies that the player has not placed yet
+		 * @param flags          the flags of the player
+		 * @param cards          ordinals of the cards of the player
+		 */
+		private PlayerState(byte[] name, byte[] strategy, int unplacedArmies, byte flags, byte[] cards) {
+			this.name = name;
+			this.strategy = strategy;
+			this.unplacedArmies = unplacedArmies;
+			this.flags = flags;
+			this.cards = cards;
+		}
+
+		/**
+		 * @param player the player to copy
+		 */
+		PlayerState(Player player) {
+			this(player.getName().getBytes(StandardCharsets.UTF_8),
+					player.getStrategy().getBytes(StandardCharsets.UTF_8), player.getUnplacedArmies(),
+					(byte) ((player.isFortificationFinished() ? FORTIFICATION_FINISHED : 0)
+							| (player.isAttackFinished() ? ATTACK_FINISHED : 0)
+							| (player.hasSuccessfulAttack() ? SUCCESSFUL_ATTACK : 0)),
+					cardOrdinals(player.getCards()));
+		}
+
+		/**
+		 * @param cards the cards
+		 * @return the ordinals of the cards
+		 */
+		private static byte[] cardOrdinals(List<CardType> cards) {
+			byte[] ordinals = new byte[cards.size()];
+			for (int i = 0; i < ordinals.length; i++) {
+				ordinals[i] = (byte) cards.get(i).ordinal();
+			}
+			return ordinals;
+		}
+
+		/**
+		 * @param context the game of the player
+		 * @return a new player with this state and no country
+		 * @throws ValidationException if the strategy is not valid
+		 */
+		private Player toPlayer(GameContext context) throws ValidationException {
+			Player player = Player.factory(context, new String(name, StandardCharsets.UTF_8),
+					new String(strategy, StandardCharsets.UTF_8));
+			player.setUnplacedArmies(unplacedArmies);
+			player.setFortificationFinished((flags & FORTIFICATION_FINISHED) != 0);
+			player.setAttackFinished((flags & ATTACK_FINISHED) != 0);
+			player.setSuccessfulAttack((flags & SUCCESSFUL_ATTACK) != 0);
+			List<CardType> playerCards = new ArrayList<>(cards.length);
+			for (byte card : cards) {
+				playerCards.add(CardType.values()[card]);
+			}
+			player.getCards().addAll(playerCards);
+			return player;
+		}
+
+		/**
+		 * @return number of bytes of the encoded state
+		 */
+		int size() {
+			return 4 + name.length + 4 + strategy.length + 4 + 1 + 4 + cards.length;
+		}
+
+		/**
+		 * @param buffer the buffer to write the state to
+		 */
+		void encode(ByteBuffer buffer) {
+			buffer.putInt(name.length).put(name);
+			buffer.putInt(strategy.length).put(strategy);
+			buffer.putInt(unplacedArmies);
+			buffer.put(flags);
+			buffer.putInt(cards.length).put(cards);
+		}
+
+		/**
+		 * @param buffer the buffer to read the state from
+		 * @return the state
+		 */
+		static PlayerState decode(ByteBuffer buffer) {
+			byte[] name = new byte[buffer.getInt()];
+			buffer.get(name);
+			byte[] strategy = new byte[buffer.getInt()];
+			buffer.get(strategy);
+			int unplacedArmies = buffer.getInt();
+			byte flags = buffer.get();
+			byte[] cards = new byte[buffer.getInt()];
+			buffer.get(cards);
+			return new PlayerState(name, strategy, unplacedArmies, flags, cards);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package ca.concordia.encs.conquerdia.model.map;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import ca.concordia.encs.conquerdia.util.DisjointSet;
+
+/**
+ * Keeps track of the connected components of a {@link WorldMap} while it is being edited, and checks the
+ * connectivity rules of the maps which are read from a file.
+ * <p>
+ * Adding a country or a border only merges components, so the index is updated in place with a union-find
+ * structure over all the borders. Removing a country or a border can split a component, in this case the index is
+ * only marked as stale and it is built again from the map on the next query.
+ * <p>
+ * A continent is connected when all its countries can be reached from one of them, the path can pass through the
+ * countries of other continents. A continent with a country that only borders other continents is thus still
+ * connected if the whole map is.
+ * <p>
+ * The maps read from a file, which are not {@link WorldMap}s yet, give their countries and borders by id.
+ */
+public class ConnectivityIndex {
+    /**
+     * The element of each country in the union-find structure
+     */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /**
+     * The id of each continent, in the order of their first country
+     */
+    private final Map<Continent, Integer> continentIds = new HashMap<>();
+
+    /**
+     * Components of the whole map
+     */
+    private final DisjointSet components = new DisjointSet();
+
+    /**
+     * The id of the continent of each element
+     */
+    private int[] countryContinents = new int[16];
+
+    /**
+     * One more than the largest id of a continent of the countries
+     */
+    private int numberOfContinents;
+
+    /**
+     * True if some country or border has been removed since the index was built
+     */
+    private boolean stale;
+
+    /**
+     * Add a country without any border
+     *
+     * @param country the new country
+     */
+    void addCountry(Country country) {
+        if (stale)
+            return;
+        Integer continentId = continentIds.get(country.getContinent());
+        if (continentId == null) {
+            continentId = numberOfContinents;
+            continentIds.put(country.getContinent(), continentId);
+        }
+        ids.put(country.getName(), addCountry(continentId));
+    }
+
+    /**
+     * Add a country without any border
+     *
+     * @param continentId id of the continent of the country, from 0
+     * @return the id of the new country
+     */
+    public int addCountry(int continentId) {
+        int id = components.add();
+        if (id == countryContinents.length) {
+            countryContinents = Arrays.copyOf(countryContinents, id * 2);
+        }
+        countryContinents[id] = continentId;
+        numberOfContinents = Math.max(numberOfContinents, continentId + 1);
+        return id;
+    }
+
+    /**
+     * Add a border between two countries of the index
+     *
+     * @param firstCountry  first country
+     * @param secondCountry second country
+     */
+    void addBorder(Country firstCountry, Country secondCountry) {
+        if (stale)
+            return;
+        Integer first = ids.get(firstCountry.getName());
+        Integer second = ids.get(secondCountry.getName());
+        if (first == null || second == null)
+            return;
+        addBorder(first, second);
+    }
+
+    /**
+     * Add a border between two countries of the index
+     *
+     * @param first  id of the first country
+     * @param second id of the second country
+     */
+    public void addBorder(int first, int second) {
+        components.union(first, second);
+    }
+
+    /**
+     * Mark the index as stale after a country or a border has been removed
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * @param countries all the countries of the map
+     * @return true if the map has some countries and they are in one component
+     */
+    boolean isConnected(Collection<Country> countries) {
+        rebuildIfStale(countries);
+        return isConnected();
+    }
+
+    /**
+     * @return true if the index has some countries and they are in one component
+     */
+    public boolean isConnected() {
+        return components.size() > 0 && components.getNumberOfSets() == 1;
+    }
+
+    /**
+     * @param countries all the countries of the map
+     * @return true if the map has some countries and every continent is a connected subgraph
+     */
+    boolean isEveryContinentConnected(Collection<Country> countries) {
+        rebuildIfStale(countries);
+        return isEveryContinentConnected();
+    }
+
+    /**
+     * Every continent is connected when all its countries are in the component of its first country
+     *
+     * @return true if the index has some countries and every continent of the index is a connected subgraph
+     */
+    public boolean isEveryContinentConnected() {
+        if (components.size() == 0) {
+            return false;
+        }
+        int[] continentComponents = new int[numberOfContinents];
+        Arrays.fill(continentComponents, -1);
+        for (int id = 0; id < components.size(); id++) {
+            int component = components.find(id);
+            int continentId = countryContinents[id];
+            if (continentComponents[continentId] < 0) {
+                continentComponents[continentId] = component;
+            } else if (continentComponents[continentId] != component) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the index again from the countries of the map if it is stale
+     *
+     * @param countries all the countries of the map
+     */
+    private void rebuildIfStale(Collection<Country> countries) {
+        if (!stale)
+            return;
+        stale = false;
+        ids.clear();
+        continentIds.clear();
+        components.clear();
+        numberOfContinents = 0;
+        for (Country country : countries) {
+            addCountry(country);
+        }
+        for (Country country : countries) {
+            for (Country neighbour : country.getAdjacentCountries()) {
+                addBorder(country, neighbour);
+            }
+        }
+    }
+}
@@ -4,10 +4,10 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Represents a Continent in the world map of the game.
@@ -17,6 +17,14 @@ import java.util.stream.Collectors;
  */
 public class Continent implements Serializable {
 	private final Map<String, Country> countries = new HashMap<>();
+	/**
+	 * Unmodifiable view of the countries
+	 */
+	private final transient Set<Country> countriesView = new NamedSetView<>(countries, Country.class);
+	/**
+	 * Unmodifiable view of the names of the countries
+	 */
+	private final transient Set<String> countriesNameView = Collections.unmodifiableSet(countries.keySet());
 	private String name;
 	private int value;
 
@@ -27,17 +35,24 @@ public class Continent implements Serializable {
 	}
 
 	/**
-	 * @return all Countries Name
+	 * @return unmodifiable view of all Countries Name
 	 */
 	public final Set<String> getCountriesName() {
-		return countries.keySet();
+		return countriesNameView;
 	}
 
 	/**
-	 * @return all Countries
+	 * @return unmodifiable view of all Countries, it follows the changes of the continent
 	 */
 	public final Set<Country> getCountries() {
-		return countries.entrySet().stream().map(entry -> entry.getValue()).collect(Collectors.toSet());
+		return countriesView;
+	}
+
+	/**
+	 * @return the number of countries of this continent
+	 */
+	public int getNumberOfCountries() {
+		return countries.size();
 	}
 
 	/**
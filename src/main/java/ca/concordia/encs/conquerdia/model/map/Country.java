@@ -3,10 +3,11 @@ package ca.concordia.encs.conquerdia.model.map;
 import ca.concordia.encs.conquerdia.model.player.Player;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Represents a country in the world map of the game.
@@ -24,6 +25,14 @@ public class Country implements Serializable {
      * add to this set.
      */
     private final Map<String, Country> adjacentCountries = new HashMap<>();
+    /**
+     * Unmodifiable view of the adjacent countries
+     */
+    private final transient Set<Country> adjacentCountriesView = new NamedSetView<>(adjacentCountries, Country.class);
+    /**
+     * Unmodifiable view of the names of the adjacent countries
+     */
+    private final transient Set<String> adjacentCountriesNameView = Collections.unmodifiableSet(adjacentCountries.keySet());
     /**
      * Represents the continent that this country is placed on
      */
@@ -45,6 +54,7 @@ public class Country implements Serializable {
      */
     public void setAttackDeclared(boolean attackDeclared) {
 		this.attackDeclared = attackDeclared;
+		changed();
 	}
 
 	/**
@@ -56,7 +66,7 @@ public class Country implements Serializable {
      * @param numberOfArmies
      */
     public void setNumberOfArmies(int numberOfArmies) {
-		this.numberOfArmies = numberOfArmies;
+		changeNumberOfArmies(numberOfArmies - this.numberOfArmies);
 	}
 
 	/**
@@ -64,6 +74,11 @@ public class Country implements Serializable {
      */
     private Player owner;
 
+    /**
+     * Called after the owner, the armies or the attack declared flag of this country change, null if nobody listens
+     */
+    private transient Consumer<Country> changeListener;
+
     /**
      * Country class has one and only one private constructor to force the user's of
      * this class to use the Builder {@link Country.Builder}
@@ -85,10 +100,35 @@ public class Country implements Serializable {
     }
 
     /**
+     * The armies of this country are moved from the total of the previous owner to the total of the new owner.
+     *
      * @param owner The owner of this country
      */
     public void setOwner(Player owner) {
+        if (this.owner == owner)
+            return;
+        if (this.owner != null)
+            this.owner.addToTotalNumberOfArmies(-numberOfArmies);
         this.owner = owner;
+        if (owner != null)
+            owner.addToTotalNumberOfArmies(numberOfArmies);
+        changed();
+    }
+
+    /**
+     * @param changeListener called after the owner, the armies or the attack declared flag of this country change,
+     *                       null to stop listening
+     */
+    public void setChangeListener(Consumer<Country> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Tell the listener, if any, that this country has changed
+     */
+    private void changed() {
+        if (changeListener != null)
+            changeListener.accept(this);
     }
 
     /**
@@ -138,7 +178,7 @@ public class Country implements Serializable {
      * This method place one army to this country
      */
     public void placeOneArmy() {
-        numberOfArmies++;
+        changeNumberOfArmies(1);
     }
 
     /**
@@ -149,7 +189,7 @@ public class Country implements Serializable {
      */
     public void placeArmy(int numberOfArmiesToBePlaces) {
         if (numberOfArmiesToBePlaces > 0)
-            numberOfArmies += numberOfArmiesToBePlaces;
+            changeNumberOfArmies(numberOfArmiesToBePlaces);
     }
 
     /**
@@ -159,9 +199,30 @@ public class Country implements Serializable {
      *                               county.
      */
     public void removeArmy(int numberOfArmiesToRemove) {
-        this.numberOfArmies -= numberOfArmiesToRemove;
-        if (this.numberOfArmies < 0)
-            this.numberOfArmies = 0;
+        changeNumberOfArmies(-Math.min(numberOfArmiesToRemove, numberOfArmies));
+    }
+
+    /**
+     * Change the number of armies of this country and the total number of armies of its owner
+     *
+     * @param delta the number of armies to add, negative to remove armies
+     */
+    private void changeNumberOfArmies(int delta) {
+        numberOfArmies += delta;
+        if (owner != null)
+            owner.addToTotalNumberOfArmies(delta);
+        changed();
+    }
+
+    /**
+     * The hash code only depends on the name, so the hash based collections of countries are iterated in the same
+     * order in every run. This keeps the games that are played with the same seed reproducible.
+     *
+     * @return hash code of the name of the country
+     */
+    @Override
+    public int hashCode() {
+        return name == null ? 0 : name.hashCode();
     }
 
     /**
@@ -184,10 +245,24 @@ public class Country implements Serializable {
     }
 
     /**
-     * @return return all adjacent countries
+     * @return unmodifiable view of all adjacent countries, it follows the changes of the borders
      */
     public Set<Country> getAdjacentCountries() {
-        return adjacentCountries.entrySet().stream().map(entry -> entry.getValue()).collect(Collectors.toSet());
+        return adjacentCountriesView;
+    }
+
+    /**
+     * @return names of all adjacent countries
+     */
+    public Set<String> getAdjacentCountriesName() {
+        return adjacentCountriesNameView;
+    }
+
+    /**
+     * @return the number of adjacent countries
+     */
+    public int getNumberOfNeighbours() {
+        return adjacentCountries.size();
     }
 
     /**
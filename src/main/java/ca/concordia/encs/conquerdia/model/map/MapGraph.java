@@ -0,0 +1,149 @@
+package ca.concordia.encs.conquerdia.model.map;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable, integer indexed view of the borders of a {@link WorldMap}.
+ * <p>
+ * Every country gets a dense id from 0 to n-1 and the borders are kept in the compressed sparse row layout: the
+ * neighbours of the country <code>i</code> are <code>neighbours[offsets[i]]</code> to
+ * <code>neighbours[offsets[i + 1] - 1]</code>. The graph algorithms run on these arrays, so they neither hash the
+ * names of the countries nor allocate sets while they are walking the map.
+ * <p>
+ * A graph is a snapshot of the map at the time it is compiled, the {@link WorldMap} compiles a new one after any
+ * change of its countries or borders.
+ */
+public class MapGraph {
+    /**
+     * The countries, indexed by their id
+     */
+    private final Country[] countries;
+
+    /**
+     * The id of each country by name
+     */
+    private final Map<String, Integer> ids;
+
+    /**
+     * The neighbours of the country i start at offsets[i] and end before offsets[i + 1]
+     */
+    private final int[] offsets;
+
+    /**
+     * The ids of the neighbours of all the countries
+     */
+    private final int[] neighbours;
+
+    /**
+     * Compile the countries and their borders to a graph
+     *
+     * @param countries all the countries of the map
+     */
+    MapGraph(Collection<Country> countries) {
+        int numberOfCountries = countries.size();
+        this.countries = countries.toArray(new Country[numberOfCountries]);
+        this.ids = new HashMap<>(numberOfCountries * 2);
+        for (int id = 0; id < numberOfCountries; id++) {
+            ids.put(this.countries[id].getName(), id);
+        }
+
+        this.offsets = new int[numberOfCountries + 1];
+        int numberOfBorders = 0;
+        for (int id = 0; id < numberOfCountries; id++) {
+            numberOfBorders += this.countries[id].getNumberOfNeighbours();
+            offsets[id + 1] = numberOfBorders;
+        }
+
+        this.neighbours = new int[numberOfBorders];
+        for (int id = 0; id < numberOfCountries; id++) {
+            int next = offsets[id];
+            for (String neighbourName : this.countries[id].getAdjacentCountriesName()) {
+                Integer neighbourId = ids.get(neighbourName);
+                neighbours[next++] = neighbourId == null ? id : neighbourId;
+            }
+        }
+    }
+
+    /**
+     * @return the number of countries of the map
+     */
+    public int getNumberOfCountries() {
+        return countries.length;
+    }
+
+    /**
+     * @param countryName name of a country
+     * @return the id of the country, -1 if the map has no country with this name
+     */
+    public int getId(String countryName) {
+        Integer id = ids.get(countryName);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @param id id of a country
+     * @return the country
+     */
+    public Country getCountry(int id) {
+        return countries[id];
+    }
+
+    /**
+     * @param id id of a country
+     * @return index of the first neighbour of the country in {@link #getNeighbour(int)}
+     */
+    public int getFirstNeighbourIndex(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * @param id id of a country
+     * @return index after the last neighbour of the country in {@link #getNeighbour(int)}
+     */
+    public int getLastNeighbourIndex(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * @param index index of a border, between the first and the last neighbour index of a country
+     * @return the id of the neighbour
+     */
+    public int getNeighbour(int index) {
+        return neighbours[index];
+    }
+
+    /**
+     * Check there is some path between two countries that only passes through the allowed countries
+     *
+     * @param fromId  id of the source country, it does not have to be allowed
+     * @param toId    id of the destination country
+     * @param allowed the countries that the path can pass through
+     * @return true if the destination is reached
+     */
+    public boolean isTherePath(int fromId, int toId, IntPredicate allowed) {
+        if (fromId == toId)
+            return true;
+        boolean[] visited = new boolean[countries.length];
+        int[] queue = new int[countries.length];
+        int head = 0;
+        int tail = 0;
+        visited[fromId] = true;
+        queue[tail++] = fromId;
+        while (head < tail) {
+            int id = queue[head++];
+            for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                int neighbour = neighbours[i];
+                if (!visited[neighbour] && allowed.test(neighbour)) {
+                    if (neighbour == toId)
+                        return true;
+                    visited[neighbour] = true;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package ca.concordia.encs.conquerdia.model.map;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An unmodifiable set view over the values of a map that is keyed by name.
+ * <p>
+ * The view is created once by its owner and follows the changes of the backing map, so the getters of
+ * {@link Country}, {@link Continent} and {@link WorldMap} can hand it out without copying anything. Looking up an
+ * element uses the key of the backing map instead of scanning the values.
+ *
+ * @param <T> type of the values, a country or a continent
+ */
+class NamedSetView<T> extends AbstractSet<T> {
+    /**
+     * The backing map, from name to value
+     */
+    private final Map<String, T> values;
+
+    /**
+     * Unmodifiable view of the values of the backing map
+     */
+    private final Collection<T> unmodifiableValues;
+
+    /**
+     * The class of the values, to reject other objects in {@link #contains(Object)}
+     */
+    private final Class<T> type;
+
+    /**
+     * @param values the backing map, from name to value
+     * @param type   the class of the values
+     */
+    NamedSetView(Map<String, T> values, Class<T> type) {
+        this.values = values;
+        this.unmodifiableValues = Collections.unmodifiableCollection(values.values());
+        this.type = type;
+    }
+
+    /**
+     * @return an iterator over the values that does not support removal
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return unmodifiableValues.iterator();
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!type.isInstance(o))
+            return false;
+        T value = values.get(nameOf(type.cast(o)));
+        return value != null && value.equals(o);
+    }
+
+    /**
+     * @param value a country or a continent
+     * @return its name
+     */
+    private String nameOf(T value) {
+        if (value instanceof Country)
+            return ((Country) value).getName();
+        return ((Continent) value).getName();
+    }
+}
@@ -1,29 +1,38 @@
 package ca.concordia.encs.conquerdia.model.map;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
 import ca.concordia.encs.conquerdia.model.map.io.GameMap;
 import ca.concordia.encs.conquerdia.model.map.io.IGameMap;
+import ca.concordia.encs.conquerdia.model.map.io.MapTopology;
+import ca.concordia.encs.conquerdia.model.player.Player;
 
 /**
  * Represents the world map of the game.
  */
 public class WorldMap implements Serializable {
     private final static String NO_MAP_TO_EDIT_ERROR = "There is no map to %s. Use \"editmap filename\" command to load or create a map.";
-    private static WorldMap instance;
     private final Map<String, Continent> continents = new HashMap<>();
     private final Map<String, Country> countries = new HashMap<>();
+    /**
+     * Unmodifiable view of the continents
+     */
+    private final transient Set<Continent> continentsView = new NamedSetView<>(continents, Continent.class);
+    /**
+     * Unmodifiable view of the countries
+     */
+    private final transient Set<Country> countriesView = new NamedSetView<>(countries, Country.class);
     private String fileName;
     /**
      * Get fileName of the Map
@@ -38,28 +47,32 @@ public class WorldMap implements Serializable {
     private boolean mapLoaded;
     private boolean connectedGraph;
     private boolean connectedSubGraph;
+    /**
+     * The compiled borders of the map, null when the countries or borders have changed since it was compiled
+     */
+    private transient MapGraph graph;
+    /**
+     * The connected components of the map, kept up to date while the map is edited
+     */
+    private final transient ConnectivityIndex connectivityIndex = new ConnectivityIndex();
     
    private final IGameMap gameMap;
     
+    /**
+     * Use {@link GameContext#getWorldMap()} to get the map of a game
+     */
    @JsonIgnore
-    private WorldMap() {
+    public WorldMap() {
 	   gameMap = new GameMap(this);
     }
 
     /**
-     * This method is used for getting a single instance of the {@link WorldMap}
+     * This method is used for getting the {@link WorldMap} of the game bound to the current thread
      *
      * @return single instance of the {@link WorldMap map}
      */
     public static WorldMap getInstance() {
-        if (instance == null) {
-            synchronized (WorldMap.class) {
-                if (instance == null) {
-                    instance = new WorldMap();
-                }
-            }
-        }
-        return instance;
+        return GameContext.current().getWorldMap();
     }
 
     /**
@@ -70,24 +83,30 @@ public class WorldMap implements Serializable {
      * @return the result
      */
     public static boolean isTherePath(Country fromCountry, Country toCountry) {
-        if (fromCountry.getAdjacentCountries().isEmpty())
+        if (fromCountry.getNumberOfNeighbours() == 0)
             return false;
-        HashSet<String> reachableCountries = new HashSet<>();
-        traversCountry(fromCountry, reachableCountries);
-        return reachableCountries.contains(toCountry.getName());
+        Player currentPlayer = PhaseModel.getInstance().getCurrentPlayer();
+        if (currentPlayer.equals(fromCountry.getOwner()) && currentPlayer.equals(toCountry.getOwner()))
+            return currentPlayer.isConnected(fromCountry, toCountry);
+        MapGraph graph = getInstance().getGraph();
+        int fromId = graph.getId(fromCountry.getName());
+        int toId = graph.getId(toCountry.getName());
+        if (fromId < 0 || toId < 0)
+            return false;
+        return graph.isTherePath(fromId, toId, id -> graph.getCountry(id).getOwner().equals(currentPlayer));
     }
 
     /**
-     * @param country   country
-     * @param countries list of visited countries
+     * The integer indexed graph of the countries and borders of this map. It is compiled on the first call after
+     * any change of the countries or borders.
+     *
+     * @return the graph of the map
      */
-    private static void traversCountry(Country country, HashSet<String> countries) {
-        countries.add(country.getName());
-        for (Country adjacent : country.getAdjacentCountries()) {
-            if (!countries.contains(adjacent.getName()) && adjacent.getOwner().equals(PhaseModel.getInstance().getCurrentPlayer())) {
-                traversCountry(adjacent, countries);
-            }
+    public MapGraph getGraph() {
+        if (graph == null) {
+            graph = new MapGraph(countries.values());
         }
+        return graph;
     }
 
     /**
@@ -116,7 +135,30 @@ public class WorldMap implements Serializable {
         this.readyForEdit = false;
         if (!mapIsLoaded)
             return String.format("Map with file name \"%s\" is not found!", fileName);
-        if (!checkAllMapValidationRules())
+        if (!gameMap.isLoadedMapValid() && !checkAllMapValidationRules())
+            return validateMap();
+        mapLoaded = true;
+        return String.format("Map with file name \"%s\" is loaded successfully.", fileName);
+    }
+
+    /**
+     * Load a map from its topology, such as the one stored in a game snapshot, without reading the map file
+     *
+     * @param fileName name of the map file the topology was read from
+     * @param topology the continents, countries and borders of the map
+     * @return the result message
+     */
+    public String loadMap(String fileName, MapTopology topology) {
+        clearData();
+        this.fileName = fileName;
+        this.readyForEdit = false;
+        this.mapLoaded = false;
+        try {
+            topology.copyTo(this);
+        } catch (ValidationException ex) {
+            return ex.getMessage();
+        }
+        if (!topology.isValid())
             return validateMap();
         mapLoaded = true;
         return String.format("Map with file name \"%s\" is loaded successfully.", fileName);
@@ -133,11 +175,22 @@ public class WorldMap implements Serializable {
      * @param fileName file name
      */
     public void saveMap(String fileName) throws ValidationException {
+        saveMap(fileName, false);
+    }
+
+    /**
+     * @param fileName file name
+     * @param binary   true to also save the compiled form of the map, which is loaded without parsing the map file
+     */
+    public void saveMap(String fileName, boolean binary) throws ValidationException {
         if (!readyForEdit) {
             throw new ValidationException(String.format(NO_MAP_TO_EDIT_ERROR, "save"));
         }
         if (checkAllMapValidationRules()) {
             gameMap.saveTo(fileName);
+            if (binary && !gameMap.saveBinaryTo(fileName)) {
+                throw new ValidationException(String.format("The compiled map of \"%s\" cannot be saved.", fileName));
+            }
         } else {
             throw new ValidationException(validateMap());
         }
@@ -182,7 +235,7 @@ public class WorldMap implements Serializable {
             new ValidationException(String.format("Continent with name \"%s\" is not found.", continentName));
         }
         Continent toRemove = continents.get(continentName);
-        for (String countryName : toRemove.getCountriesName()) {
+        for (String countryName : new ArrayList<>(toRemove.getCountriesName())) {
             removeCountry(countryName);
         }
         continents.remove(continentName);
@@ -211,6 +264,8 @@ public class WorldMap implements Serializable {
         Country country = new Country.Builder(countryName, continents.get(continentName)).build();
         countries.put(countryName, country);
         continents.get(continentName).addCountry(country);
+        connectivityIndex.addCountry(country);
+        graph = null;
     }
 
     /**
@@ -225,8 +280,10 @@ public class WorldMap implements Serializable {
             throw new ValidationException(String.format("Country with name \"%s\" is not found.", countryName));
         }
         Country removed = countries.remove(countryName);
+        connectivityIndex.invalidate();
+        graph = null;
         removed.getContinent().removeCountry(countryName);
-        for (Country adjacentCountry : removed.getAdjacentCountries()) {
+        for (Country adjacentCountry : new ArrayList<>(removed.getAdjacentCountries())) {
             removeNeighbour(removed, adjacentCountry);
         }
         return removed;
@@ -250,8 +307,21 @@ public class WorldMap implements Serializable {
         if (firstCountry.isAdjacentTo(secondCountryName) && secondCountry.isAdjacentTo(firstCountryName)) {
             throw new ValidationException(String.format("\"%s\" and \"%s\" are already adjacent countries.", firstCountryName, secondCountryName));
         }
+        addNeighbour(firstCountry, secondCountry);
+    }
+
+    /**
+     * Add a border between two countries of this map, without checking them. Used to add the borders of a map file
+     * that are already known to be new.
+     *
+     * @param firstCountry  first country
+     * @param secondCountry second country
+     */
+    public void addNeighbour(Country firstCountry, Country secondCountry) {
         firstCountry.addNeighbour(secondCountry);
         secondCountry.addNeighbour(firstCountry);
+        connectivityIndex.addBorder(firstCountry, secondCountry);
+        graph = null;
     }
 
     /**
@@ -280,20 +350,29 @@ public class WorldMap implements Serializable {
     private void removeNeighbour(Country firstCountry, Country secondCountry) {
         firstCountry.removeNeighbour(secondCountry.getName());
         secondCountry.removeNeighbour(firstCountry.getName());
+        connectivityIndex.invalidate();
+        graph = null;
     }
 
     /**
-     * @return return all continents in map
+     * @return unmodifiable view of all continents in map, it follows the changes of the map
      */
     public Set<Continent> getContinents() {
-        return continents.entrySet().stream().map(entry -> entry.getValue()).collect(Collectors.toSet());
+        return continentsView;
     }
 
     /**
-     * @return All counties in map
+     * @return unmodifiable view of all counties in map, it follows the changes of the map
      */
     public Set<Country> getCountries() {
-        return countries.entrySet().stream().map(entry -> entry.getValue()).collect(Collectors.toSet());
+        return countriesView;
+    }
+
+    /**
+     * @return the number of countries in map
+     */
+    public int getNumberOfCountries() {
+        return countries.size();
     }
     public Map<String,Country> getCountriesHashMap() {
         return countries;
@@ -380,57 +459,16 @@ public class WorldMap implements Serializable {
      * @return true if All validation rules are
      */
     public boolean checkAllMapValidationRules() {
-        {
-            Set<String> countryNames = countries.keySet();
-            connectedGraph = isMapConnected(getCountry(countryNames.iterator().next()), countryNames);
-        }
-        {
-            connectedSubGraph = true;
-            for (Continent continent : getContinents()) {
-                Set<String> countryNames = continent.getCountriesName();
-                if (countryNames.isEmpty())
-                    continue;
-                connectedSubGraph &= isMapConnected(continent.getCountries().iterator().next(), countryNames);
-            }
-
-        }
+        connectedGraph = connectivityIndex.isConnected(countries.values());
+        connectedSubGraph = connectivityIndex.isEveryContinentConnected(countries.values());
         return connectedGraph && connectedSubGraph;
     }
 
-    /**
-     * @param country   coumtry
-     * @param countries countries
-     */
-    private void traversCountry2(Country country, HashSet<String> countries) {
-        countries.add(country.getName());
-        for (Country adjacent : country.getAdjacentCountries()) {
-            if (!countries.contains(adjacent.getName())) {
-                traversCountry2(adjacent, countries);
-            }
-        }
-    }
-
-    /**
-     * This Method verifies if the worldMap is a connected graph.
-     *
-     * @param firstCountry firstCountry
-     * @param countryNames countryNames
-     * @return result
-     */
-    public boolean isMapConnected(Country firstCountry, Set<String> countryNames) {
-        HashSet<String> countries = new HashSet<>();
-        if (countryNames.isEmpty())
-            return true;
-        traversCountry2(firstCountry, countries);
-        boolean result = countries.containsAll(countryNames);
-        return result;
-    }
-
     /**
 	 * Clears the instance of map and resets it
 	 */
 	public static void clear() {
-		instance = null;
+		GameContext.current().clearWorldMap();
 	}
 
 	/**
@@ -439,6 +477,8 @@ public class WorldMap implements Serializable {
 	public void clearData() {
 		continents.clear();
 		countries.clear();
+		connectivityIndex.invalidate();
+		graph = null;
 	}
 
 	/**
@@ -0,0 +1,258 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.zip.CRC32;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+
+/**
+ * The compiled form of a map file, kept next to it with the extension {@value #FILE_EXTENSION}.
+ * <p>
+ * The file starts with a header: the version, the hash of the content of the map file it was compiled from and the
+ * result of the validation of the map. Then come the continents, the countries with the index of their continent,
+ * and the borders as one array of country indexes, and a CRC32 of the whole content. The file is read with a single
+ * bulk read and the borders with a single bulk copy. It is only used while the hash of the map file is the same, so
+ * the text map file stays the one that is edited.
+ */
+public final class BinaryMapFile {
+	/**
+	 * Extension of the compiled map files
+	 */
+	public static final String FILE_EXTENSION = ".cmap";
+
+	/**
+	 * First bytes of a compiled map file, "CQMP"
+	 */
+	private static final int MAGIC = 0x43514D50;
+
+	/**
+	 * Version of the format of the compiled map files
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Private constructor, the class only has static methods
+	 */
+	private BinaryMapFile() {
+	}
+
+	/**
+	 * @param filename The name of the map file with or without extension
+	 * @return The absolute path to the compiled map file
+	 */
+	public static Path getPath(String filename) {
+		return Paths.get(MapIO.MAPS_FOLDER_PATH + FileHelper.getFileNameWithoutExtension(filename) + FILE_EXTENSION);
+	}
+
+	/**
+	 * Read a compiled map file
+	 *
+	 * @param path       path of the compiled map file
+	 * @param sourceHash hash of the current content of the map file
+	 * @return the topology of the map, null if there is no compiled map file or it was compiled from another content
+	 * @throws ValidationException if the file cannot be read or is not a compiled map file
+	 */
+	public static MapTopology read(Path path, byte[] sourceHash) throws ValidationException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < 12 || size > Integer.MAX_VALUE) {
+				throw new ValidationException(path + " is not a compiled map.");
+			}
+			buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+			}
+			buffer.flip();
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			throw new ValidationException(path + " cannot be read: " + e.getMessage());
+		}
+		return decode(buffer, sourceHash, path.toString());
+	}
+
+	/**
+	 * Write a compiled map file. The file is written next to its final path and then moved, so a reader never sees a
+	 * file which is written halfway.
+	 *
+	 * @param path       path of the compiled map file
+	 * @param sourceHash hash of the content of the map file the topology is read from
+	 * @param topology   the topology of the map
+	 * @throws ValidationException if the file cannot be written
+	 */
+	public static void write(Path path, byte[] sourceHash, MapTopology topology) throws ValidationException {
+		ByteBuffer buffer = encode(sourceHash, topology);
+		Path temporaryPath = Paths.get(path + ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new ValidationException(path + " cannot be written: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Compile a topology that is stored in another file, such as a game snapshot
+	 *
+	 * @param topology the topology of the map
+	 * @return the content of a compiled map file without any source
+	 */
+	public static byte[] encode(MapTopology topology) {
+		return encode(new byte[0], topology).array();
+	}
+
+	/**
+	 * @param content the content of a compiled map file without any source
+	 * @param source  name of the file for the error messages
+	 * @return the topology of the map
+	 * @throws ValidationException if the content is not a valid compiled map of this version
+	 */
+	public static MapTopology decode(byte[] content, String source) throws ValidationException {
+		if (content.length < 12) {
+			throw new ValidationException(source + " is damaged.");
+		}
+		MapTopology topology = decode(ByteBuffer.wrap(content), new byte[0], source);
+		if (topology == null) {
+			throw new ValidationException(source + " has a compiled map of another version.");
+		}
+		return topology;
+	}
+
+	/**
+	 * @param sourceHash hash of the content of the map file
+	 * @param topology   the topology of the map
+	 * @return the content of the compiled map file, ready to be written
+	 */
+	static ByteBuffer encode(byte[] sourceHash, MapTopology topology) {
+		byte[][] continentNames = toBytes(topology.getContinentNames());
+		byte[][] countryNames = toBytes(topology.getCountryNames());
+		int[] borders = topology.getBorders();
+		int size = 4 + 4 + 4 + sourceHash.length + 1 + 4 + 4 + 4 + 4 * borders.length + 4;
+		for (byte[] name : continentNames) {
+			size += 4 + name.length + 4;
+		}
+		for (byte[] name : countryNames) {
+			size += 4 + name.length + 4;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putInt(VERSION);
+		buffer.putInt(sourceHash.length).put(sourceHash);
+		buffer.put((byte) (topology.isValid() ? 1 : 0));
+		buffer.putInt(continentNames.length);
+		for (int i = 0; i < continentNames.length; i++) {
+			buffer.putInt(continentNames[i].length).put(continentNames[i]).putInt(topology.getContinentValues()[i]);
+		}
+		buffer.putInt(countryNames.length);
+		for (int i = 0; i < countryNames.length; i++) {
+			buffer.putInt(countryNames[i].length).put(countryNames[i]).putInt(topology.getCountryContinents()[i]);
+		}
+		buffer.putInt(borders.length);
+		buffer.asIntBuffer().put(borders);
+		buffer.position(buffer.position() + 4 * borders.length);
+		buffer.putInt(checksum(buffer.array(), buffer.position()));
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * @param buffer     the content of a compiled map file
+	 * @param sourceHash hash of the current content of the map file
+	 * @param source     name of the file for the error messages
+	 * @return the topology of the map, null if it was compiled from another content of the map file
+	 * @throws ValidationException if the content is not a valid compiled map
+	 */
+	static MapTopology decode(ByteBuffer buffer, byte[] sourceHash, String source) throws ValidationException {
+		int length = buffer.remaining() - 4;
+		if (buffer.getInt(0) != MAGIC) {
+			throw new ValidationException(source + " is not a compiled map.");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			return null;
+		}
+		if (buffer.getInt(length) != checksum(buffer.array(), length)) {
+			throw new ValidationException(source + " is damaged.");
+		}
+		try {
+			buffer.position(8);
+			byte[] hash = new byte[buffer.getInt()];
+			buffer.get(hash);
+			if (!MessageDigest.isEqual(hash, sourceHash)) {
+				return null;
+			}
+			boolean valid = buffer.get() != 0;
+			String[] continentNames = new String[buffer.getInt()];
+			int[] continentValues = new int[continentNames.length];
+			for (int i = 0; i < continentNames.length; i++) {
+				continentNames[i] = getString(buffer);
+				continentValues[i] = buffer.getInt();
+			}
+			String[] countryNames = new String[buffer.getInt()];
+			int[] countryContinents = new int[countryNames.length];
+			for (int i = 0; i < countryNames.length; i++) {
+				countryNames[i] = getString(buffer);
+				countryContinents[i] = buffer.getInt();
+				if (countryContinents[i] < 0 || countryContinents[i] >= continentNames.length) {
+					throw new ValidationException(source + " is damaged.");
+				}
+			}
+			int[] borders = new int[buffer.getInt()];
+			buffer.asIntBuffer().get(borders);
+			for (int country : borders) {
+				if (country < 0 || country >= countryNames.length) {
+					throw new ValidationException(source + " is damaged.");
+				}
+			}
+			return new MapTopology(continentNames, continentValues, countryNames, countryContinents, borders, valid);
+		} catch (RuntimeException e) {
+			throw new ValidationException(source + " is damaged.");
+		}
+	}
+
+	/**
+	 * @param names some names
+	 * @return the UTF-8 bytes of the names
+	 */
+	private static byte[][] toBytes(String[] names) {
+		byte[][] bytes = new byte[names.length][];
+		for (int i = 0; i < names.length; i++) {
+			bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+		}
+		return bytes;
+	}
+
+	/**
+	 * @param bytes  the content
+	 * @param length length of the content to check
+	 * @return the CRC32 of the content
+	 */
+	private static int checksum(byte[] bytes, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * @param buffer the buffer
+	 * @return a string written as its length and its UTF-8 bytes
+	 */
+	private static String getString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
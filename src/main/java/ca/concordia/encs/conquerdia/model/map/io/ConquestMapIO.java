@@ -1,5 +1,6 @@
 package ca.concordia.encs.conquerdia.model.map.io;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
@@ -130,7 +131,8 @@ public class ConquestMapIO {
 	 */
 	public static boolean isConquestMap(String mapName) {
 		try {
-			List<String> lines = Files.readAllLines(Paths.get(getMapFilePath(mapName)));
+			// the identifiers are ASCII, so the map can be read whatever its charset
+			List<String> lines = Files.readAllLines(Paths.get(getMapFilePath(mapName)), StandardCharsets.ISO_8859_1);
 			return lines.contains(TERRITORIES_SECTION_IDENTIFIER);
 		} catch (Exception ex) {
 			return false;
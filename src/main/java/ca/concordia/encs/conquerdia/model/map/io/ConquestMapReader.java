@@ -1,27 +1,28 @@
 package ca.concordia.encs.conquerdia.model.map.io;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Map.Entry;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 
-import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 /**
  * This class provides a set of methods to read a Conquest map file.
+ * <p>
+ * The file is read in a single scan by a {@link MapBuffer}. The territories are tokenised by {@link MapChunk}s, in
+ * parallel for a large file, and each distinct name is only formatted once by a chunk. The chunks are then merged in
+ * the order of their lines: every territory name is given an id the first time it is seen, as a territory or as a
+ * neighbour, and the neighbours are kept as pairs of ids. They are resolved to countries at the end, when the
+ * borders are added to the {@link MapTopology} once each, in the order they are first given.
  *
  * @author Mosabbir
  */
 public class ConquestMapReader extends ConquestMapIO {
 
 	private final WorldMap worldMap;
-	private BufferedReader reader;
 
 	/**
 	 * Constructor takes a worldMap instance to populate it from the file
@@ -41,100 +42,275 @@ public class ConquestMapReader extends ConquestMapIO {
 	 *         during reading
 	 */
 	public boolean read(String filename) {
+		MapTopology topology = readTopology(filename);
+		if (topology == null)
+			return false;
 		try {
-			final String path = getMapFilePath(filename);
-			final File file = new File(path);
-			String line;
-
-			reader = new BufferedReader(new FileReader(file));
-
-			while ((line = reader.readLine()) != null) {
-				if (isContientsIdentifier(line)) {
-					break;
-				}
-			}
-
-			readContinents();
-
-			while ((line = reader.readLine()) != null) {
-				if (isTerritoriesIdentifier(line)) {
-					break;
-				}
-			}
-			readTerritories();
+			topology.copyTo(worldMap);
 			return true;
 		} catch (Exception ex) {
 			ex.printStackTrace();
 			return false;
-		} finally {
-			try {
-				if (reader != null)
-					reader.close();
-			} catch (IOException e) {
-			}
 		}
 	}
 
 	/**
-	 * Reads all continents which are under the continent section in file add them
-	 * to the map instance
+	 * Parses the conquest .map file without creating any country
+	 *
+	 * @param filename Name of the map file with or without the extension
+	 * @return the continents, countries and borders of the file, null if an
+	 *         exception occurred during reading
 	 */
-	private void readContinents() throws IOException, ValidationException {
-		String line;
-		String[] tokens;
-		while ((line = reader.readLine()) != null && line.length() > 0) {
-			tokens = StringUtils.stripAll(StringUtils.normalizeSpace(line)
-					.split(CONTINENTS_DELIMETER));
-			String continentName = formatNames(tokens[0]);
-			int continentValue = Integer.parseInt(tokens[1]);
-			worldMap.addContinent(continentName, continentValue);
+	static MapTopology readTopology(String filename) {
+		try {
+			return parseTopology(filename);
+		} catch (IOException | RuntimeException ex) {
+			ex.printStackTrace();
+			return null;
 		}
 	}
 
 	/**
-	 * Reads all countries which are under the Territories section in file add them
-	 * to the map instance
+	 * Parses the conquest .map file without creating any country
+	 *
+	 * @param filename Name of the map file with or without the extension
+	 * @return the continents, countries and borders of the file
+	 * @throws IOException           if the file cannot be read
+	 * @throws IllegalStateException with the number of the line if the file is
+	 *                               not a valid map file
+	 */
+	static MapTopology parseTopology(String filename) throws IOException {
+		MapBuffer buffer = MapBuffer.open(getMapFilePath(filename));
+		MapTopology.Builder builder = new MapTopology.Builder();
+		while (buffer.nextLine()) {
+			if (buffer.lineEqualsIgnoreCase(CONTINENTS_SECTION_IDENTIFIER)) {
+				readContinents(buffer, builder);
+				break;
+			}
+		}
+		// the continent section ends on the identifier of the next section, which may be the territories one
+		do {
+			if (buffer.lineEqualsIgnoreCase(TERRITORIES_SECTION_IDENTIFIER)) {
+				new TerritoriesReader(buffer, builder).read();
+				break;
+			}
+		} while (buffer.nextLine());
+		return builder.build();
+	}
+
+	/**
+	 * Reads all continents which are under the continent section in file, up to the identifier of the next section.
+	 * The blank lines between the groups of continents are skipped.
 	 */
-	private void readTerritories()
-			throws IOException, ValidationException {
-		String line;
-		String[] tokens;
-		String countryName;
-		String contientName;
-		HashMap<String, ArrayList<String>> countryNeighborsMap = new HashMap<>();
-		ArrayList<String> neighbors;
-
-		while ((line = reader.readLine()) != null) {
-
-			if (line.equals("")) {
+	private static void readContinents(MapBuffer buffer, MapTopology.Builder builder) {
+		while (buffer.nextLine() && !buffer.isSectionHeader()) {
+			if (buffer.isBlankLine()) {
 				continue;
 			}
+			buffer.nextToken(CONTINENTS_DELIMETER.charAt(0));
+			String continentName = formatNames(StringUtils.normalizeSpace(buffer.stringToken()));
+			if (!buffer.nextToken(CONTINENTS_DELIMETER.charAt(0))) {
+				throw MapChunk.error(buffer.getLineNumber(), "Missing value of the continent " + continentName + ".");
+			}
+			int continentValue;
+			try {
+				continentValue = buffer.intToken();
+			} catch (NumberFormatException ex) {
+				throw MapChunk.error(buffer.getLineNumber(), ex.getMessage());
+			}
+			if (builder.addContinent(continentName, continentValue) < 0) {
+				throw MapChunk.error(buffer.getLineNumber(), "The continent " + continentName + " is not valid.");
+			}
+		}
+	}
+
+	/**
+	 * Merges the territories of the chunks of the Territories section
+	 */
+	private static class TerritoriesReader {
+		private final MapBuffer buffer;
+		private final MapTopology.Builder builder;
+
+		/**
+		 * Id of each formatted territory name
+		 */
+		private final Map<String, Integer> ids = new HashMap<>();
+
+		/**
+		 * Formatted name of each id
+		 */
+		private String[] names = new String[64];
 
-			tokens = StringUtils.stripAll(StringUtils.normalizeSpace(line)
-					.split(TERRITORIES_DELIMETER));
+		/**
+		 * The neighbours, as pairs of the country of the territory and the id of the neighbour
+		 */
+		private int[] neighbours = new int[256];
+		private int numberOfNeighbourIds;
 
-			countryName = formatNames(tokens[0]);
-			contientName = formatNames(tokens[3]);
+		/**
+		 * Number of the line of each pair of neighbours
+		 */
+		private int[] neighbourLines = new int[128];
 
-			worldMap.addCountry(countryName, contientName);
+		/**
+		 * @param buffer  the file, after the identifier of the Territories section
+		 * @param builder the topology of the map
+		 */
+		TerritoriesReader(MapBuffer buffer, MapTopology.Builder builder) {
+			this.buffer = buffer;
+			this.builder = builder;
+		}
 
-			// Traverse and save neighbors
-			neighbors = new ArrayList<String>();
-			for (int i = 4; i < tokens.length; i++) {
-				neighbors.add(formatNames(tokens[i]));
+		/**
+		 * Reads all the territories up to the end of the file, and add the borders
+		 * between them
+		 */
+		void read() {
+			MapBuffer section = buffer.nextSection(false);
+			int lineNumber = section.getFirstLineNumber();
+			for (TerritoriesChunk chunk : MapChunk.tokenise(section, TerritoriesChunk::new)) {
+				int start = 0;
+				for (int i = 0; i < chunk.numberOfTerritories; i++) {
+					int line = lineNumber + chunk.lines[i] - 1;
+					String countryName = chunk.countryNames[i];
+					idOf(countryName);
+					int continent = builder.getContinentId(chunk.continentNames[i]);
+					if (continent < 0) {
+						throw MapChunk.error(line, "The continent " + chunk.continentNames[i] + " does not exist.");
+					}
+					int country = builder.addCountry(countryName, continent);
+					if (country < 0) {
+						throw MapChunk.error(line, "The territory " + countryName + " already exists.");
+					}
+					for (int j = start; j < chunk.neighbourEnds[i]; j++) {
+						addNeighbour(country, idOf(chunk.neighbourNames[j]), line);
+					}
+					start = chunk.neighbourEnds[i];
+				}
+				chunk.checkError(lineNumber);
+				lineNumber += chunk.getNumberOfLines();
+			}
+			for (int i = 0; i < numberOfNeighbourIds; i += 2) {
+				String neighbourName = names[neighbours[i + 1]];
+				int neighbour = builder.getCountryId(neighbourName);
+				if (neighbour < 0) {
+					throw MapChunk.error(neighbourLines[i / 2], "The territory " + neighbourName + " does not exist.");
+				}
+				builder.addBorder(neighbours[i], neighbour);
 			}
-			countryNeighborsMap.put(countryName, neighbors);
 		}
 
-		// Add the neighbors of each country to the world map
-		for (Entry<String, ArrayList<String>> entry : countryNeighborsMap.entrySet()) {
-			countryName = entry.getKey();
-			for (String neighbor : entry.getValue()) {
-				if (!worldMap.getCountry(countryName)
-						.isAdjacentTo(neighbor)) {
-					worldMap.addNeighbour(countryName, neighbor);
+		/**
+		 * @param name a formatted territory name
+		 * @return the id of the name
+		 */
+		private int idOf(String name) {
+			Integer id = ids.get(name);
+			if (id == null) {
+				id = ids.size();
+				ids.put(name, id);
+				if (id == names.length) {
+					names = Arrays.copyOf(names, id * 2);
 				}
+				names[id] = name;
+			}
+			return id;
+		}
+
+		/**
+		 * @param country   the country of a territory
+		 * @param neighbour id of the name of one of its neighbours
+		 * @param line      number of the line of the territory
+		 */
+		private void addNeighbour(int country, int neighbour, int line) {
+			if (numberOfNeighbourIds == neighbours.length) {
+				neighbours = Arrays.copyOf(neighbours, numberOfNeighbourIds * 2);
+				neighbourLines = Arrays.copyOf(neighbourLines, numberOfNeighbourIds);
+			}
+			neighbourLines[numberOfNeighbourIds / 2] = line;
+			neighbours[numberOfNeighbourIds++] = country;
+			neighbours[numberOfNeighbourIds++] = neighbour;
+		}
+	}
+
+	/**
+	 * The territories of some lines of the Territories section, with their names formatted
+	 */
+	private static class TerritoriesChunk extends MapChunk {
+		/**
+		 * Formatted name of each name as it is written in the file
+		 */
+		private final Map<String, String> formattedNames = new HashMap<>();
+
+		private String[] countryNames = new String[256];
+		private String[] continentNames = new String[256];
+
+		/**
+		 * Number of the line of each territory in the chunk
+		 */
+		private int[] lines = new int[256];
+
+		/**
+		 * The neighbours of all the territories
+		 */
+		private String[] neighbourNames = new String[1024];
+		private int numberOfNeighbours;
+
+		/**
+		 * End of the neighbours of each territory
+		 */
+		private int[] neighbourEnds = new int[256];
+		private int numberOfTerritories;
+
+		@Override
+		protected void tokeniseLine(MapBuffer lines) {
+			if (lines.isBlankLine()) {
+				return;
+			}
+			final char delimiter = TERRITORIES_DELIMETER.charAt(0);
+			lines.nextToken(delimiter);
+			String countryName = format(lines.stringToken());
+			lines.nextToken(delimiter);
+			lines.nextToken(delimiter);
+			if (!lines.nextToken(delimiter)) {
+				throw new IllegalStateException("Missing continent of the territory " + countryName + ".");
+			}
+			String continentName = format(lines.stringToken());
+			while (lines.nextToken(delimiter)) {
+				if (!lines.isEmptyToken()) {
+					addNeighbour(format(lines.stringToken()));
+				}
+			}
+			int i = numberOfTerritories;
+			if (i == countryNames.length) {
+				countryNames = Arrays.copyOf(countryNames, i * 2);
+				continentNames = Arrays.copyOf(continentNames, i * 2);
+				this.lines = Arrays.copyOf(this.lines, i * 2);
+				neighbourEnds = Arrays.copyOf(neighbourEnds, i * 2);
+			}
+			countryNames[i] = countryName;
+			continentNames[i] = continentName;
+			this.lines[i] = getNumberOfLines() + 1;
+			neighbourEnds[i] = numberOfNeighbours;
+			numberOfTerritories++;
+		}
+
+		/**
+		 * @param token a name as it is written in the file
+		 * @return the formatted name
+		 */
+		private String format(String token) {
+			return formattedNames.computeIfAbsent(token, name -> formatNames(StringUtils.normalizeSpace(name)));
+		}
+
+		/**
+		 * @param neighbourName formatted name of a neighbour
+		 */
+		private void addNeighbour(String neighbourName) {
+			if (numberOfNeighbours == neighbourNames.length) {
+				neighbourNames = Arrays.copyOf(neighbourNames, numberOfNeighbours * 2);
 			}
+			neighbourNames[numberOfNeighbours++] = neighbourName;
 		}
 	}
 }
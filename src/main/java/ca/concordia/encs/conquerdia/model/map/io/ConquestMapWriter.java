@@ -1,9 +1,6 @@
 package ca.concordia.encs.conquerdia.model.map.io;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Set;
 
 import ca.concordia.encs.conquerdia.model.map.Continent;
@@ -12,6 +9,8 @@ import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 /**
  * Conquest Map Writer
+ * <p>
+ * The rows are written to a {@link MapFileWriter} as they are built.
  */
 class ConquestMapWriter extends ConquestMapIO {
 
@@ -20,11 +19,6 @@ class ConquestMapWriter extends ConquestMapIO {
 	 */
 	static final String CONTINENT_ROW_FORMAT = "%s" + CONTINENTS_DELIMETER + "%d";
 
-	/**
-	 * Writer for the file
-	 */
-	protected BufferedWriter writer;
-
 	/**
 	 * Writes the world map to the specified file
 	 * 
@@ -33,131 +27,69 @@ class ConquestMapWriter extends ConquestMapIO {
 	 * @return True if save is successful otherwise false
 	 */
 	public boolean write(String filename, WorldMap worldMap) {
-		ArrayList<Country> countries;
-
-		try {
-			final String mapName = FileHelper.getFileNameWithoutExtension(filename);
-			final String path = ConquestMapIO.getMapFilePath(filename);
-
-			writer = new BufferedWriter(new FileWriter(path));
+		final String path = ConquestMapIO.getMapFilePath(filename);
 
+		try (MapFileWriter writer = new MapFileWriter(path)) {
 			// Write [Map]
-			writeSection(MAP_SECTION_IDENTIFIER, null);
+			writer.appendLine(MAP_SECTION_IDENTIFIER);
 			writer.newLine();
 
-			writeContinents(worldMap.getContinents());
+			writeContinents(writer, worldMap.getContinents());
 			writer.newLine();
 
-			countries = getAllCountries(worldMap.getContinents());
-			writeTerritories(countries);
+			writeTerritories(writer, worldMap.getContinents());
 			writer.newLine();
-
+			writer.commit();
 		} catch (IOException e) {
 			e.printStackTrace();
 			return false;
-		} finally {
-			if (writer != null) {
-				try {
-					writer.flush();
-					writer.close();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-			}
 		}
 
 		return true;
 	}
 
 	/**
-	 * Writes Territories
+	 * Writes Territories, in the order of their continents
 	 * 
-	 * @param row for Territory
+	 * @param writer     the map file
+	 * @param continents the continents
 	 */
-	private void writeTerritories(ArrayList<Country> countries) throws IOException {
-		ArrayList<String> rows = new ArrayList<>();
-		StringBuilder rowBuilder = new StringBuilder();
+	private void writeTerritories(MapFileWriter writer, Set<Continent> continents) throws IOException {
+		writer.appendLine(TERRITORIES_SECTION_IDENTIFIER);
 
 		// Each Territory has this format Kittson,67,77,Minnesota,Roseau,Marshall
-		for (Country country : countries) {
-			rowBuilder.setLength(0);
-			rowBuilder.append(country.getName());
+		for (Continent continent : continents) {
+			for (Country country : continent.getCountries()) {
+				writer.append(country.getName());
 
-			// Save the unused coordinates
-			rowBuilder.append(TERRITORIES_DELIMETER);
-			rowBuilder.append("0");
-			rowBuilder.append(TERRITORIES_DELIMETER);
-			rowBuilder.append("0");
+				// Save the unused coordinates
+				writer.append(TERRITORIES_DELIMETER).append(0);
+				writer.append(TERRITORIES_DELIMETER).append(0);
 
-			// Append the continent
-			rowBuilder.append(TERRITORIES_DELIMETER);
-			rowBuilder.append(country.getContinent().getName());
+				// Append the continent
+				writer.append(TERRITORIES_DELIMETER).append(continent.getName());
 
-			// Append the adjacency
-			for (Country neighbor : country.getAdjacentCountries()) {
-				rowBuilder.append(TERRITORIES_DELIMETER);
-				rowBuilder.append(neighbor.getName());
+				// Append the adjacency
+				for (Country neighbor : country.getAdjacentCountries()) {
+					writer.append(TERRITORIES_DELIMETER).append(neighbor.getName());
+				}
+				writer.newLine();
 			}
-
-			rows.add(rowBuilder.toString());
 		}
-
-		writeSection(TERRITORIES_SECTION_IDENTIFIER, rows.stream().toArray(String[]::new));
 	}
 
 	/**
 	 * Writes the continents to the file
-	 */
-	private void writeContinents(Set<Continent> continents) throws IOException {
-		String[] rows = new String[continents.size()];
-		int i = 0;
-		for (Continent continent : continents) {
-			rows[i++] = String.format(CONTINENT_ROW_FORMAT,
-					continent.getName(),
-					continent.getValue());
-		}
-		writeSection(CONTINENTS_SECTION_IDENTIFIER, rows);
-	}
-
-	/**
-	 * Writes a section like countries and its rows
-	 * 
-	 * @param sectionIdentifier The section identifier
-	 * @param rows              The rows for the sections
-	 */
-	private void writeSection(String sectionIdentifier, String[] rows) throws IOException {
-		writeLine(sectionIdentifier);
-		if (rows != null) {
-			for (String row : rows) {
-				writeLine(row);
-			}
-		}
-	}
-
-	/**
-	 * Helper method to write a single line and then providing a new line
 	 * 
-	 * @param line The line
+	 * @param writer     the map file
+	 * @param continents the continents
 	 */
-	private void writeLine(String line) throws IOException {
-		writer.write(line);
-		writer.newLine();
-	}
-
-	/**
-	 * Returns all the countries
-	 * 
-	 * @param continent The continents
-	 * @return Collection of Unique Countries
-	 */
-	private ArrayList<Country> getAllCountries(Set<Continent> continents) {
-		ArrayList<Country> allCountries = new ArrayList<Country>();
-
+	private void writeContinents(MapFileWriter writer, Set<Continent> continents) throws IOException {
+		writer.appendLine(CONTINENTS_SECTION_IDENTIFIER);
 		for (Continent continent : continents) {
-			for (Country country : continent.getCountries()) {
-				allCountries.add(country);
-			}
+			writer.appendLine(String.format(CONTINENT_ROW_FORMAT,
+					continent.getName(),
+					continent.getValue()));
 		}
-		return allCountries;
 	}
 }
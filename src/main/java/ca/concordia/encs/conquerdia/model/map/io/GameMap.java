@@ -1,5 +1,11 @@
 package ca.concordia.encs.conquerdia.model.map.io;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
 /**
@@ -11,6 +17,11 @@ public class GameMap implements IGameMap {
 	 */
 	private final WorldMap worldMap;
 
+	/**
+	 * The topology of the last map loaded, null if the last load failed
+	 */
+	private MapTopology loadedTopology;
+
 	/**
 	 * Constructor
 	 * 
@@ -21,20 +32,58 @@ public class GameMap implements IGameMap {
 	}
 
 	/**
-	 * Loads the map from the file and populates the worldmap object
+	 * Loads the map from the file and populates the worldmap object. The map is
+	 * only parsed if its file is not in the {@link MapTopologyCache#getShared()
+	 * cache} and has no up to date {@link BinaryMapFile compiled map}. A compiled
+	 * map that is out of date is compiled again.
 	 */
 	@Override
 	public boolean loadFrom(String filename) {
-		IMapReader reader;
-		if (isConquestMapFile(filename)) {
-			reader = new DominationToConquestMapReaderAdapter(worldMap,
-					new ConquestMapReader(worldMap));
-		} else {
-			reader = new MapReader(worldMap);
+		worldMap.clearData();
+		loadedTopology = null;
+		String path = MapIO.getMapFilePath(filename);
+		byte[] hash;
+		try {
+			hash = MapTopologyCache.hash(Files.readAllBytes(Paths.get(path)));
+		} catch (IOException | RuntimeException ex) {
+			return false;
 		}
+		MapTopologyCache cache = MapTopologyCache.getShared();
+		MapTopology topology = cache.get(path, hash);
+		if (topology == null) {
+			Path binaryPath = BinaryMapFile.getPath(filename);
+			try {
+				topology = BinaryMapFile.read(binaryPath, hash);
+			} catch (ValidationException ex) {
+				topology = null;
+			}
+			if (topology == null) {
+				topology = MapTopology.read(filename, isConquestMapFile(filename));
+				if (topology == null) {
+					return false;
+				}
+				if (Files.exists(binaryPath)) {
+					writeBinary(binaryPath, hash, topology);
+				}
+			}
+			cache.put(path, hash, topology);
+		}
+		try {
+			topology.copyTo(worldMap);
+		} catch (ValidationException ex) {
+			return false;
+		}
+		loadedTopology = topology;
+		return true;
+	}
 
-		worldMap.clearData();
-		return reader.readMap(filename);
+	/**
+	 * The result is computed once for all the loads of the same content of a map
+	 * file, and kept in its compiled map.
+	 */
+	@Override
+	public boolean isLoadedMapValid() {
+		return loadedTopology != null && loadedTopology.isValid();
 	}
 
 	/**
@@ -54,6 +103,41 @@ public class GameMap implements IGameMap {
 		return writer.writeMap(filename);
 	}
 
+	/**
+	 * Compile the saved map file to a {@link BinaryMapFile}
+	 */
+	@Override
+	public boolean saveBinaryTo(String filename) {
+		String path = MapIO.getMapFilePath(filename);
+		byte[] hash;
+		try {
+			hash = MapTopologyCache.hash(Files.readAllBytes(Paths.get(path)));
+		} catch (IOException ex) {
+			return false;
+		}
+		MapTopology topology = MapTopology.read(filename, isConquestMapFile(filename));
+		if (topology == null) {
+			return false;
+		}
+		MapTopologyCache.getShared().put(path, hash, topology);
+		return writeBinary(BinaryMapFile.getPath(filename), hash, topology);
+	}
+
+	/**
+	 * @param path     path of the compiled map file
+	 * @param hash     hash of the content of the map file
+	 * @param topology the topology read from the map file
+	 * @return true if the compiled map is written
+	 */
+	private boolean writeBinary(Path path, byte[] hash, MapTopology topology) {
+		try {
+			BinaryMapFile.write(path, hash, topology);
+			return true;
+		} catch (ValidationException ex) {
+			return false;
+		}
+	}
+
 	/**
 	 * Checks if the map is a conquest file or not
 	 * 
@@ -19,4 +19,18 @@ public interface IGameMap {
 	 * @return true if success
 	 */
 	boolean saveTo(String filename);
+
+	/**
+	 * write the compiled form of a saved map file next to it
+	 *
+	 * @param filename filename
+	 * @return true if success
+	 */
+	boolean saveBinaryTo(String filename);
+
+	/**
+	 * @return true if the last map loaded is known to be valid without checking
+	 *         the map again
+	 */
+	boolean isLoadedMapValid();
 }
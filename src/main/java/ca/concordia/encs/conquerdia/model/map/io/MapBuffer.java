@@ -0,0 +1,384 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The bytes of a map file, read line by line and token by token without copying them into strings.
+ * <p>
+ * A large file is mapped in memory, a small one is read with a single bulk read, so that the file is not kept open
+ * by a mapping when the map is saved again. Only the tokens which are names are decoded, the numbers are parsed from
+ * the bytes. A buffer can also be a range of lines of a file, e.g. a section, which can be split in chunks that are
+ * read on different threads.
+ */
+final class MapBuffer {
+	/**
+	 * Files of at least this size are mapped in memory
+	 */
+	static final long MAPPED_FILE_MIN_SIZE = 1 << 20;
+
+	/**
+	 * Charset of the map files, the same as the one of a {@link java.io.FileReader}
+	 */
+	private static final Charset CHARSET = Charset.defaultCharset();
+
+	/**
+	 * The content of the file
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * End of the content of the file
+	 */
+	private final int limit;
+
+	/**
+	 * Start of the next line
+	 */
+	private int position;
+
+	/**
+	 * Number of the first line of this buffer in the file
+	 */
+	private final int firstLineNumber;
+
+	/**
+	 * Number of the current line in the file, one less than the first line before the first call of
+	 * {@link #nextLine()}
+	 */
+	private int lineNumber;
+
+	/**
+	 * Start of the current line
+	 */
+	private int lineStart;
+
+	/**
+	 * End of the current line, without its line break
+	 */
+	private int lineEnd;
+
+	/**
+	 * Start of the rest of the current line, which is not tokenised yet
+	 */
+	private int tokenPosition;
+
+	/**
+	 * Start of the current token
+	 */
+	private int tokenStart;
+
+	/**
+	 * End of the current token
+	 */
+	private int tokenEnd;
+
+	/**
+	 * Bytes of the last token decoded
+	 */
+	private byte[] scratch = new byte[64];
+
+	/**
+	 * @param buffer the content of a file
+	 */
+	MapBuffer(ByteBuffer buffer) {
+		this(buffer, 0, buffer.limit(), 1);
+	}
+
+	/**
+	 * @param buffer          the content of a file
+	 * @param start           start of the range of lines
+	 * @param end             end of the range of lines
+	 * @param firstLineNumber number of the first line of the range in the file
+	 */
+	private MapBuffer(ByteBuffer buffer, int start, int end, int firstLineNumber) {
+		this.buffer = buffer;
+		this.position = start;
+		this.limit = end;
+		this.firstLineNumber = firstLineNumber;
+		this.lineNumber = firstLineNumber - 1;
+	}
+
+	/**
+	 * @param path path of the file
+	 * @return the content of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	static MapBuffer open(String path) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("The map file is too large.");
+			}
+			if (size >= MAPPED_FILE_MIN_SIZE) {
+				return new MapBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+			}
+			buffer.flip();
+			return new MapBuffer(buffer);
+		}
+	}
+
+	/**
+	 * Move to the next line
+	 *
+	 * @return false at the end of the file
+	 */
+	boolean nextLine() {
+		if (position >= limit) {
+			return false;
+		}
+		int start = position;
+		int end = start;
+		while (end < limit && buffer.get(end) != '\n') {
+			end++;
+		}
+		position = end + 1;
+		if (end > start && buffer.get(end - 1) == '\r') {
+			end--;
+		}
+		lineStart = start;
+		lineEnd = end;
+		tokenPosition = start;
+		lineNumber++;
+		return true;
+	}
+
+	/**
+	 * @return number of the current line in the file
+	 */
+	int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * @return number of the first line of this buffer in the file
+	 */
+	int getFirstLineNumber() {
+		return firstLineNumber;
+	}
+
+	/**
+	 * @return number of bytes of the lines which are not read yet
+	 */
+	int remaining() {
+		return limit - position;
+	}
+
+	/**
+	 * Take the lines from the next one up to the first blank line, or to the end of the file, and move after them
+	 * and the blank line
+	 *
+	 * @param untilBlankLine false to take all the lines up to the end of the file
+	 * @return the lines of the section
+	 */
+	MapBuffer nextSection(boolean untilBlankLine) {
+		int start = position;
+		int firstLine = lineNumber + 1;
+		if (!untilBlankLine) {
+			while (nextLine()) {
+			}
+			return new MapBuffer(buffer, start, limit, firstLine);
+		}
+		int end = limit;
+		while (nextLine()) {
+			if (isBlankLine()) {
+				end = lineStart;
+				break;
+			}
+		}
+		return new MapBuffer(buffer, start, end, firstLine);
+	}
+
+	/**
+	 * Split the lines of this buffer, which must not be read yet, in chunks of about the same size. The line numbers
+	 * of a chunk start at 1, as only the reader of the first chunk knows the number of its first line.
+	 *
+	 * @param numberOfChunks the max number of chunks
+	 * @return the chunks, in the order of their lines
+	 */
+	List<MapBuffer> split(int numberOfChunks) {
+		List<MapBuffer> chunks = new ArrayList<>(numberOfChunks);
+		int start = position;
+		int chunkSize = Math.max(1, (limit - start) / numberOfChunks);
+		while (start < limit) {
+			int end = chunks.size() == numberOfChunks - 1 ? limit : Math.min(limit, start + chunkSize);
+			while (end < limit && buffer.get(end - 1) != '\n') {
+				end++;
+			}
+			chunks.add(new MapBuffer(buffer.duplicate(), start, end, 1));
+			start = end;
+		}
+		return chunks;
+	}
+
+	/**
+	 * @return true if the current line has no token
+	 */
+	boolean isBlankLine() {
+		for (int i = lineStart; i < lineEnd; i++) {
+			if (!isSpace(buffer.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the current line is the identifier of a section, which starts with a bracket
+	 */
+	boolean isSectionHeader() {
+		for (int i = lineStart; i < lineEnd; i++) {
+			if (!isSpace(buffer.get(i))) {
+				return buffer.get(i) == '[';
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param text an ASCII text
+	 * @return true if the current line is the text, ignoring the case
+	 */
+	boolean lineEqualsIgnoreCase(String text) {
+		if (lineEnd - lineStart != text.length()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (Character.toLowerCase((char) buffer.get(lineStart + i)) != Character.toLowerCase(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Move to the next token of the current line, the tokens are separated by spaces
+	 *
+	 * @return false if the line has no more tokens
+	 */
+	boolean nextToken() {
+		int start = tokenPosition;
+		while (start < lineEnd && isSpace(buffer.get(start))) {
+			start++;
+		}
+		if (start >= lineEnd) {
+			tokenPosition = lineEnd;
+			return false;
+		}
+		int end = start;
+		while (end < lineEnd && !isSpace(buffer.get(end))) {
+			end++;
+		}
+		tokenStart = start;
+		tokenEnd = end;
+		tokenPosition = end;
+		return true;
+	}
+
+	/**
+	 * Move to the next token of the current line, without the spaces around it
+	 *
+	 * @param delimiter the ASCII character between the tokens
+	 * @return false if the line has no more tokens
+	 */
+	boolean nextToken(char delimiter) {
+		if (tokenPosition > lineEnd) {
+			return false;
+		}
+		int end = tokenPosition;
+		while (end < lineEnd && buffer.get(end) != delimiter) {
+			end++;
+		}
+		int start = tokenPosition;
+		tokenPosition = end + 1;
+		while (start < end && isSpace(buffer.get(start))) {
+			start++;
+		}
+		while (end > start && isSpace(buffer.get(end - 1))) {
+			end--;
+		}
+		tokenStart = start;
+		tokenEnd = end;
+		return true;
+	}
+
+	/**
+	 * Move to the next token, which must exist
+	 *
+	 * @return this buffer
+	 * @throws IllegalStateException if the line has no more tokens
+	 */
+	MapBuffer requireToken() {
+		if (!nextToken()) {
+			throw new IllegalStateException("Missing value in the map file.");
+		}
+		return this;
+	}
+
+	/**
+	 * @return true if the current token has no byte
+	 */
+	boolean isEmptyToken() {
+		return tokenStart == tokenEnd;
+	}
+
+	/**
+	 * @return the current token as an integer
+	 * @throws NumberFormatException if the token is not an integer
+	 */
+	int intToken() {
+		int i = tokenStart;
+		boolean negative = i < tokenEnd && buffer.get(i) == '-';
+		if (negative || i < tokenEnd && buffer.get(i) == '+') {
+			i++;
+		}
+		if (i == tokenEnd || tokenEnd - i > 10) {
+			throw new NumberFormatException("Invalid number in the map file.");
+		}
+		long value = 0;
+		for (; i < tokenEnd; i++) {
+			int digit = buffer.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException("Invalid number in the map file.");
+			}
+			value = value * 10 + digit;
+		}
+		value = negative ? -value : value;
+		if (value != (int) value) {
+			throw new NumberFormatException("Invalid number in the map file.");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @return the current token as a string
+	 */
+	String stringToken() {
+		int length = tokenEnd - tokenStart;
+		if (length > scratch.length) {
+			scratch = Arrays.copyOf(scratch, Math.max(length, scratch.length * 2));
+		}
+		for (int i = 0; i < length; i++) {
+			scratch[i] = buffer.get(tokenStart + i);
+		}
+		return new String(scratch, 0, length, CHARSET);
+	}
+
+	/**
+	 * @param b a byte
+	 * @return true if the byte is a space or a tab
+	 */
+	private static boolean isSpace(byte b) {
+		return b == ' ' || b == '\t';
+	}
+}
@@ -0,0 +1,127 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The tokens of a range of lines of a section of a map file.
+ * <p>
+ * The lines of a large section are split in chunks which are tokenised in parallel on the common fork-join pool. The
+ * chunks only read the file, the map reader then merges them one after the other, in the order of the lines, on its
+ * own thread. A chunk stops at the first line it cannot tokenise and keeps the error, which the reader raises when it
+ * reaches that line, so the map and the error are the same whatever the number of chunks.
+ */
+abstract class MapChunk {
+	/**
+	 * Sections of at least this number of bytes are split in chunks
+	 */
+	static final int PARALLEL_MIN_SIZE = 1 << 20;
+
+	/**
+	 * Min number of bytes of a chunk
+	 */
+	static final int CHUNK_MIN_SIZE = 1 << 18;
+
+	/**
+	 * Number of lines tokenised, not counting the line of the error
+	 */
+	private int numberOfLines;
+
+	/**
+	 * Number of the line of the error in the chunk, from 1
+	 */
+	private int errorLine;
+
+	/**
+	 * The error of the line which cannot be tokenised, null if there is none
+	 */
+	private String error;
+
+	/**
+	 * Tokenise the lines of a section, in parallel if it is large
+	 *
+	 * @param section the lines of the section
+	 * @param factory creates an empty chunk
+	 * @param <T>     type of the chunks
+	 * @return the tokenised chunks, in the order of their lines
+	 */
+	static <T extends MapChunk> List<T> tokenise(MapBuffer section, Supplier<T> factory) {
+		int remaining = section.remaining();
+		if (remaining < PARALLEL_MIN_SIZE) {
+			return Collections.singletonList(tokenise(factory, section));
+		}
+		int numberOfChunks = Math.max(1, Math.min(4 * ForkJoinPool.getCommonPoolParallelism(),
+				remaining / CHUNK_MIN_SIZE));
+		return section.split(numberOfChunks).parallelStream()
+				.map(chunk -> tokenise(factory, chunk))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @param factory creates an empty chunk
+	 * @param lines   the lines of the chunk
+	 * @param <T>     type of the chunks
+	 * @return the tokenised chunk
+	 */
+	private static <T extends MapChunk> T tokenise(Supplier<T> factory, MapBuffer lines) {
+		T chunk = factory.get();
+		chunk.tokeniseLines(lines);
+		return chunk;
+	}
+
+	/**
+	 * Keep the tokens of the lines up to the first one which cannot be tokenised
+	 *
+	 * @param lines the lines of the chunk
+	 */
+	final void tokeniseLines(MapBuffer lines) {
+		while (lines.nextLine()) {
+			try {
+				tokeniseLine(lines);
+			} catch (RuntimeException ex) {
+				errorLine = numberOfLines + 1;
+				error = ex.getMessage() == null ? ex.toString() : ex.getMessage();
+				return;
+			}
+			numberOfLines++;
+		}
+	}
+
+	/**
+	 * Keep the tokens of the current line
+	 *
+	 * @param lines the lines of the chunk, at the line to tokenise
+	 */
+	protected abstract void tokeniseLine(MapBuffer lines);
+
+	/**
+	 * @return number of lines tokenised
+	 */
+	int getNumberOfLines() {
+		return numberOfLines;
+	}
+
+	/**
+	 * Raise the error of the line which cannot be tokenised, if any, after the other lines are merged
+	 *
+	 * @param firstLineNumber number of the first line of the chunk in the file
+	 * @throws IllegalStateException with the number of the line in the file and the error
+	 */
+	void checkError(int firstLineNumber) {
+		if (error != null) {
+			throw error(firstLineNumber + errorLine - 1, error);
+		}
+	}
+
+	/**
+	 * @param lineNumber number of a line in the file
+	 * @param message    the error
+	 * @return the error of the line
+	 */
+	static IllegalStateException error(int lineNumber, String message) {
+		return new IllegalStateException("Line " + lineNumber + ": " + message);
+	}
+}
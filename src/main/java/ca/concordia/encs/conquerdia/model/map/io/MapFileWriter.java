@@ -0,0 +1,223 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the text of a map file as it is built, without keeping its rows.
+ * <p>
+ * The text is put in a reusable char buffer, encoded to a reusable byte buffer and written through a
+ * {@link FileChannel} each time the buffer is full, so the memory used does not depend on the size of the map. The
+ * text goes to a temporary file next to the map file, which replaces the map file in a single atomic move when it is
+ * {@link #commit() committed}. A map file is thus either the old one or the new one, never a file written halfway.
+ */
+final class MapFileWriter implements AutoCloseable {
+	/**
+	 * Size of the buffers
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * The line separator of the map files, the same as the one of a {@link java.io.BufferedWriter}
+	 */
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	/**
+	 * Path of the map file
+	 */
+	private final Path path;
+
+	/**
+	 * Path of the temporary file
+	 */
+	private final Path temporaryPath;
+
+	/**
+	 * The temporary file
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Encodes the text in the charset of a {@link java.io.FileWriter}, and replaces the characters it cannot encode as
+	 * it does
+	 */
+	private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	/**
+	 * The text which is not encoded yet
+	 */
+	private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+	/**
+	 * The encoded text which is not written yet
+	 */
+	private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+	/**
+	 * Digits of the last integer appended, from the last one
+	 */
+	private final char[] digits = new char[11];
+
+	/**
+	 * true once the temporary file has replaced the map file
+	 */
+	private boolean committed;
+
+	/**
+	 * Create the temporary file of a map file
+	 *
+	 * @param path path of the map file
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	MapFileWriter(String path) throws IOException {
+		this.path = Paths.get(path);
+		this.temporaryPath = Paths.get(path + ".tmp");
+		this.channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * @param text some text
+	 * @return this writer
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	MapFileWriter append(String text) throws IOException {
+		int start = 0;
+		while (start < text.length()) {
+			if (!chars.hasRemaining()) {
+				encode(false);
+			}
+			int end = Math.min(text.length(), start + chars.remaining());
+			chars.put(text, start, end);
+			start = end;
+		}
+		return this;
+	}
+
+	/**
+	 * @param c a character
+	 * @return this writer
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	MapFileWriter append(char c) throws IOException {
+		if (!chars.hasRemaining()) {
+			encode(false);
+		}
+		chars.put(c);
+		return this;
+	}
+
+	/**
+	 * @param value an integer, written in decimal
+	 * @return this writer
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	MapFileWriter append(int value) throws IOException {
+		if (value == Integer.MIN_VALUE) {
+			return append(Integer.toString(value));
+		}
+		if (value < 0) {
+			append('-');
+			value = -value;
+		}
+		int length = 0;
+		do {
+			digits[length++] = (char) ('0' + value % 10);
+			value /= 10;
+		} while (value != 0);
+		while (length > 0) {
+			append(digits[--length]);
+		}
+		return this;
+	}
+
+	/**
+	 * @param line a line, without its line separator
+	 * @return this writer
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	MapFileWriter appendLine(String line) throws IOException {
+		return append(line).newLine();
+	}
+
+	/**
+	 * End the current line
+	 *
+	 * @return this writer
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	MapFileWriter newLine() throws IOException {
+		return append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Write the rest of the text and replace the map file with the temporary file
+	 *
+	 * @throws IOException if the text cannot be written or the map file cannot be replaced
+	 */
+	void commit() throws IOException {
+		encode(true);
+		writeBytes();
+		channel.force(false);
+		channel.close();
+		Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		committed = true;
+	}
+
+	/**
+	 * Close the temporary file, and delete it if the writer is not committed
+	 *
+	 * @throws IOException if the temporary file cannot be deleted
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!committed) {
+			channel.close();
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	/**
+	 * Encode the text of the char buffer, and write the byte buffer each time it is full
+	 *
+	 * @param endOfInput true if no more text is appended
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	private void encode(boolean endOfInput) throws IOException {
+		chars.flip();
+		while (encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+			writeBytes();
+		}
+		if (endOfInput) {
+			while (encoder.flush(bytes).isOverflow()) {
+				writeBytes();
+			}
+		}
+		chars.compact();
+	}
+
+	/**
+	 * Write the bytes of the byte buffer to the temporary file
+	 *
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	private void writeBytes() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+		bytes.clear();
+	}
+}
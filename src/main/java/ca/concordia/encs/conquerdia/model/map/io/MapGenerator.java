@@ -0,0 +1,370 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.util.RandomSource;
+
+/**
+ * Generates large valid maps to test the game at scale.
+ * <p>
+ * The countries are first put in an order in which each country is a neighbour of the next one, and the continents
+ * are cut from this order in ranges of almost the same size. The map and each of its continents are thus always
+ * connected, whatever the other borders of the {@link Topology}. The same settings and seed always generate the same
+ * map, which is written by the same {@link IMapWriter}s as the edited maps.
+ */
+public final class MapGenerator {
+	/**
+	 * Number of borders a new country gets in a scale-free map
+	 */
+	private static final int SCALE_FREE_BORDERS_PER_COUNTRY = 2;
+
+	/**
+	 * Probability that a grid border which is not needed for the connectivity is removed from a planar map
+	 */
+	private static final double PLANAR_REMOVED_BORDER_PROBABILITY = 0.25;
+
+	/**
+	 * Number of countries
+	 */
+	private final int numberOfCountries;
+
+	/**
+	 * Number of continents
+	 */
+	private final int numberOfContinents;
+
+	/**
+	 * How the countries are connected
+	 */
+	private final Topology topology;
+
+	/**
+	 * Seed of the generator
+	 */
+	private final long seed;
+
+	/**
+	 * @param builder the settings of the generator
+	 */
+	private MapGenerator(Builder builder) {
+		this.numberOfCountries = builder.numberOfCountries;
+		this.numberOfContinents = builder.numberOfContinents;
+		this.topology = builder.topology;
+		this.seed = builder.seed;
+	}
+
+	/**
+	 * @return the seed of the generator, the same map is generated again with it
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return a new map
+	 */
+	public MapTopology generate() {
+		MapTopology.Builder builder = new MapTopology.Builder();
+		for (int i = 0; i < numberOfContinents; i++) {
+			int size = getContinentStart(i + 1) - getContinentStart(i);
+			builder.addContinent("Continent" + (i + 1), Math.max(1, size / 2));
+		}
+		int continent = 0;
+		for (int i = 0; i < numberOfCountries; i++) {
+			if (i == getContinentStart(continent + 1)) {
+				continent++;
+			}
+			builder.addCountry("Country" + (i + 1), continent);
+		}
+		RandomSource random = RandomSource.fast(seed);
+		switch (topology) {
+		case GRID:
+			addGridBorders(builder, random, false);
+			break;
+		case PLANAR:
+			addGridBorders(builder, random, true);
+			break;
+		case SCALE_FREE:
+			addScaleFreeBorders(builder, random);
+			break;
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @param worldMap the map to which the new map is added
+	 * @throws ValidationException if the new map cannot be added
+	 */
+	public void generateTo(WorldMap worldMap) throws ValidationException {
+		generate().copyTo(worldMap);
+	}
+
+	/**
+	 * Generate a new map and write it to a map file
+	 *
+	 * @param filename name of the map file
+	 * @param conquest true to write a Conquest map, false to write a Domination map
+	 * @throws ValidationException if the map file cannot be written
+	 */
+	public void write(String filename, boolean conquest) throws ValidationException {
+		WorldMap worldMap = new WorldMap();
+		generateTo(worldMap);
+		IMapWriter writer;
+		if (conquest) {
+			writer = new DominationToConquestMapWriterAdapter(worldMap, new ConquestMapWriter());
+		} else {
+			writer = new MapWriter(worldMap);
+		}
+		if (!writer.writeMap(filename)) {
+			throw new ValidationException(String.format("The map \"%s\" cannot be written.", filename));
+		}
+	}
+
+	/**
+	 * @param continent index of a continent, or the number of continents
+	 * @return index of the first country of the continent, or the number of countries
+	 */
+	private int getContinentStart(int continent) {
+		return (int) ((long) continent * numberOfCountries / numberOfContinents);
+	}
+
+	/**
+	 * Put the countries on a grid, row after row and in the reverse direction every second row, so that each
+	 * country is next to the following one. Each country borders the countries on its right and below it.
+	 *
+	 * @param builder the map
+	 * @param random  the random source
+	 * @param planar  true to also add random diagonals and remove random borders that are not needed for the
+	 *                connectivity, so that the number of neighbours varies like on a real map
+	 */
+	private void addGridBorders(MapTopology.Builder builder, RandomSource random, boolean planar) {
+		int width = (int) Math.ceil(Math.sqrt(numberOfCountries));
+		int height = (numberOfCountries + width - 1) / width;
+		for (int row = 0; row < height; row++) {
+			for (int column = 0; column < width; column++) {
+				int country = getGridCountry(width, row, column);
+				if (country < 0) {
+					continue;
+				}
+				addGridBorder(builder, random, planar, country, getGridCountry(width, row, column + 1));
+				addGridBorder(builder, random, planar, country, getGridCountry(width, row + 1, column));
+				if (planar && random.nextBoolean()) {
+					// one diagonal of the cell at most, so the map stays planar
+					if (random.nextBoolean()) {
+						addBorder(builder, country, getGridCountry(width, row + 1, column + 1));
+					} else {
+						addBorder(builder, getGridCountry(width, row, column + 1), getGridCountry(width, row + 1, column));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add a border of the grid, the borders between a country and the next one are always added
+	 *
+	 * @param builder the map
+	 * @param random  the random source
+	 * @param planar  true to remove some of the other borders
+	 * @param first   id of a country
+	 * @param second  id of the other country, or -1 if there is none
+	 */
+	private void addGridBorder(MapTopology.Builder builder, RandomSource random, boolean planar, int first,
+			int second) {
+		if (planar && Math.abs(first - second) != 1 && random.nextDouble() < PLANAR_REMOVED_BORDER_PROBABILITY) {
+			return;
+		}
+		addBorder(builder, first, second);
+	}
+
+	/**
+	 * @param width  number of columns of the grid
+	 * @param row    row in the grid
+	 * @param column column in the grid
+	 * @return id of the country at this place, -1 if there is none
+	 */
+	private int getGridCountry(int width, int row, int column) {
+		if (column >= width) {
+			return -1;
+		}
+		int country = row * width + (row % 2 == 0 ? column : width - 1 - column);
+		return country < numberOfCountries ? country : -1;
+	}
+
+	/**
+	 * Add the countries one by one, each new country borders countries chosen with a probability proportional to
+	 * their number of neighbours plus one (preferential attachment), so a few countries get many neighbours. The first
+	 * border of a country is chosen in its own continent if it has older countries, so that the continent is
+	 * connected.
+	 *
+	 * @param builder the map
+	 * @param random  the random source
+	 */
+	private void addScaleFreeBorders(MapTopology.Builder builder, RandomSource random) {
+		// each country appears once, plus once for each of its borders
+		int capacity = numberOfCountries * (1 + 2 * SCALE_FREE_BORDERS_PER_COUNTRY);
+		int[] countries = new int[capacity];
+		int numberOfEntries = 0;
+		int[] continentCountries = new int[capacity];
+		int numberOfContinentEntries = 0;
+		int continent = 0;
+		int[] neighbours = new int[SCALE_FREE_BORDERS_PER_COUNTRY];
+		for (int country = 0; country < numberOfCountries; country++) {
+			if (country == getContinentStart(continent + 1)) {
+				continent++;
+				numberOfContinentEntries = 0;
+			}
+			int numberOfNeighbours = 0;
+			if (numberOfContinentEntries > 0) {
+				neighbours[numberOfNeighbours++] = continentCountries[random.nextInt(numberOfContinentEntries)];
+			}
+			while (numberOfEntries > 0 && numberOfNeighbours < Math.min(SCALE_FREE_BORDERS_PER_COUNTRY, country)) {
+				neighbours[numberOfNeighbours++] = countries[random.nextInt(numberOfEntries)];
+			}
+			countries[numberOfEntries++] = country;
+			continentCountries[numberOfContinentEntries++] = country;
+			for (int i = 0; i < numberOfNeighbours; i++) {
+				builder.addBorder(country, neighbours[i]);
+				countries[numberOfEntries++] = country;
+				countries[numberOfEntries++] = neighbours[i];
+				if (neighbours[i] >= getContinentStart(continent)) {
+					continentCountries[numberOfContinentEntries++] = country;
+					continentCountries[numberOfContinentEntries++] = neighbours[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param builder the map
+	 * @param first   id of a country, or -1 if there is none
+	 * @param second  id of the other country, or -1 if there is none
+	 */
+	private static void addBorder(MapTopology.Builder builder, int first, int second) {
+		if (first >= 0 && second >= 0) {
+			builder.addBorder(first, second);
+		}
+	}
+
+	/**
+	 * How the countries of a generated map are connected
+	 */
+	public enum Topology {
+		/**
+		 * Countries on a grid, each one borders the countries next to it
+		 */
+		GRID("grid"),
+
+		/**
+		 * A grid with random diagonals and random missing borders, from 2 to 8 neighbours like on a real map
+		 */
+		PLANAR("planar"),
+
+		/**
+		 * Most countries have a few neighbours and a few countries have many of them
+		 */
+		SCALE_FREE("scalefree");
+
+		/**
+		 * Name of the topology in the commands
+		 */
+		private final String name;
+
+		/**
+		 * @param name name of the topology in the commands
+		 */
+		Topology(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * @return name of the topology in the commands
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @param name name of a topology
+		 * @return the topology, null if there is none with this name
+		 */
+		public static Topology findTopologyByName(String name) {
+			for (Topology topology : values()) {
+				if (topology.name.equals(name)) {
+					return topology;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Builder of a {@link MapGenerator}
+	 */
+	public static class Builder {
+		/**
+		 * Number of countries
+		 */
+		private final int numberOfCountries;
+
+		/**
+		 * Number of continents
+		 */
+		private final int numberOfContinents;
+
+		/**
+		 * How the countries are connected
+		 */
+		private Topology topology = Topology.PLANAR;
+
+		/**
+		 * Seed of the generator
+		 */
+		private long seed = RandomSource.fast().nextLong(Long.MAX_VALUE);
+
+		/**
+		 * @param numberOfCountries  number of countries
+		 * @param numberOfContinents number of continents
+		 */
+		public Builder(int numberOfCountries, int numberOfContinents) {
+			this.numberOfCountries = numberOfCountries;
+			this.numberOfContinents = numberOfContinents;
+		}
+
+		/**
+		 * @param topology how the countries are connected, planar by default
+		 * @return current builder object
+		 */
+		public Builder setTopology(Topology topology) {
+			this.topology = topology;
+			return this;
+		}
+
+		/**
+		 * @param seed seed of the generator, random by default
+		 * @return current builder object
+		 */
+		public Builder setSeed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * @return the generator
+		 * @throws ValidationException if the settings cannot generate a valid map
+		 */
+		public MapGenerator build() throws ValidationException {
+			if (numberOfCountries < 1) {
+				throw new ValidationException("The number of countries must be positive.");
+			}
+			if (numberOfContinents < 1 || numberOfContinents > numberOfCountries) {
+				throw new ValidationException(
+						"The number of continents must be positive and not more than the number of countries.");
+			}
+			if (topology == null) {
+				throw new ValidationException("The topology of the map is missing.");
+			}
+			return new MapGenerator(this);
+		}
+	}
+}
@@ -1,26 +1,25 @@
 package ca.concordia.encs.conquerdia.model.map.io;
 
-import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * This class provides a set of methods to read a risk map file. It also
  * implements the {@link IMapReader nan} interface to expose the map reading method
+ * <p>
+ * The file is tokenised in place by a {@link MapBuffer}. The continents, countries and borders are numbered as they
+ * are read and the borders are kept as pairs of numbers, the {@link ca.concordia.encs.conquerdia.model.map.Country
+ * countries} and {@link ca.concordia.encs.conquerdia.model.map.Continent continents} are only created at the end,
+ * when the {@link MapTopology} is copied to the map. The countries and borders sections of a large file are tokenised
+ * in parallel by {@link MapChunk}s and merged in the order of their lines.
  *
  * @author Mosabbir
  */
 class MapReader extends MapIO implements IMapReader {
 
     private final WorldMap worldMap;
-    private ArrayList<String> continentList;
-    private ArrayList<String> countryList;
-    private BufferedReader reader;
 
     /**
      * Constructor takes a worldMap instance to populate it from the file
@@ -40,107 +39,181 @@ class MapReader extends MapIO implements IMapReader {
      * during reading
      */
     public boolean readMap(String filename) {
+        MapTopology topology = readTopology(filename);
+        if (topology == null)
+            return false;
         try {
-            final String path = getMapFilePath(filename);
-            final File file = new File(path);
-            String line;
-
-            reader = new BufferedReader(new FileReader(file));
-            countryList = new ArrayList<String>();
-            continentList = new ArrayList<String>();
-
-            while ((line = reader.readLine()) != null) {
-                if (isContientsIdentifier(line)) {
-                    readContinents();
-                } else if (isCountriesIdentifier(line)) {
-                    readCountries();
-                } else if (isBordersIdentifier(line)) {
-                    readBorders();
-                }
-            }
+            topology.copyTo(worldMap);
             return true;
         } catch (Exception ex) {
             return false;
-        } finally {
-            try {
-                if (reader != null)
-                    reader.close();
-            } catch (IOException e) {
-            }
         }
     }
 
     /**
-     * Reads all continents which are under the continent section in file add them
-     * to the map instance
+     * Parses the .map file without creating any country
+     *
+     * @param filename Name of the map file with or without the extension
+     * @return the continents, countries and borders of the file, null if an exception occured during reading
      */
-    protected void readContinents() throws IOException {
-        String line;
-        String[] tokens;
-        while ((line = reader.readLine()) != null && line.length() > 0) {
-            tokens = line.split(TOKENS_DELIMETER);
-            String continentName = tokens[0];
-            int continentValue = Integer.parseInt(tokens[1]);
-            try {
-                worldMap.addContinent(continentName, continentValue);
-                continentList.add(continentName);
-            } catch (ValidationException ex) {
+    static MapTopology readTopology(String filename) {
+        try {
+            return parseTopology(filename);
+        } catch (IOException | RuntimeException ex) {
+            return null;
+        }
+    }
 
+    /**
+     * Parses the .map file without creating any country
+     *
+     * @param filename Name of the map file with or without the extension
+     * @return the continents, countries and borders of the file
+     * @throws IOException           if the file cannot be read
+     * @throws IllegalStateException with the number of the line if the file is not a valid map file
+     */
+    static MapTopology parseTopology(String filename) throws IOException {
+        MapBuffer buffer = MapBuffer.open(getMapFilePath(filename));
+        MapTopology.Builder builder = new MapTopology.Builder();
+        while (buffer.nextLine()) {
+            if (buffer.lineEqualsIgnoreCase(CONTINENTS_SECTION_IDENTIFIER)) {
+                readContinents(buffer, builder);
+            } else if (buffer.lineEqualsIgnoreCase(COUNTRIES_SECTION_IDENTIFIER)) {
+                readCountries(buffer, builder);
+            } else if (buffer.lineEqualsIgnoreCase(BORDERS_SECTION_IDENTIFIER)) {
+                readBorders(buffer, builder);
             }
         }
+        return builder.build();
     }
 
     /**
-     * Reads all countries which are under the country section in file add them to
-     * the map instance
+     * Reads all continents which are under the continent section in file. A continent which is not valid is left out
+     * and does not get a number.
      */
-    protected void readCountries()
-            throws IOException {
-        String line;
-        String[] tokens;
-        while ((line = reader.readLine()) != null && line.length() > 0) {
-            tokens = line.split(TOKENS_DELIMETER);
-            String countryName = tokens[1];
-            int continentIndex = Integer.parseInt(tokens[2]) - 1;
+    private static void readContinents(MapBuffer buffer, MapTopology.Builder builder) {
+        while (buffer.nextLine() && !buffer.isBlankLine()) {
             try {
-                worldMap.addCountry(countryName, continentList.get(continentIndex));
-                countryList.add(countryName);
-            } catch (ValidationException ex) {
+                String continentName = buffer.requireToken().stringToken();
+                int continentValue = buffer.requireToken().intToken();
+                builder.addContinent(continentName, continentValue);
+            } catch (RuntimeException ex) {
+                throw MapChunk.error(buffer.getLineNumber(), ex.getMessage());
+            }
+        }
+    }
 
+    /**
+     * Reads all countries which are under the country section in file. A country which is not valid is left out and
+     * does not get a number.
+     */
+    private static void readCountries(MapBuffer buffer, MapTopology.Builder builder) {
+        MapBuffer section = buffer.nextSection(true);
+        int lineNumber = section.getFirstLineNumber();
+        for (CountriesChunk chunk : MapChunk.tokenise(section, CountriesChunk::new)) {
+            for (int i = 0; i < chunk.getNumberOfLines(); i++) {
+                int continentIndex = chunk.continentIndexes[i];
+                if (continentIndex < 0 || continentIndex >= builder.getNumberOfContinents())
+                    throw MapChunk.error(lineNumber + i, "The continent " + (continentIndex + 1) + " does not exist.");
+                builder.addCountry(chunk.countryNames[i], continentIndex);
             }
+            chunk.checkError(lineNumber);
+            lineNumber += chunk.getNumberOfLines();
         }
     }
 
     /**
-     * Reads all borders and add them as neighbors to the country
+     * Reads all borders, each line has the number of a country followed by the numbers of its neighbours
      */
-    protected void readBorders() throws IOException {
-        String line;
-        String[] tokens;
-        int countryIndex;
-
-        while ((line = reader.readLine()) != null && line.length() > 0) {
-            tokens = line.split(TOKENS_DELIMETER);
-            countryIndex = Integer.parseInt(tokens[0]) - 1;
-            addNeighbours(countryList.get(countryIndex), tokens);
+    private static void readBorders(MapBuffer buffer, MapTopology.Builder builder) {
+        MapBuffer section = buffer.nextSection(true);
+        int lineNumber = section.getFirstLineNumber();
+        for (BordersChunk chunk : MapChunk.tokenise(section, BordersChunk::new)) {
+            int start = 0;
+            for (int i = 0; i < chunk.getNumberOfLines(); i++) {
+                int end = chunk.lineEnds[i];
+                int countryIndex = checkCountryIndex(builder, chunk.indexes[start], lineNumber + i);
+                for (int j = start + 1; j < end; j++) {
+                    builder.addBorder(countryIndex, checkCountryIndex(builder, chunk.indexes[j], lineNumber + i));
+                }
+                start = end;
+            }
+            chunk.checkError(lineNumber);
+            lineNumber += chunk.getNumberOfLines();
         }
     }
 
     /**
-     * Add the neighbor countries to the specified country
-     *
-     * @param countryName    The name of the country which neighbor has to added
-     * @param countryBorders The name of the neighbors of the country which to be
-     *                       added
+     * @param builder      the topology of the map
+     * @param countryIndex index of a country
+     * @param lineNumber   number of the line of the index
+     * @return the index of the country
+     * @throws IllegalStateException if the country does not exist
      */
-    private void addNeighbours(String countryName, String[] countryBorders) {
-        int neighborIndex;
-        for (int i = 1; i < countryBorders.length; i++) {
-            neighborIndex = Integer.parseInt(countryBorders[i]) - 1;
-            try {
-                worldMap.addNeighbour(countryName, countryList.get(neighborIndex));
-            } catch (ValidationException ex) {
+    private static int checkCountryIndex(MapTopology.Builder builder, int countryIndex, int lineNumber) {
+        if (countryIndex < 0 || countryIndex >= builder.getNumberOfCountries())
+            throw MapChunk.error(lineNumber, "The country " + (countryIndex + 1) + " does not exist.");
+        return countryIndex;
+    }
+
+    /**
+     * The countries of some lines of the countries section
+     */
+    private static class CountriesChunk extends MapChunk {
+        private String[] countryNames = new String[256];
+        private int[] continentIndexes = new int[256];
+
+        @Override
+        protected void tokeniseLine(MapBuffer lines) {
+            lines.requireToken();
+            String countryName = lines.requireToken().stringToken();
+            int continentIndex = lines.requireToken().intToken() - 1;
+            int i = getNumberOfLines();
+            if (i == countryNames.length) {
+                countryNames = Arrays.copyOf(countryNames, i * 2);
+                continentIndexes = Arrays.copyOf(continentIndexes, i * 2);
+            }
+            countryNames[i] = countryName;
+            continentIndexes[i] = continentIndex;
+        }
+    }
+
+    /**
+     * The borders of some lines of the borders section
+     */
+    private static class BordersChunk extends MapChunk {
+        /**
+         * The country indexes of all the lines, each line is a country followed by its neighbours
+         */
+        private int[] indexes = new int[1024];
+        private int numberOfIndexes;
+
+        /**
+         * End of the indexes of each line
+         */
+        private int[] lineEnds = new int[256];
+
+        @Override
+        protected void tokeniseLine(MapBuffer lines) {
+            add(lines.requireToken().intToken() - 1);
+            while (lines.nextToken()) {
+                add(lines.intToken() - 1);
+            }
+            int i = getNumberOfLines();
+            if (i == lineEnds.length) {
+                lineEnds = Arrays.copyOf(lineEnds, i * 2);
+            }
+            lineEnds[i] = numberOfIndexes;
+        }
+
+        /**
+         * @param index index of a country
+         */
+        private void add(int index) {
+            if (numberOfIndexes == indexes.length) {
+                indexes = Arrays.copyOf(indexes, numberOfIndexes * 2);
             }
+            indexes[numberOfIndexes++] = index;
         }
     }
 }
@@ -0,0 +1,406 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.map.ConnectivityIndex;
+import ca.concordia.encs.conquerdia.model.map.Continent;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * The immutable continents, countries and borders read from a map file, see {@link MapTopologyCache}.
+ * <p>
+ * The countries and the borders are kept as indexes in a few arrays, so a topology can be shared by all the games that
+ * load the same map. Every game gets its own continents and countries, with their own owners and armies, when the
+ * topology is copied to its {@link WorldMap}. The continents, countries and borders are added in the order of the map
+ * file, so a map copied from a topology is the same as a map built from the file element by element. The result of
+ * the validation of the map is also kept, so it is only computed once for all the games.
+ */
+public final class MapTopology {
+	/**
+	 * Names of the continents
+	 */
+	private final String[] continentNames;
+
+	/**
+	 * Values of the continents
+	 */
+	private final int[] continentValues;
+
+	/**
+	 * Names of the countries
+	 */
+	private final String[] countryNames;
+
+	/**
+	 * Index of the continent of each country
+	 */
+	private final int[] countryContinents;
+
+	/**
+	 * The borders, as pairs of country indexes
+	 */
+	private final int[] borders;
+
+	/**
+	 * true if the map is valid, null if it is not checked yet
+	 */
+	private volatile Boolean valid;
+
+	/**
+	 * @param continentNames    names of the continents
+	 * @param continentValues   values of the continents
+	 * @param countryNames      names of the countries
+	 * @param countryContinents index of the continent of each country
+	 * @param borders           the borders, as pairs of country indexes, without duplicates
+	 */
+	MapTopology(String[] continentNames, int[] continentValues, String[] countryNames,
+			int[] countryContinents, int[] borders) {
+		this(continentNames, continentValues, countryNames, countryContinents, borders, null);
+	}
+
+	/**
+	 * @param continentNames    names of the continents
+	 * @param continentValues   values of the continents
+	 * @param countryNames      names of the countries
+	 * @param countryContinents index of the continent of each country
+	 * @param borders           the borders, as pairs of country indexes, without duplicates
+	 * @param valid             true if the map is valid, null if it is not known
+	 */
+	MapTopology(String[] continentNames, int[] continentValues, String[] countryNames,
+			int[] countryContinents, int[] borders, Boolean valid) {
+		this.continentNames = continentNames;
+		this.continentValues = continentValues;
+		this.countryNames = countryNames;
+		this.countryContinents = countryContinents;
+		this.borders = borders;
+		this.valid = valid;
+	}
+
+	/**
+	 * Read a map file with a map reader and keep what it has read
+	 *
+	 * @param filename name of the map file
+	 * @param conquest true if the file is a conquest map
+	 * @return the topology of the map, null if the file could not be read
+	 */
+	static MapTopology read(String filename, boolean conquest) {
+		return conquest ? ConquestMapReader.readTopology(filename) : MapReader.readTopology(filename);
+	}
+
+	/**
+	 * Keep the continents, countries and borders of a map that is already built, in the order of the map
+	 *
+	 * @param worldMap the map
+	 * @return the topology of the map, known to be valid if the map is loaded
+	 */
+	public static MapTopology of(WorldMap worldMap) {
+		Map<String, Integer> continentIds = new HashMap<>();
+		String[] continentNames = new String[worldMap.getContinents().size()];
+		int[] continentValues = new int[continentNames.length];
+		for (Continent continent : worldMap.getContinents()) {
+			int id = continentIds.size();
+			continentIds.put(continent.getName(), id);
+			continentNames[id] = continent.getName();
+			continentValues[id] = continent.getValue();
+		}
+		Map<String, Integer> countryIds = new HashMap<>();
+		String[] countryNames = new String[worldMap.getNumberOfCountries()];
+		int[] countryContinents = new int[countryNames.length];
+		int numberOfBorders = 0;
+		for (Country country : worldMap.getCountries()) {
+			int id = countryIds.size();
+			countryIds.put(country.getName(), id);
+			countryNames[id] = country.getName();
+			countryContinents[id] = continentIds.get(country.getContinent().getName());
+			numberOfBorders += country.getNumberOfNeighbours();
+		}
+		// each border is seen from both of its countries and kept once
+		int[] borders = new int[numberOfBorders];
+		int length = 0;
+		for (Country country : worldMap.getCountries()) {
+			int id = countryIds.get(country.getName());
+			for (Country neighbour : country.getAdjacentCountries()) {
+				int neighbourId = countryIds.get(neighbour.getName());
+				if (id < neighbourId) {
+					borders[length++] = id;
+					borders[length++] = neighbourId;
+				}
+			}
+		}
+		return new MapTopology(continentNames, continentValues, countryNames, countryContinents,
+				Arrays.copyOf(borders, length), worldMap.isMapLoaded() ? Boolean.TRUE : null);
+	}
+
+	/**
+	 * Add new continents and countries with the borders of this topology to a map. The borders are added between the
+	 * new countries without looking them up by name.
+	 *
+	 * @param worldMap the map, which should be empty
+	 * @throws ValidationException if the map already has some of the continents or countries
+	 */
+	public void copyTo(WorldMap worldMap) throws ValidationException {
+		for (int i = 0; i < continentNames.length; i++) {
+			worldMap.addContinent(continentNames[i], continentValues[i]);
+		}
+		Country[] countries = new Country[countryNames.length];
+		for (int i = 0; i < countryNames.length; i++) {
+			worldMap.addCountry(countryNames[i], continentNames[countryContinents[i]]);
+			countries[i] = worldMap.getCountry(countryNames[i]);
+		}
+		for (int i = 0; i < borders.length; i += 2) {
+			worldMap.addNeighbour(countries[borders[i]], countries[borders[i + 1]]);
+		}
+	}
+
+	/**
+	 * The same rules as {@link WorldMap#checkAllMapValidationRules()}: the map has some countries, it is a connected
+	 * graph and every continent which has some countries is a connected subgraph. They are checked by the same
+	 * {@link ConnectivityIndex}, on the first call only.
+	 *
+	 * @return true if the map is valid
+	 */
+	public boolean isValid() {
+		Boolean result = valid;
+		if (result == null) {
+			result = checkValidationRules();
+			valid = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if the map is valid
+	 */
+	private boolean checkValidationRules() {
+		ConnectivityIndex index = new ConnectivityIndex();
+		for (int continent : countryContinents) {
+			index.addCountry(continent);
+		}
+		for (int i = 0; i < borders.length; i += 2) {
+			index.addBorder(borders[i], borders[i + 1]);
+		}
+		return index.isConnected() && index.isEveryContinentConnected();
+	}
+
+	/**
+	 * @return names of the continents
+	 */
+	String[] getContinentNames() {
+		return continentNames;
+	}
+
+	/**
+	 * @return values of the continents
+	 */
+	int[] getContinentValues() {
+		return continentValues;
+	}
+
+	/**
+	 * @return names of the countries
+	 */
+	String[] getCountryNames() {
+		return countryNames;
+	}
+
+	/**
+	 * @return index of the continent of each country
+	 */
+	int[] getCountryContinents() {
+		return countryContinents;
+	}
+
+	/**
+	 * @return the borders, as pairs of country indexes
+	 */
+	int[] getBorders() {
+		return borders;
+	}
+
+	/**
+	 * @return the number of continents
+	 */
+	public int getNumberOfContinents() {
+		return continentNames.length;
+	}
+
+	/**
+	 * @return the number of countries
+	 */
+	public int getNumberOfCountries() {
+		return countryNames.length;
+	}
+
+	/**
+	 * @return the number of borders
+	 */
+	public int getNumberOfBorders() {
+		return borders.length / 2;
+	}
+
+	/**
+	 * Builds a topology from the elements of a map file, in their order. The elements that {@link WorldMap} would
+	 * not accept are left out, and the borders which are given twice are only kept once.
+	 */
+	static class Builder {
+		private final Map<String, Integer> continentIds = new HashMap<>();
+		private final Map<String, Integer> countryIds = new HashMap<>();
+		private String[] continentNames = new String[8];
+		private int[] continentValues = new int[8];
+		private int numberOfContinents;
+		private String[] countryNames = new String[64];
+		private int[] countryContinents = new int[64];
+		private int numberOfCountries;
+		private int[] borders = new int[256];
+		private int numberOfBorderIds;
+
+		/**
+		 * @param name  name of the continent
+		 * @param value value of the continent
+		 * @return the index of the new continent, -1 if the continent is not valid or already exists
+		 */
+		int addContinent(String name, int value) {
+			if (StringUtils.isBlank(name) || value <= 0 || continentIds.containsKey(name)) {
+				return -1;
+			}
+			if (numberOfContinents == continentNames.length) {
+				continentNames = Arrays.copyOf(continentNames, numberOfContinents * 2);
+				continentValues = Arrays.copyOf(continentValues, numberOfContinents * 2);
+			}
+			continentIds.put(name, numberOfContinents);
+			continentNames[numberOfContinents] = name;
+			continentValues[numberOfContinents] = value;
+			return numberOfContinents++;
+		}
+
+		/**
+		 * @param name name of a continent
+		 * @return the index of the continent, -1 if it does not exist
+		 */
+		int getContinentId(String name) {
+			return continentIds.getOrDefault(name, -1);
+		}
+
+		/**
+		 * @return the number of continents added
+		 */
+		int getNumberOfContinents() {
+			return numberOfContinents;
+		}
+
+		/**
+		 * @param name      name of the country
+		 * @param continent index of the continent of the country
+		 * @return the index of the new country, -1 if the name is not valid or the country already exists
+		 */
+		int addCountry(String name, int continent) {
+			if (continent < 0 || continent >= numberOfContinents) {
+				throw new IndexOutOfBoundsException("Continent " + continent + " does not exist.");
+			}
+			if (StringUtils.isBlank(name) || countryIds.containsKey(name)) {
+				return -1;
+			}
+			if (numberOfCountries == countryNames.length) {
+				countryNames = Arrays.copyOf(countryNames, numberOfCountries * 2);
+				countryContinents = Arrays.copyOf(countryContinents, numberOfCountries * 2);
+			}
+			countryIds.put(name, numberOfCountries);
+			countryNames[numberOfCountries] = name;
+			countryContinents[numberOfCountries] = continent;
+			return numberOfCountries++;
+		}
+
+		/**
+		 * @param name name of a country
+		 * @return the index of the country, -1 if it does not exist
+		 */
+		int getCountryId(String name) {
+			return countryIds.getOrDefault(name, -1);
+		}
+
+		/**
+		 * @param id index of a country
+		 * @throws IndexOutOfBoundsException if the country does not exist
+		 */
+		void checkCountryId(int id) {
+			if (id < 0 || id >= numberOfCountries) {
+				throw new IndexOutOfBoundsException("Country " + id + " does not exist.");
+			}
+		}
+
+		/**
+		 * @return the number of countries added
+		 */
+		int getNumberOfCountries() {
+			return numberOfCountries;
+		}
+
+		/**
+		 * @param first  index of the first country
+		 * @param second index of the second country
+		 */
+		void addBorder(int first, int second) {
+			checkCountryId(first);
+			checkCountryId(second);
+			if (numberOfBorderIds == borders.length) {
+				borders = Arrays.copyOf(borders, numberOfBorderIds * 2);
+			}
+			borders[numberOfBorderIds++] = first;
+			borders[numberOfBorderIds++] = second;
+		}
+
+		/**
+		 * @return the topology of what has been added
+		 */
+		MapTopology build() {
+			return new MapTopology(Arrays.copyOf(continentNames, numberOfContinents),
+					Arrays.copyOf(continentValues, numberOfContinents),
+					Arrays.copyOf(countryNames, numberOfCountries),
+					Arrays.copyOf(countryContinents, numberOfCountries),
+					distinctBorders());
+		}
+
+		/**
+		 * @return the borders without the ones given again, in either direction, in the order they were first given
+		 */
+		private int[] distinctBorders() {
+			int numberOfBorders = numberOfBorderIds / 2;
+			long[] keys = new long[numberOfBorders];
+			for (int i = 0; i < numberOfBorders; i++) {
+				keys[i] = key(borders[2 * i], borders[2 * i + 1]);
+			}
+			long[] sortedKeys = keys.clone();
+			Arrays.sort(sortedKeys);
+			boolean[] added = new boolean[numberOfBorders];
+			int[] distinct = new int[numberOfBorderIds];
+			int size = 0;
+			for (int i = 0; i < numberOfBorders; i++) {
+				int index = Arrays.binarySearch(sortedKeys, keys[i]);
+				while (index > 0 && sortedKeys[index - 1] == keys[i]) {
+					index--;
+				}
+				if (!added[index]) {
+					added[index] = true;
+					distinct[size++] = borders[2 * i];
+					distinct[size++] = borders[2 * i + 1];
+				}
+			}
+			return Arrays.copyOf(distinct, size);
+		}
+
+		/**
+		 * @param first  index of a country
+		 * @param second index of another country
+		 * @return the same key for both directions of the border
+		 */
+		private static long key(int first, int second) {
+			return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+		}
+	}
+}
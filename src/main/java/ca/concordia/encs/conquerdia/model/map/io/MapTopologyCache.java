@@ -0,0 +1,143 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the topologies of the last map files that were read, so that a map which is loaded again, e.g. by every game
+ * of a tournament or by <code>loadgame</code>, is not parsed again.
+ * <p>
+ * A topology is found by the path of its file, and it is only used if the content of the file has the same hash as
+ * when it was read, so a map that is edited and saved is read again. When the cache is full, the topology used least
+ * recently is dropped. The cache can be used by the games of several threads at the same time.
+ */
+public class MapTopologyCache {
+	/**
+	 * Number of topologies kept by the cache of the maps of all the games
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The cache of the maps of all the games
+	 */
+	private static final MapTopologyCache SHARED = new MapTopologyCache(DEFAULT_CAPACITY);
+
+	/**
+	 * The topologies with the hash of their file, by path of the file, from the least to the most recently used
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Number of lookups that found a topology
+	 */
+	private long hits;
+
+	/**
+	 * Number of lookups that found no topology
+	 */
+	private long misses;
+
+	/**
+	 * @param capacity max number of topologies kept
+	 */
+	public MapTopologyCache(int capacity) {
+		entries = new LinkedHashMap<String, Entry>(capacity, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * @return the cache of the maps of all the games
+	 */
+	public static MapTopologyCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * @param content content of a map file
+	 * @return the hash of the content
+	 */
+	public static byte[] hash(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param path path of the map file
+	 * @param hash hash of the current content of the file
+	 * @return the topology read from the file, null if it is not in the cache or the file has changed since
+	 */
+	public synchronized MapTopology get(String path, byte[] hash) {
+		Entry entry = entries.get(path);
+		if (entry == null || !MessageDigest.isEqual(entry.hash, hash)) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry.topology;
+	}
+
+	/**
+	 * Keep a topology, in place of the one read from a previous content of the same file
+	 *
+	 * @param path     path of the map file
+	 * @param hash     hash of the content the topology is read from
+	 * @param topology the topology
+	 */
+	public synchronized void put(String path, byte[] hash, MapTopology topology) {
+		entries.put(path, new Entry(hash, topology));
+	}
+
+	/**
+	 * @return number of topologies in the cache
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return number of lookups that found a topology
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of lookups that found no topology
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Drop all the topologies
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * A topology with the hash of the content of its file
+	 */
+	private static class Entry {
+		private final byte[] hash;
+		private final MapTopology topology;
+
+		/**
+		 * @param hash     hash of the content of the file
+		 * @param topology the topology read from the file
+		 */
+		Entry(byte[] hash, MapTopology topology) {
+			this.hash = hash;
+			this.topology = topology;
+		}
+	}
+}
@@ -2,23 +2,21 @@ package ca.concordia.encs.conquerdia.model.map.io;
 
 import ca.concordia.encs.conquerdia.model.map.Continent;
 import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.MapGraph;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Set;
 
 /**
  * Map Writer class
+ * <p>
+ * The rows are written to a {@link MapFileWriter} as they are built. The countries are numbered in the order of their
+ * continents, and the numbers of the neighbours are found with the ids of the {@link MapGraph} of the map.
  */
 class MapWriter extends MapIO implements IMapWriter {
 
 	static final String CONTINENT_ROW_FORMAT = "%s" + TOKENS_DELIMETER + "%s" + TOKENS_DELIMETER + "%s";
 	protected final WorldMap worldMap;
-	protected BufferedWriter writer;
 
 	/**
 	 * Constructor takes the world map to be written
@@ -36,221 +34,120 @@ class MapWriter extends MapIO implements IMapWriter {
 	 * @return True if save is successful otherwise false
 	 */
 	public boolean writeMap(String filename) {
-		String[] borderRows;
-		ArrayList<CountryRow> countryRows;
+		final String mapName = FileHelper.getFileNameWithoutExtension(filename);
+		final String path = MapIO.getMapFilePath(filename);
 
-		try {
-			final String mapName = FileHelper.getFileNameWithoutExtension(filename);
-			final String path = MapIO.getMapFilePath(filename);
-
-			writer = new BufferedWriter(new FileWriter(path));
-
-			writeComments(new String[] { "RISK MAP", "Conquerdia Map Editor" });
+		try (MapFileWriter writer = new MapFileWriter(path)) {
+			writeComments(writer, new String[] { "RISK MAP", "Conquerdia Map Editor" });
 			writer.newLine();
 
-			writeResourceFiles(new String[] { "pic " + mapName + "_pic.png",
+			writeSection(writer, FILES_SECTION_IDENTIFIER, new String[] { "pic " + mapName + "_pic.png",
 					"map " + mapName + "_map.gif",
 					"crd card.cards", "prv " + mapName + ".jpg" });
 			writer.newLine();
 
-			writeMapName(mapName.toUpperCase());
+			writer.appendLine("name " + mapName.toUpperCase() + " map");
 			writer.newLine();
 
-			writeContinents();
+			writeContinents(writer);
 			writer.newLine();
 
-			countryRows = getAllCountryRows(new ArrayList<Continent>(worldMap.getContinents()));
-			writeCountries(countryRows);
+			MapGraph graph = worldMap.getGraph();
+			int[] countryNumbers = writeCountries(writer, graph);
 			writer.newLine();
 
-			borderRows = getBorders(countryRows);
-			writeBorders(borderRows);
-
+			writeBorders(writer, graph, countryNumbers);
+			writer.commit();
 		} catch (IOException e) {
 			e.printStackTrace();
 			return false;
-		} finally {
-			if (writer != null) {
-				try {
-					writer.flush();
-					writer.close();
-				} catch (IOException e) {
-				}
-			}
 		}
 
 		return true;
 	}
 
 	/**
-	 * Writes borders to the file
+	 * Writes borders to the file, each row is the number of a country followed by the numbers of its neighbours
 	 * 
-	 * @param borderRows the borders
+	 * @param writer         the map file
+	 * @param graph          the graph of the map
+	 * @param countryNumbers the number of each country, by id in the graph
 	 */
-	private void writeBorders(String[] borderRows) throws IOException {
-		writeSection(BORDERS_SECTION_IDENTIFIER, borderRows);
+	private void writeBorders(MapFileWriter writer, MapGraph graph, int[] countryNumbers) throws IOException {
+		writer.appendLine(BORDERS_SECTION_IDENTIFIER);
+		for (Continent continent : worldMap.getContinents()) {
+			for (Country country : continent.getCountries()) {
+				int id = graph.getId(country.getName());
+				writer.append(countryNumbers[id]);
+				for (int i = graph.getFirstNeighbourIndex(id); i < graph.getLastNeighbourIndex(id); i++) {
+					writer.append(TOKENS_DELIMETER).append(countryNumbers[graph.getNeighbour(i)]);
+				}
+				writer.newLine();
+			}
+		}
 	}
 
 	/**
-	 * Writes country rows to the file
+	 * Writes country rows to the file, the countries are numbered in the order of their continents
 	 * 
-	 * @param countryRows
+	 * @param writer the map file
+	 * @param graph  the graph of the map
+	 * @return the number of each country, by id in the graph
 	 */
-	private void writeCountries(ArrayList<CountryRow> countryRows) throws IOException {
-		String[] rows = countryRows.stream()
-				.map(CountryRow::toString)
-				.toArray(String[]::new);
-		writeSection(COUNTRIES_SECTION_IDENTIFIER, rows);
-	}
-
-	/**
-	 * Writes the continents to the file
-	 */
-	private void writeContinents() throws IOException {
-		Set<Continent> continents = worldMap.getContinents();
-		String[] rows = new String[continents.size()];
-		int i = 0;
-		for (Continent continent : continents) {
-			rows[i++] = String.format(CONTINENT_ROW_FORMAT, continent.getName(), continent.getValue(), "Black");
+	private int[] writeCountries(MapFileWriter writer, MapGraph graph) throws IOException {
+		int[] countryNumbers = new int[graph.getNumberOfCountries()];
+		int countryNumber = 0;
+		int continentNumber = 0;
+		writer.appendLine(COUNTRIES_SECTION_IDENTIFIER);
+		for (Continent continent : worldMap.getContinents()) {
+			continentNumber++;
+			for (Country country : continent.getCountries()) {
+				countryNumber++;
+				countryNumbers[graph.getId(country.getName())] = countryNumber;
+				// number name continent x y, the coordinates are not used
+				writer.append(countryNumber).append(TOKENS_DELIMETER).append(country.getName())
+						.append(TOKENS_DELIMETER).append(continentNumber)
+						.append(TOKENS_DELIMETER).append(0).append(TOKENS_DELIMETER).append(0).newLine();
+			}
 		}
-		writeSection(CONTINENTS_SECTION_IDENTIFIER, rows);
+		return countryNumbers;
 	}
 
 	/**
-	 * Writes resource sections
+	 * Writes the continents to the file
 	 * 
-	 * @param files the name of the resource files
-	 */
-	private void writeResourceFiles(String[] files) throws IOException {
-		writeSection(FILES_SECTION_IDENTIFIER, files);
-	}
-
-	/**
-	 * Writes the name of the map to the file in name {@code mapName} Map
-	 *
-	 * @param mapName The name of the map
-	 * @throws IOException
+	 * @param writer the map file
 	 */
-	private void writeMapName(String mapName) throws IOException {
-		writeLine("name " + mapName + " map");
+	private void writeContinents(MapFileWriter writer) throws IOException {
+		writer.appendLine(CONTINENTS_SECTION_IDENTIFIER);
+		for (Continent continent : worldMap.getContinents()) {
+			writer.appendLine(String.format(CONTINENT_ROW_FORMAT, continent.getName(), continent.getValue(), "Black"));
+		}
 	}
 
 	/**
 	 * Write comments to the map file
 	 * 
+	 * @param writer   the map file
 	 * @param comments Comments of the map
 	 */
-	private void writeComments(String[] comments) throws IOException {
+	private void writeComments(MapFileWriter writer, String[] comments) throws IOException {
 		for (String comment : comments) {
-			writeLine(COMMENT_SYMBOL + " " + comment);
+			writer.appendLine(COMMENT_SYMBOL + " " + comment);
 		}
 	}
 
 	/**
 	 * Writes a section like countries and its rows
 	 * 
+	 * @param writer            the map file
 	 * @param sectionIdentifier The section identifier
 	 * @param rows              The rows for the sections
 	 */
-	private void writeSection(String sectionIdentifier, String[] rows) throws IOException {
-		writeLine(sectionIdentifier);
+	private void writeSection(MapFileWriter writer, String sectionIdentifier, String[] rows) throws IOException {
+		writer.appendLine(sectionIdentifier);
 		for (String row : rows) {
-			writeLine(row);
+			writer.appendLine(row);
 		}
 	}
-
-	/**
-	 * Helper method to write a single line and then providing a new line
-	 * 
-	 * @param line The line
-	 */
-	private void writeLine(String line) throws IOException {
-		writer.write(line);
-		writer.newLine();
-	}
-
-	/**
-	 * Returns all the countries
-	 * 
-	 * @param continents The continents
-	 * @return Collection of CountryRows
-	 */
-	private ArrayList<CountryRow> getAllCountryRows(ArrayList<Continent> continents) {
-		ArrayList<CountryRow> rows = new ArrayList<CountryRow>();
-		Set<Country> countries;
-		CountryRow countryRow;
-		int countryNumber = 0;
-
-		for (int i = 0; i < continents.size(); i++) {
-			countries = continents.get(i).getCountries();
-
-			for (Country country : countries) {
-				countryNumber++;
-				countryRow = countryRowFromCountry(country, countryNumber, i + 1);
-				rows.add(countryRow);
-			}
-		}
-		return rows;
-	}
-
-	/**
-	 * Get all the borders
-	 * 
-	 * @param countryRows The country rows list
-	 * @return Collection of borders
-	 */
-	private String[] getBorders(ArrayList<CountryRow> countryRows) {
-		String[] borders = new String[countryRows.size()];
-		CountryRow countryRow;
-		HashMap<String, Integer> countryNumbers = new HashMap<>();
-		StringBuilder builder;
-		countryNumbers = getCountryNumbers(countryRows);
-
-		for (int i = 0; i < countryRows.size(); i++) {
-			builder = new StringBuilder();
-			countryRow = countryRows.get(i);
-			builder.append(countryRow.getNumber());
-
-			for (String countryName : countryRow.getAdjacentCountryNames()) {
-				builder.append(TOKENS_DELIMETER + countryNumbers.get(countryName));
-			}
-			borders[i] = builder.toString();
-		}
-		return borders;
-	}
-
-	/**
-	 * Generates country number for each country
-	 * 
-	 * @param countryRows Country rows
-	 * @return country number for each country name in a hashmap
-	 */
-	private HashMap<String, Integer> getCountryNumbers(ArrayList<CountryRow> countryRows) {
-		HashMap<String, Integer> countryNumbers = new HashMap<>();
-		CountryRow countryRow;
-		for (int i = 0; i < countryRows.size(); i++) {
-			countryRow = countryRows.get(i);
-			countryNumbers.put(countryRow.getName(), countryRow.getNumber());
-		}
-		return countryNumbers;
-	}
-
-	/**
-	 * Convert the country game object to the map file country format by storing it
-	 * to CountryRow object
-	 * 
-	 * @param country         The Country object
-	 * @param number          The number of the country
-	 * @param continentNumber The number of the continent
-	 * @return CountryRow object created from the country object
-	 */
-	private CountryRow countryRowFromCountry(Country country, int number, int continentNumber) {
-		CountryRow countryRow = new CountryRow(number, country.getName(), continentNumber);
-		countryRow.setAdjacentCountryNames(country.getAdjacentCountries()
-				.stream()
-				.map(Country::getName)
-				.toArray(String[]::new));
-
-		return countryRow;
-	}
 }
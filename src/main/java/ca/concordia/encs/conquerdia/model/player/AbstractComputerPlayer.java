@@ -2,9 +2,10 @@ package ca.concordia.encs.conquerdia.model.player;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.util.RandomSource;
 
-import java.security.SecureRandom;
 import java.util.*;
 
 /**
@@ -12,19 +13,23 @@ import java.util.*;
  */
 abstract class AbstractComputerPlayer extends AbstractPlayer {
 
+
     /**
-     * random generator
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    protected SecureRandom random = new SecureRandom();
+    public AbstractComputerPlayer(GameContext context, String name) {
+        super(context, name);
+    }
+
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @return the random generator of the game
      */
-    public AbstractComputerPlayer(String name) {
-        super(name);
+    protected RandomSource random() {
+        return context.getRandom();
     }
 
-
     /**
      * @return true if this player is a computer
      */
@@ -3,15 +3,17 @@ package ca.concordia.encs.conquerdia.model.player;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.Battle;
 import ca.concordia.encs.conquerdia.model.Battle.BattleState;
+import ca.concordia.encs.conquerdia.model.BattleLog;
 import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Continent;
 import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.util.DisjointSet;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-import java.security.SecureRandom;
 import java.util.*;
 
 /**
@@ -19,11 +21,9 @@ import java.util.*;
  */
 abstract class AbstractPlayer implements Player {
     /**
-     * The number of armies a player will get for cards is first 5, then increases
-     * by 5 every time any player does so (i.e. 5, 10, 15, …).
+     * The game that this player plays in
      */
-    private static int NUMBER_OF_ARMIES_FOR_EXCHANGE_CARD = 0;
-
+    protected final GameContext context;
     /**
      * Player Name
      */
@@ -40,6 +40,15 @@ abstract class AbstractPlayer implements Player {
      * Continents owned by this player
      */
     protected HashMap<String, Continent> continents = new HashMap<>();
+    /**
+     * Number of countries this player owns in each continent, by continent name, so that the ownership of a whole
+     * continent is checked in constant time when a country is added
+     */
+    private final HashMap<String, int[]> numberOfCountriesByContinent = new HashMap<>();
+    /**
+     * Sum of the values of the continents this player owns, the continent bonus of the reinforcement phase
+     */
+    private int continentBonus;
     /**
      * The number of armies that belong to this player and are not placed on any
      * country.
@@ -65,24 +74,37 @@ abstract class AbstractPlayer implements Player {
 
     /**
      * This attribute is the total number of armies of the player in the countries
-     * he owns;
+     * they own, the countries update it when their armies or their owner change
      */
     private int totalNumberOfArmies = 0;
 
     /**
-     * @param name The name of a player that must be determined when you want to
-     *             create a player
+     * The connected groups of the countries of this player, it is updated when a country is added and built again
+     * after a country is removed
+     */
+    private final DisjointSet territories = new DisjointSet();
+
+    /**
+     * The element of each country of this player in {@link #territories}
+     */
+    private final HashMap<String, Integer> territoryIds = new HashMap<>();
+
+    /**
+     * true if a country has been removed since {@link #territories} was built
      */
-    public AbstractPlayer(String name) {
+    private boolean territoriesStale;
+
+    /**
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to
+     *                create a player
+     */
+    public AbstractPlayer(GameContext context, String name) {
+        this.context = context;
         this.name = name;
         this.battle = null;
     }
 
-    private static int getNumberOfArmiesForExchangeCard() {
-        NUMBER_OF_ARMIES_FOR_EXCHANGE_CARD += 5;
-        return NUMBER_OF_ARMIES_FOR_EXCHANGE_CARD;
-    }
-
     /**
      * Player's continents.
      *
@@ -90,6 +112,7 @@ abstract class AbstractPlayer implements Player {
      */
     public void setContinents(HashMap<String, Continent> continents) {
         this.continents = continents;
+        continentBonus = continents.values().stream().mapToInt(Continent::getValue).sum();
     }
 
     /**
@@ -113,7 +136,7 @@ abstract class AbstractPlayer implements Player {
         if (battle != null) {
             return battle;
         } else {
-            return new Battle(null, null);
+            return new Battle(context, null, null);
         }
     }
 
@@ -186,13 +209,58 @@ abstract class AbstractPlayer implements Player {
      * @param country The country to add
      */
     public void addCountry(Country country) {
-        this.countries.put(country.getName(), country);
+        boolean isNew = this.countries.put(country.getName(), country) == null;
         country.setOwner(this);
-        if (ownedAll(country.getContinent().getCountriesName())) {
-            continents.put(country.getContinent().getName(), country.getContinent());
+        if (isNew) {
+            Continent continent = country.getContinent();
+            int[] numberOfCountries = numberOfCountriesByContinent.computeIfAbsent(continent.getName(), key -> new int[1]);
+            numberOfCountries[0]++;
+            if (numberOfCountries[0] >= continent.getNumberOfCountries()
+                    && continents.put(continent.getName(), continent) == null) {
+                continentBonus += continent.getValue();
+            }
+        }
+        if (!territoriesStale) {
+            addTerritory(country);
+        }
+    }
+
+    /**
+     * Add a country to the connected groups and merge it with the groups of its neighbours that this player owns
+     *
+     * @param country the new country of this player
+     */
+    private void addTerritory(Country country) {
+        if (territoryIds.containsKey(country.getName()))
+            return;
+        int id = territories.add();
+        territoryIds.put(country.getName(), id);
+        for (String neighbourName : country.getAdjacentCountriesName()) {
+            Integer neighbour = territoryIds.get(neighbourName);
+            if (neighbour != null) {
+                territories.union(id, neighbour);
+            }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isConnected(Country fromCountry, Country toCountry) {
+        if (territoriesStale) {
+            territoriesStale = false;
+            territories.clear();
+            territoryIds.clear();
+            for (Country country : countries.values()) {
+                addTerritory(country);
+            }
+        }
+        Integer fromId = territoryIds.get(fromCountry.getName());
+        Integer toId = territoryIds.get(toCountry.getName());
+        return fromId != null && toId != null && territories.isConnected(fromId, toId);
+    }
+
     /**
      * Remove a country from the list of the countries that owned by this player
      *
@@ -202,8 +270,17 @@ abstract class AbstractPlayer implements Player {
         if (countries.containsKey(countryName)) {
             Country country = countries.get(countryName);
             country.setOwner(null);
-            continents.remove(country.getContinent().getName());
+            String continentName = country.getContinent().getName();
+            Continent continent = continents.remove(continentName);
+            if (continent != null) {
+                continentBonus -= continent.getValue();
+            }
+            int[] numberOfCountries = numberOfCountriesByContinent.get(continentName);
+            if (numberOfCountries != null) {
+                numberOfCountries[0]--;
+            }
             countries.remove(countryName);
+            territoriesStale = true;
         }
     }
 
@@ -232,7 +309,6 @@ abstract class AbstractPlayer implements Player {
      * @return the total number of armies owned by this player
      */
     public int getTotalNumberOfArmies() {
-        this.totalNumberOfArmies = countries.values().stream().mapToInt(Country::getNumberOfArmies).sum();
         return totalNumberOfArmies;
     }
 
@@ -240,11 +316,21 @@ abstract class AbstractPlayer implements Player {
      * Set totalNumber of Armies
      *
      * @param totalNumberOfArmies total number of armies
+     * @deprecated the total is kept up to date by the countries, see {@link #addToTotalNumberOfArmies(int)}
      */
+    @Deprecated
     public void setTotalNumberOfArmies(int totalNumberOfArmies) {
         this.totalNumberOfArmies = totalNumberOfArmies;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addToTotalNumberOfArmies(int delta) {
+        totalNumberOfArmies += delta;
+    }
+
     /**
      * @return the number of continents this player owns
      */
@@ -290,9 +376,7 @@ abstract class AbstractPlayer implements Player {
     public int calculateNumberOfReinforcementArmies() {
         int numberOfReinforcementArmies = 0;
         numberOfReinforcementArmies += countries.size() / 3;
-        for (Map.Entry<String, Continent> entry : continents.entrySet()) {
-            numberOfReinforcementArmies += entry.getValue().getValue();
-        }
+        numberOfReinforcementArmies += continentBonus;
         if (numberOfReinforcementArmies < 3) {
             numberOfReinforcementArmies = 3;
         }
@@ -331,11 +415,11 @@ abstract class AbstractPlayer implements Player {
             fortificationFinished = true;
             return String.format("%s choose to not do a move during the fortification phase.", name);
         }
-        Country fromCountry = WorldMap.getInstance().getCountry(fromCountryName);
+        Country fromCountry = context.getWorldMap().getCountry(fromCountryName);
         if (fromCountry == null) {
             throw new ValidationException(String.format("Country with name \"%s\" was not found!", fromCountryName));
         }
-        Country toCountry = WorldMap.getInstance().getCountry(toCountryName);
+        Country toCountry = context.getWorldMap().getCountry(toCountryName);
         if (toCountry == null) {
             throw new ValidationException(String.format("Country with name \"%s\" was not found!", toCountryName));
         }
@@ -382,14 +466,14 @@ abstract class AbstractPlayer implements Player {
         if (isInBattle()) {
             throw new ValidationException("Current Attack has not finished yet.");
         }
-        ArrayList<String> result = new ArrayList<>();
+        BattleLog result = new BattleLog(context);
         if (noAttack) {
             result.add(String.format("\"-noattack\" is selected by %s.", name));
             this.attackFinished = true;
             return result;
         }
-        Country fromCountry = WorldMap.getInstance().getCountry(fromCountryName);
-        Country toCountry = WorldMap.getInstance().getCountry(toCountryName);
+        Country fromCountry = context.getWorldMap().getCountry(fromCountryName);
+        Country toCountry = context.getWorldMap().getCountry(toCountryName);
         if (fromCountry == null) {
             throw new ValidationException(String.format("Country with name \"%s\" was not found!", fromCountryName));
         }
@@ -422,14 +506,18 @@ abstract class AbstractPlayer implements Player {
                         "Number of dice rolled (%d) should be less than the number of armies (%d) in \"%s\")", numdice,
                         fromCountry.getNumberOfArmies(), fromCountry.getName()));
             }
-            battle = new Battle(fromCountry, toCountry);
+            battle = new Battle(context, fromCountry, toCountry);
             battle.setNumberOfAttackerDices(numdice);
-            result.add(String.format("%s has attacked %s with %s number of dice(s).", fromCountryName, toCountryName,
-                    numdice));
+            if (result.isEnabled()) {
+                result.add(String.format("%s has attacked %s with %s number of dice(s).", fromCountryName,
+                        toCountryName, numdice));
+            }
         } else {
-            battle = new Battle(fromCountry, toCountry);
-            result.add(String.format("%s(%d) has started an all out attack on %s(%d).", fromCountryName,
-                    fromCountry.getNumberOfArmies(), toCountryName, toCountry.getNumberOfArmies()));
+            battle = new Battle(context, fromCountry, toCountry);
+            if (result.isEnabled()) {
+                result.add(String.format("%s(%d) has started an all out attack on %s(%d).", fromCountryName,
+                        fromCountry.getNumberOfArmies(), toCountryName, toCountry.getNumberOfArmies()));
+            }
             result.addAll(battle.allOutAttack());
             if (!battle.isConquered()) {
                 battle = null;
@@ -445,7 +533,7 @@ abstract class AbstractPlayer implements Player {
      * @param numDice Number of dice rolled by the defending player
      * @return messages for the view
      */
-    public ArrayList<String> defend(int numDice) throws ValidationException {
+    public List<String> defend(int numDice) throws ValidationException {
         if (!isInBattle()) {
             throw new ValidationException("There is no attack to defend!");
         }
@@ -460,8 +548,10 @@ abstract class AbstractPlayer implements Player {
             throw new ValidationException(
                     "The number of dice cannot be more the number of armies in the defending country.");
         }
-        ArrayList<String> results = new ArrayList<>();
-        results.add(String.format("Player %s defended with %d dice(s).", this.name, numDice));
+        BattleLog results = new BattleLog(context);
+        if (results.isEnabled()) {
+            results.add(String.format("Player %s defended with %d dice(s).", this.name, numDice));
+        }
         battle.setNumberOfDefenderDices(numDice);
         results.addAll(battle.simulateBattle());
         if (!battle.isConquered()) {
@@ -518,7 +608,7 @@ abstract class AbstractPlayer implements Player {
      * @throws ValidationException
      */
     public String reinforce(String countryName, int numberOfArmy) throws ValidationException {
-        Country country = WorldMap.getInstance().getCountry(countryName);
+        Country country = context.getWorldMap().getCountry(countryName);
         if (country == null)
             throw new ValidationException(String.format("Country with name \"%s\" was not found!", countryName));
         if (numberOfArmy < 1)
@@ -564,7 +654,7 @@ abstract class AbstractPlayer implements Player {
      * Add a card randomly to the list of the cards that this player have
      */
     public void winCard() {
-        cards.add(CardType.values()[new SecureRandom().nextInt(CardType.values().length)]);
+        cards.add(CardType.values()[context.getRandom().nextInt(CardType.values().length)]);
     }
 
     /**
@@ -601,7 +691,7 @@ abstract class AbstractPlayer implements Player {
         for (int i = 0; i < indexes.length; i++) {
             cards.remove(indexes[i].intValue());
         }
-        int numberOfArmiesForExchangeCard = getNumberOfArmiesForExchangeCard();
+        int numberOfArmiesForExchangeCard = context.getPlayersModel().nextNumberOfArmiesForExchangeCard();
         unplacedArmies += numberOfArmiesForExchangeCard;
         return String.format("Player %s exchanges %s, %s, %s cards with %d armies.", name, firstCard.getName(),
                 secondCard.getName(), thirdCard.getName(), numberOfArmiesForExchangeCard);
@@ -630,7 +720,7 @@ abstract class AbstractPlayer implements Player {
     public String placeArmy(String countryName) throws ValidationException {
         if (StringUtils.isBlank(countryName))
             throw new ValidationException("Country name is not valid!");
-        Country country = WorldMap.getInstance().getCountry(countryName);
+        Country country = context.getWorldMap().getCountry(countryName);
         if (country == null)
             throw new ValidationException(String.format("Country with name \"%s\" was not found!", countryName));
         if (!this.equals(country.getOwner())) {
@@ -1,6 +1,7 @@
 package ca.concordia.encs.conquerdia.model.player;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
@@ -16,10 +17,11 @@ import java.util.stream.Collectors;
 class Aggressive extends AbstractComputerPlayer {
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    public Aggressive(String name) {
-        super(name);
+    public Aggressive(GameContext context, String name) {
+        super(context, name);
     }
 
     /**
@@ -1,6 +1,7 @@
 package ca.concordia.encs.conquerdia.model.player;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
@@ -14,10 +15,11 @@ import java.util.List;
 class Benevolent extends AbstractComputerPlayer {
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    public Benevolent(String name) {
-        super(name);
+    public Benevolent(GameContext context, String name) {
+        super(context, name);
     }
 
     /**
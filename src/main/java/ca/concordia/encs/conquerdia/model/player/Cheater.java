@@ -1,11 +1,12 @@
 package ca.concordia.encs.conquerdia.model.player;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
-import ca.concordia.encs.conquerdia.model.PlayersModel;
+import ca.concordia.encs.conquerdia.model.BattleEvent;
+import ca.concordia.encs.conquerdia.model.BattleLog;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -17,10 +18,11 @@ import java.util.Map;
 class Cheater extends AbstractComputerPlayer {
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    public Cheater(String name) {
-        super(name);
+    public Cheater(GameContext context, String name) {
+        super(context, name);
     }
 
     /**
@@ -54,12 +56,12 @@ class Cheater extends AbstractComputerPlayer {
     public String placeArmy(String countryName) throws ValidationException {
         String[] countyNames = new String[countries.keySet().size()];
         countyNames = countries.keySet().toArray(countyNames);
-        return super.placeArmy(countyNames[random.nextInt(countyNames.length)]);
+        return super.placeArmy(countyNames[random().nextInt(countyNames.length)]);
     }
 
     @Override
     public List<String> attack(String fromCountryName, String toCountryName, int numdice, boolean isAllOut, boolean noAttack) throws ValidationException {
-        List<String> result = new ArrayList<>();
+        BattleLog result = new BattleLog(context);
         List<Country> toAddCountries = new ArrayList<>();
         countries.entrySet().stream().forEach(entry -> entry.getValue().getAdjacentCountries().stream().forEach(country -> {
             toAddCountries.add(country);
@@ -68,11 +70,10 @@ class Cheater extends AbstractComputerPlayer {
                     Player defender = country.getOwner();
                     defender.removeCountry(country.getName());
                     if (defender.getNumberOfCountries() == 0) {
-                        result.add(String.format("%s is kicked out from game.", defender.getName()));
-                        PlayersModel.getInstance().getPlayers().remove(defender);
+                        result.add(BattleEvent.kickedOut(defender.getName()));
+                        context.getPlayersModel().getPlayers().remove(defender);
                         if (defender.getCards().size() > 0) {
-                            result.add(String.format("Attacker (%s) wins all %d cards of kicked out player (%s).",
-                                    name, defender.getCards().size(), defender.getName()));
+                            result.add(BattleEvent.cardsWon(name, defender.getCards().size(), defender.getName()));
                             cards.addAll(defender.getCards());
                         }
                     }
@@ -80,7 +81,10 @@ class Cheater extends AbstractComputerPlayer {
                 }
         );
         attackFinished = true;
-        return Arrays.asList(String.format("%s conquers all the neighbors of all its countries!!!!", name));
+        if (result.isEnabled()) {
+            result.add(0, String.format("%s conquers all the neighbors of all its countries!!!!", name));
+        }
+        return result;
     }
 
     @Override
@@ -1,15 +1,17 @@
 package ca.concordia.encs.conquerdia.model.player;
 
+import ca.concordia.encs.conquerdia.model.GameContext;
 /**
  * A human player that requires user interaction to make decisions.
  */
 class Human extends AbstractPlayer {
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    public Human(String name) {
-        super(name);
+    public Human(GameContext context, String name) {
+        super(context, name);
     }
 
     /**
@@ -3,10 +3,10 @@ package ca.concordia.encs.conquerdia.model.player;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
 import ca.concordia.encs.conquerdia.model.Battle;
 import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Continent;
 import ca.concordia.encs.conquerdia.model.map.Country;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
@@ -25,22 +25,35 @@ public interface Player {
      * @throws ValidationException
      */
     static Player factory(String playerName, String strategy) throws ValidationException {
+        return factory(GameContext.current(), playerName, strategy);
+    }
+
+    /**
+     * Factory For the Player of a given game
+     *
+     * @param context    the game that the player plays in
+     * @param playerName name of the player
+     * @param strategy   strategy
+     * @return the player object
+     * @throws ValidationException
+     */
+    static Player factory(GameContext context, String playerName, String strategy) throws ValidationException {
         Player player;
         switch (strategy) {
             case "human":
-                player = new Human(playerName);
+                player = new Human(context, playerName);
                 break;
             case "aggressive":
-                player = new Aggressive(playerName);
+                player = new Aggressive(context, playerName);
                 break;
             case "benevolent":
-                player = new Benevolent(playerName);
+                player = new Benevolent(context, playerName);
                 break;
             case "random":
-                player = new Random(playerName);
+                player = new Random(context, playerName);
                 break;
             case "cheater":
-                player = new Cheater(playerName);
+                player = new Cheater(context, playerName);
                 break;
             default:
                 throw new ValidationException("Player strategy is not valid!");
@@ -158,6 +171,15 @@ public interface Player {
      */
     void removeCountry(String countryName);
 
+    /**
+     * Check there is a path between two countries of this player that is composed of countries that this player owns
+     *
+     * @param fromCountry source country
+     * @param toCountry   destination country
+     * @return true if both countries belong to this player and are connected through the countries of this player
+     */
+    boolean isConnected(Country fromCountry, Country toCountry);
+
     /**
      * Reset status of various phases
      */
@@ -206,7 +228,7 @@ public interface Player {
      * @param numDice Number of dice rolled by the defending player
      * @return messages for the view
      */
-    ArrayList<String> defend(int numDice) throws ValidationException;
+    List<String> defend(int numDice) throws ValidationException;
 
     /**
      * @param countryName Name of the country that one army be placed on it
@@ -219,15 +241,25 @@ public interface Player {
     Set<String> getContinentNames();
 
     /**
-     * @return the total number of armies owned by this player
+     * @return the total number of armies owned by this player, kept up to date by the countries of this player
      */
     int getTotalNumberOfArmies();
     
     /**
      * Set totalNumber of Armies 
      * @param totalNumberOfArmies total number of armies
+     * @deprecated the total is kept up to date by the countries, see {@link #addToTotalNumberOfArmies(int)}
      */
+    @Deprecated
     void setTotalNumberOfArmies(int totalNumberOfArmies);
+
+    /**
+     * Called by a country of this player when its number of armies changes, and by a country when it gets or loses
+     * this player as its owner
+     *
+     * @param delta the number of armies to add to the total, negative to remove armies
+     */
+    void addToTotalNumberOfArmies(int delta);
     /**
      * @param countryName  name of the country
      * @param numberOfArmy number of army
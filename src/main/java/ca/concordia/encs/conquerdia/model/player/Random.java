@@ -1,6 +1,7 @@
 package ca.concordia.encs.conquerdia.model.player;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 
@@ -14,10 +15,11 @@ import java.util.stream.Collectors;
 class Random extends AbstractComputerPlayer {
 
     /**
-     * @param name The name of a player that must be determined when you want to create a player
+     * @param context the game that this player plays in
+     * @param name    The name of a player that must be determined when you want to create a player
      */
-    public Random(String name) {
-        super(name);
+    public Random(GameContext context, String name) {
+        super(context, name);
     }
 
 
@@ -32,7 +34,7 @@ class Random extends AbstractComputerPlayer {
         String[] countyNames = new String[countries.keySet().size()];
         countyNames = countries.keySet().toArray(countyNames);
 
-        return super.reinforce(countyNames[random.nextInt(countyNames.length)], random.nextInt(unplacedArmies) + 1);
+        return super.reinforce(countyNames[random().nextInt(countyNames.length)], random().nextInt(unplacedArmies) + 1);
     }
 
     /**
@@ -42,7 +44,7 @@ class Random extends AbstractComputerPlayer {
     public String placeArmy(String countryName) throws ValidationException {
         String[] countyNames = new String[countries.keySet().size()];
         countyNames = countries.keySet().toArray(countyNames);
-        return super.placeArmy(countyNames[random.nextInt(countyNames.length)]);
+        return super.placeArmy(countyNames[random().nextInt(countyNames.length)]);
     }
 
     /**
@@ -64,11 +66,11 @@ class Random extends AbstractComputerPlayer {
             List<Country> dest = fromCountry.getAdjacentCountries().stream().filter(adjacent -> !adjacent.getOwner().equals(this)).collect(Collectors.toList());
             Country[] toCounties = new Country[dest.size()];
             toCounties = dest.toArray(toCounties);
-            Country toCountry = toCounties[random.nextInt(toCounties.length)];
+            Country toCountry = toCounties[random().nextInt(toCounties.length)];
 
             numdice = -1;
             isAllOut = true;
-            noAttack = random.nextBoolean();
+            noAttack = random().nextBoolean();
             fromCountryName = fromCountry.getName();
             toCountryName = toCountry.getName();
         }
@@ -85,7 +87,7 @@ class Random extends AbstractComputerPlayer {
     public String fortify(String fromCountryName, String toCountryName, int numberOfArmy, boolean noneFortify) throws ValidationException {
         Country fromCountry;
         Country toCountry;
-        noneFortify = random.nextBoolean();
+        noneFortify = random().nextBoolean();
         if (!noneFortify) {
             do {
                 fromCountry = getOneCountry();
@@ -93,7 +95,7 @@ class Random extends AbstractComputerPlayer {
             } while (!fromCountry.equals(toCountry) && !WorldMap.isTherePath(fromCountry, toCountry));
             fromCountryName = fromCountry.getName();
             toCountryName = toCountry.getName();
-            numberOfArmy = random.nextInt(fromCountry.getNumberOfArmies() - 1);
+            numberOfArmy = random().nextInt(fromCountry.getNumberOfArmies() - 1);
             noneFortify = numberOfArmy == 0;
         }
         return super.fortify(fromCountryName, toCountryName, numberOfArmy, noneFortify);
@@ -103,7 +105,7 @@ class Random extends AbstractComputerPlayer {
         List<Country> source = countries.entrySet().stream().filter(entry -> entry.getValue().getNumberOfArmies() > 1).map(entry -> entry.getValue()).collect(Collectors.toList());
         Country[] fromCounties = new Country[source.size()];
         fromCounties = source.toArray(fromCounties);
-        Country fromCountry = fromCounties[random.nextInt(fromCounties.length)];
+        Country fromCountry = fromCounties[random().nextInt(fromCounties.length)];
         return fromCountry;
     }
 
@@ -0,0 +1,115 @@
+package ca.concordia.encs.conquerdia.util;
+
+import java.util.Arrays;
+
+/**
+ * A union-find structure over the integers <code>0</code> to <code>size() - 1</code>.
+ * <p>
+ * Every element starts in a set of its own. {@link #union(int, int)} merges two sets and {@link #find(int)} returns
+ * the representative of the set of an element. The sets are merged by size and the paths are halved on every
+ * lookup, so both operations run in almost constant amortized time. Sets can only be merged, to split them the
+ * structure must be cleared and built again.
+ */
+public class DisjointSet {
+    /**
+     * The parent of each element, a representative is its own parent
+     */
+    private int[] parents = new int[16];
+
+    /**
+     * The size of each set, only meaningful for the representatives
+     */
+    private int[] sizes = new int[16];
+
+    /**
+     * The number of elements
+     */
+    private int size;
+
+    /**
+     * The number of disjoint sets
+     */
+    private int numberOfSets;
+
+    /**
+     * Add a new element in a set of its own
+     *
+     * @return the new element
+     */
+    public int add() {
+        if (size == parents.length) {
+            parents = Arrays.copyOf(parents, size * 2);
+            sizes = Arrays.copyOf(sizes, size * 2);
+        }
+        parents[size] = size;
+        sizes[size] = 1;
+        numberOfSets++;
+        return size++;
+    }
+
+    /**
+     * @param element an element
+     * @return the representative of the set of the element
+     */
+    public int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merge the sets of two elements
+     *
+     * @param first  an element
+     * @param second another element
+     * @return true if the elements were in different sets
+     */
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot)
+            return false;
+        if (sizes[firstRoot] < sizes[secondRoot]) {
+            int swap = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = swap;
+        }
+        parents[secondRoot] = firstRoot;
+        sizes[firstRoot] += sizes[secondRoot];
+        numberOfSets--;
+        return true;
+    }
+
+    /**
+     * @param first  an element
+     * @param second another element
+     * @return true if the elements are in the same set
+     */
+    public boolean isConnected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of disjoint sets
+     */
+    public int getNumberOfSets() {
+        return numberOfSets;
+    }
+
+    /**
+     * Remove all the elements
+     */
+    public void clear() {
+        size = 0;
+        numberOfSets = 0;
+    }
+}
@@ -28,11 +28,28 @@ import java.util.Vector;
  * When an observable object is newly created, its set of observers is
  * empty. Two observers are considered the same if and only if the
  * <tt>equals</tt> method returns true for them.
+ * <p>
+ * The observers are called on the thread that notifies them, unless an
+ * {@link ObserverDispatcher} is set: then the notifications are queued and
+ * merged, unless {@link #isMergeable()} is false, and the observers are
+ * called on the thread of the dispatcher.
+ * <p>
+ * The game goes on while the dispatcher calls the observers, so the
+ * observers must not read the mutable state of the observable. Each
+ * notification takes an immutable copy of this state with
+ * {@link #snapshot(Object)} on the thread that notifies, and the observers
+ * get it as the argument of their <code>update</code> method whatever the
+ * thread they are called on.
  */
 public abstract class Observable {
     private boolean changed = false;
     private Vector<Observer> obs;
 
+    /**
+     * Delivers the notifications on a background thread, null to call the observers synchronously
+     */
+    private volatile ObserverDispatcher dispatcher;
+
     /**
      * Construct an Observable with zero Observers.
      */
@@ -91,7 +108,8 @@ public abstract class Observable {
      * that this object has no longer changed.
      * <p>
      * Each observer has its <code>update</code> method called with two
-     * arguments: this observable object and the <code>arg</code> argument.
+     * arguments: this observable object and the snapshot of its state that
+     * {@link #snapshot(Object)} takes from the <code>arg</code> argument.
      *
      * @param arg any object.
      */
@@ -100,7 +118,8 @@ public abstract class Observable {
          * a temporary array buffer, used as a snapshot of the state of
          * current Observers.
          */
-        Object[] arrLocal;
+        Object[] arrLocal = null;
+        ObserverDispatcher target;
 
         synchronized (this) {
             /* We don't want the Observer doing callbacks into
@@ -117,14 +136,78 @@ public abstract class Observable {
              */
             if (!changed)
                 return;
-            arrLocal = obs.toArray();
             clearChanged();
+            // nobody reads the snapshot of an observable without observers
+            if (obs.isEmpty())
+                return;
+            target = dispatcher;
+            if (target == null)
+                arrLocal = obs.toArray();
+        }
+
+        Object state = snapshot(arg);
+        if (target != null) {
+            target.dispatch(this, state);
+            return;
         }
+        for (int i = arrLocal.length - 1; i >= 0; i--)
+            ((Observer) arrLocal[i]).update(this, state);
+    }
+
+    /**
+     * Take a copy of the state that the observers read, on the thread that
+     * notifies them. The copy must not change afterwards, since the observers
+     * may read it on the thread of a dispatcher while this object changes.
+     * <p>
+     * The default implementation returns the argument itself.
+     *
+     * @param arg the argument of the notification
+     * @return the argument that is passed to the observers
+     */
+    protected Object snapshot(Object arg) {
+        return arg;
+    }
 
+    /**
+     * Tell a dispatcher whether the notifications of this object that are
+     * not delivered yet can be merged into the last one. This is true for
+     * the objects whose last snapshot holds all their state, false for the
+     * objects whose state is dropped between two notifications.
+     * <p>
+     * The default implementation returns true.
+     *
+     * @return true to merge the notifications, false to deliver each of them
+     * in order
+     */
+    protected boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * Call all the current observers, on the thread of the dispatcher
+     *
+     * @param arg the snapshot taken by the notification
+     */
+    void deliver(Object arg) {
+        Object[] arrLocal;
+        synchronized (this) {
+            arrLocal = obs.toArray();
+        }
         for (int i = arrLocal.length - 1; i >= 0; i--)
             ((Observer) arrLocal[i]).update(this, arg);
     }
 
+    /**
+     * Deliver the notifications of this object on the thread of a dispatcher,
+     * where repeated notifications are merged.
+     *
+     * @param dispatcher the dispatcher, null to notify the observers
+     *                   synchronously on the thread that notifies them
+     */
+    public void setDispatcher(ObserverDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
     /**
      * Clears the observer list so that this object no longer has any observers.
      */
@@ -0,0 +1,158 @@
+package ca.concordia.encs.conquerdia.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers the notifications of some {@link Observable}s on a single background thread.
+ * <p>
+ * The thread of the game only queues a notification and goes on, so a slow view does not stall the game. The
+ * notifications that are queued while the views are busy are merged: an observable that is notified several times
+ * before the next tick updates its observers once, with the argument of its last notification. An observable whose
+ * notifications cannot be merged, see {@link Observable#isMergeable()}, updates its observers once for each of them.
+ * The observers are called in the order the notifications were first queued, and always on the thread of the
+ * dispatcher. The argument is the snapshot of the state of the observable taken by its notification, so the
+ * observers never read the models while the game changes them.
+ * <p>
+ * An observer that fails does not stop the delivery of the other notifications, its exception is thrown by the
+ * next {@link #flush()}.
+ */
+public class ObserverDispatcher implements AutoCloseable {
+    /**
+     * The notifications that are queued since the last tick, in order
+     */
+    private final List<Notification> pending = new ArrayList<>();
+
+    /**
+     * The pending notification of each observable whose notifications are merged
+     */
+    private final Map<Observable, Notification> merged = new HashMap<>();
+
+    /**
+     * The first exception thrown by an observer since the last flush, null if there is none
+     */
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * The single thread that delivers the notifications
+     */
+    private final ExecutorService executor;
+
+    /**
+     * true if a tick is queued to deliver the pending notifications
+     */
+    private boolean tickScheduled;
+
+    /**
+     * Create a dispatcher with its own daemon thread
+     */
+    public ObserverDispatcher() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "observer-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a notification, or merge it with the one of the same observable that is not delivered yet
+     *
+     * @param observable the observable that has changed
+     * @param arg        the argument of the notification
+     */
+    synchronized void dispatch(Observable observable, Object arg) {
+        Notification notification = observable.isMergeable() ? merged.get(observable) : null;
+        if (notification != null) {
+            notification.arg = arg;
+        } else {
+            notification = new Notification(observable, arg);
+            pending.add(notification);
+            if (observable.isMergeable()) {
+                merged.put(observable, notification);
+            }
+        }
+        if (!tickScheduled) {
+            tickScheduled = true;
+            executor.execute(this::tick);
+        }
+    }
+
+    /**
+     * Deliver all the pending notifications, and keep the exceptions of the observers for the next flush
+     */
+    private void tick() {
+        List<Notification> notifications;
+        synchronized (this) {
+            notifications = new ArrayList<>(pending);
+            pending.clear();
+            merged.clear();
+            tickScheduled = false;
+        }
+        for (Notification notification : notifications) {
+            try {
+                notification.observable.deliver(notification.arg);
+            } catch (RuntimeException e) {
+                if (!failure.compareAndSet(null, e)) {
+                    failure.get().addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait until all the notifications queued before this call are delivered
+     *
+     * @throws InterruptedException  when the current thread is interrupted while waiting
+     * @throws IllegalStateException if an observer has failed since the last flush, its exception is the cause
+     */
+    public void flush() throws InterruptedException {
+        try {
+            executor.submit(() -> {
+            }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        RuntimeException e = failure.getAndSet(null);
+        if (e != null) {
+            throw new IllegalStateException("An observer has failed.", e);
+        }
+    }
+
+    /**
+     * Deliver the pending notifications and stop the thread of the dispatcher
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * A notification that is not delivered yet
+     */
+    private static final class Notification {
+        /**
+         * The observable that has changed
+         */
+        private final Observable observable;
+
+        /**
+         * The argument of the notification, the one of the last notification when they are merged
+         */
+        private Object arg;
+
+        /**
+         * @param observable the observable that has changed
+         * @param arg        the argument of the notification
+         */
+        private Notification(Observable observable, Object arg) {
+            this.observable = observable;
+            this.arg = arg;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ca.concordia.encs.conquerdia.util;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * A source of random numbers of one game.
+ * <p>
+ * The default source is a fast, non cryptographic {@link SplittableRandom}. It can be created with a seed to replay
+ * a game exactly, as long as the game makes the same calls in the same order. A {@link SecureRandom} source is
+ * still available for the games that need unpredictable numbers. A source is not thread safe, every game must have
+ * its own source.
+ */
+public interface RandomSource {
+
+    /**
+     * @return a fast source with a random seed
+     */
+    static RandomSource fast() {
+        return new Fast(new SplittableRandom());
+    }
+
+    /**
+     * @param seed the seed of the source
+     * @return a fast source that always generates the same numbers for the same seed
+     */
+    static RandomSource fast(long seed) {
+        return new Fast(new SplittableRandom(seed));
+    }
+
+    /**
+     * @return a source backed by {@link SecureRandom}, it is slow and it cannot be seeded
+     */
+    static RandomSource secure() {
+        return new Secure(new SecureRandom());
+    }
+
+    /**
+     * @param bound the upper bound (exclusive), must be positive
+     * @return a random number between 0 (inclusive) and bound (exclusive)
+     */
+    int nextInt(int bound);
+
+    /**
+     * @param bound the upper bound (exclusive), must be positive
+     * @return a random number between 0 (inclusive) and bound (exclusive)
+     */
+    long nextLong(long bound);
+
+    /**
+     * @return a random number uniformly distributed between 0 (inclusive) and 1 (exclusive)
+     */
+    double nextDouble();
+
+    /**
+     * @return a random boolean
+     */
+    boolean nextBoolean();
+
+    /**
+     * The default source, backed by {@link SplittableRandom}
+     */
+    class Fast implements RandomSource {
+        /**
+         * The generator
+         */
+        private final SplittableRandom random;
+
+        /**
+         * @param random the generator
+         */
+        private Fast(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return random.nextLong(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return random.nextBoolean();
+        }
+    }
+
+    /**
+     * The source backed by {@link SecureRandom}
+     */
+    class Secure implements RandomSource {
+        /**
+         * The generator
+         */
+        private final SecureRandom random;
+
+        /**
+         * @param random the generator
+         */
+        private Secure(SecureRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            if (bound <= 0)
+                throw new IllegalArgumentException("bound must be positive");
+            long bits;
+            long value;
+            do {
+                bits = random.nextLong() >>> 1;
+                value = bits % bound;
+            } while (bits - value + (bound - 1) < 0);
+            return value;
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return random.nextBoolean();
+        }
+    }
+}
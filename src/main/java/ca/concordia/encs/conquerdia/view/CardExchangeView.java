@@ -1,11 +1,11 @@
 package ca.concordia.encs.conquerdia.view;
 
-import ca.concordia.encs.conquerdia.model.CardExchangeModel;
 import ca.concordia.encs.conquerdia.model.CardType;
 import ca.concordia.encs.conquerdia.util.Observable;
 import ca.concordia.encs.conquerdia.util.Observer;
 
 import java.io.PrintStream;
+import java.util.List;
 
 /**
  * The card exchange view is created only during the reinforcement phase. It display all the cards owned by the current
@@ -24,11 +24,13 @@ public class CardExchangeView implements Observer {
 
     @Override
     public void update(Observable o, Object arg) {
-        CardExchangeModel cardExchangeModel = (CardExchangeModel) o;
-        if (cardExchangeModel.isReinforcementPhaseActive() && !cardExchangeModel.getCards().isEmpty()) {
+        // the cards are only given during the reinforce phase
+        @SuppressWarnings("unchecked")
+        List<CardType> cards = (List<CardType>) arg;
+        if (!cards.isEmpty()) {
             output.println("****    Card Exchange View     ****************************************************************");
             int i = 0;
-            for (CardType cardType : cardExchangeModel.getCards()) {
+            for (CardType cardType : cards) {
                 output.print(++i + "-" + cardType.getName() + ", ");
             }
             output.println();
@@ -1,10 +1,10 @@
 package ca.concordia.encs.conquerdia.view;
 
-import ca.concordia.encs.conquerdia.model.CommandResultModel;
 import ca.concordia.encs.conquerdia.util.Observable;
 import ca.concordia.encs.conquerdia.util.Observer;
 
 import java.io.PrintStream;
+import java.util.List;
 
 public class CommandResultView implements Observer {
     private final PrintStream output;
@@ -16,7 +16,7 @@ public class CommandResultView implements Observer {
     @Override
     public void update(Observable o, Object arg) {
         output.println("****    Command Result View     ****************************************************************");
-        for (String result : ((CommandResultModel) o).getResultList()) {
+        for (Object result : (List<?>) arg) {
             output.println(result);
         }
         output.println("****____________________________________________________________________________________________");
@@ -1,7 +1,6 @@
 package ca.concordia.encs.conquerdia.view;
 
 
-import ca.concordia.encs.conquerdia.model.PhaseModel;
 import ca.concordia.encs.conquerdia.util.Observable;
 import ca.concordia.encs.conquerdia.util.Observer;
 
@@ -18,7 +17,7 @@ public class PhaseView implements Observer {
     @Override
     public void update(Observable o, Object arg) {
         output.println("****    Phase View      ************************************************************************");
-        output.println(((PhaseModel) o).getPhaseStatus());
+        output.println(arg);
         output.println("****____________________________________________________________________________________________");
     }
 }
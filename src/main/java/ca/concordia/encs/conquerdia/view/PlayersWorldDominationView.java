@@ -1,13 +1,11 @@
 package ca.concordia.encs.conquerdia.view;
 
 import ca.concordia.encs.conquerdia.model.PlayersModel;
-import ca.concordia.encs.conquerdia.model.map.WorldMap;
-import ca.concordia.encs.conquerdia.model.player.Player;
 import ca.concordia.encs.conquerdia.util.Observable;
 import ca.concordia.encs.conquerdia.util.Observer;
 
 import java.io.PrintStream;
-import java.util.Queue;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class PlayersWorldDominationView implements Observer {
@@ -19,18 +17,18 @@ public class PlayersWorldDominationView implements Observer {
 
     @Override
     public void update(Observable o, Object arg) {
-        Queue<Player> players = ((PlayersModel) o).getPlayers();
+        @SuppressWarnings("unchecked")
+        List<PlayersModel.Domination> players = (List<PlayersModel.Domination>) arg;
         if (!players.isEmpty()) {
             StringBuilder mapPercentage = new StringBuilder();
             StringBuilder continentControlled = new StringBuilder();
             StringBuilder totalNumberOfArmies = new StringBuilder();
-            int numberOfAllCountries = WorldMap.getInstance().getCountries().size();
-            for (Player player : players) {
-                mapPercentage.append(player.getName() + ":" + (player.getNumberOfCountries() * 100) / numberOfAllCountries + "%, ");
-                if (player.getNumberOfContinents() > 0) {
-                    continentControlled.append(player.getName()).append(": ").append(player.getContinentNames().stream().collect(Collectors.joining(","))).append(", ");
+            for (PlayersModel.Domination player : players) {
+                mapPercentage.append(player.getPlayerName() + ":" + player.getPercentageOfMap() + "%, ");
+                if (!player.getContinentNames().isEmpty()) {
+                    continentControlled.append(player.getPlayerName()).append(": ").append(player.getContinentNames().stream().collect(Collectors.joining(","))).append(", ");
                 }
-                totalNumberOfArmies.append(player.getName()).append(": ").append(player.getTotalNumberOfArmies()).append(", ");
+                totalNumberOfArmies.append(player.getPlayerName()).append(": ").append(player.getTotalNumberOfArmies()).append(", ");
             }
             output.println("****    Players World Domination View   ********************************************************");
             output.println("The percentage of the map controlled by every player:");
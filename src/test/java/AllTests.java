@@ -4,6 +4,7 @@ import org.junit.runners.Suite.SuiteClasses;
 
 import ca.concordia.encs.conquerdia.controller.command.CommandTestSuite;
 import ca.concordia.encs.conquerdia.model.AbstractPlayerTestSuite;
+import ca.concordia.encs.conquerdia.model.io.GameIOTestSuite;
 import ca.concordia.encs.conquerdia.model.map.MapTestSuite;
 import ca.concordia.encs.conquerdia.model.map.io.MapIOTestSuite;
 
@@ -11,7 +12,8 @@ import ca.concordia.encs.conquerdia.model.map.io.MapIOTestSuite;
 @SuiteClasses({ CommandTestSuite.class,
 		AbstractPlayerTestSuite.class,
 		MapTestSuite.class,
-		MapIOTestSuite.class })
+		MapIOTestSuite.class,
+		GameIOTestSuite.class })
 
 /**
  * Test suite for all the packages test suites classes
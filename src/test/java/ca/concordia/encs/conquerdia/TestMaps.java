@@ -0,0 +1,93 @@
+package ca.concordia.encs.conquerdia;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.map.io.MapIO;
+
+/**
+ * The small map that the tests of the games and of the map files play on
+ * <p>
+ * Its countries Country0 to Country7 are in a ring, the first half in the continent North and the second half in the
+ * continent South, and Country0 also borders Country4.
+ */
+public final class TestMaps {
+	/**
+	 * Number of countries of the small map
+	 */
+	public static final int NUMBER_OF_COUNTRIES = 8;
+
+	/**
+	 * Number of borders of the small map
+	 */
+	public static final int NUMBER_OF_BORDERS = NUMBER_OF_COUNTRIES + 1;
+
+	/**
+	 * Private constructor, the class only has static methods
+	 */
+	private TestMaps() {
+	}
+
+	/**
+	 * Add the continents, the countries and the borders of the small map
+	 *
+	 * @param worldMap an empty map
+	 * @throws ValidationException
+	 */
+	public static void addSmallMap(WorldMap worldMap) throws ValidationException {
+		worldMap.addContinent("North", 2);
+		worldMap.addContinent("South", 3);
+		for (int i = 0; i < NUMBER_OF_COUNTRIES; i++) {
+			worldMap.addCountry("Country" + i, i < NUMBER_OF_COUNTRIES / 2 ? "North" : "South");
+		}
+		for (int i = 0; i < NUMBER_OF_COUNTRIES; i++) {
+			worldMap.addNeighbour("Country" + i, "Country" + ((i + 1) % NUMBER_OF_COUNTRIES));
+		}
+		worldMap.addNeighbour("Country0", "Country" + NUMBER_OF_COUNTRIES / 2);
+	}
+
+	/**
+	 * Write the small map to a map file, the tests are skipped if it cannot be written
+	 *
+	 * @param mapName name of the map file
+	 * @param compile true to also write the compiled map
+	 * @return absolute path to the map file
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	public static Path writeSmallMap(String mapName, boolean compile) throws ValidationException, IOException {
+		Path mapFullPath = getMapPath(mapName);
+		Files.deleteIfExists(mapFullPath);
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.editMap(mapName);
+		addSmallMap(worldMap);
+		worldMap.saveMap(mapName, compile);
+		assumeTrue(Files.exists(mapFullPath));
+		return mapFullPath;
+	}
+
+	/**
+	 * Delete a map file written by the tests
+	 *
+	 * @param mapName name of the map file
+	 * @throws IOException
+	 */
+	public static void deleteMap(String mapName) throws IOException {
+		Files.deleteIfExists(getMapPath(mapName));
+	}
+
+	/**
+	 * @param mapName name of the map file
+	 * @return absolute path to the map file
+	 */
+	public static Path getMapPath(String mapName) {
+		return Paths.get(MapIO.MAPS_FOLDER_PATH + mapName + MapIO.MAP_FILE_EXTENSION);
+	}
+}
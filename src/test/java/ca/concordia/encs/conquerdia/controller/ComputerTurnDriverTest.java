@@ -0,0 +1,73 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel;
+import ca.concordia.encs.conquerdia.model.map.Country;
+
+/**
+ * Test for the {@link ComputerTurnDriver} class
+ */
+public class ComputerTurnDriverTest {
+
+	/**
+	 * Create a game of computer players on a small map, ready to be populated
+	 *
+	 * @param seed the seed of the game
+	 * @return the game
+	 * @throws ValidationException
+	 */
+	private GameContext createGame(long seed) throws ValidationException {
+		GameContext context = new GameContext();
+		context.setSeed(seed);
+		TestMaps.addSmallMap(context.getWorldMap());
+		context.getPhaseModel().setCurrentPhase(PhaseModel.PhaseTypes.START_UP);
+		context.getPhaseModel().setMaxNumberOfTurns(30);
+		context.getPlayersModel().addPlayer("aggressive", "aggressive");
+		context.getPlayersModel().addPlayer("random", "random");
+		context.getPlayersModel().addPlayer("cheater", "cheater");
+		return context;
+	}
+
+	/**
+	 * @param context a game
+	 * @return the owner and the armies of every country of the game
+	 */
+	private String getState(GameContext context) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < TestMaps.NUMBER_OF_COUNTRIES; i++) {
+			Country country = context.getWorldMap().getCountry("Country" + i);
+			sb.append(country.getOwner().getName()).append(country.getNumberOfArmies()).append(' ');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * A headless game played by the driver must end the same way as the same game played through the commands
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testSameGameAsCommands() throws ValidationException {
+		GameContext commandGame = createGame(5);
+		new CommandController(commandGame).executeCommand("populatecountries");
+
+		GameContext driverGame = createGame(5);
+		driverGame.setHeadless(true);
+		driverGame.getPhaseModel().populateCountries();
+		ComputerTurnDriver driver = new ComputerTurnDriver(driverGame);
+		assertTrue(driver.canPlay());
+		driver.play();
+
+		assertTrue(driverGame.getPhaseModel().isFinished());
+		assertEquals(commandGame.getPhaseModel().isDraw(), driverGame.getPhaseModel().isDraw());
+		assertEquals(getState(commandGame), getState(driverGame));
+		assertEquals(commandGame.getPlayersModel().getNumberOfTurns(), driverGame.getPlayersModel().getNumberOfTurns());
+	}
+}
@@ -0,0 +1,81 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+
+/**
+ * Test for the {@link GameSimulator} class
+ */
+public class GameSimulatorTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "simulatortest";
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * A game played again with the same seed must have the same result
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testSameSeedSameResult() throws ValidationException {
+		GameSimulator simulator = new GameSimulator();
+		GameSimulator.Result first = simulator.play(MAP, Arrays.asList("aggressive", "random", "cheater"), 30, 11);
+		GameSimulator.Result second = simulator.play(MAP, Arrays.asList("aggressive", "random", "cheater"), 30, 11);
+		assertEquals(first.toString(), second.toString());
+		assertEquals(first.getNumberOfTurns(), second.getNumberOfTurns());
+		assertEquals(11, first.getSeed());
+		assertTrue(first.getNumberOfTurns() <= 30);
+	}
+
+	/**
+	 * A map that cannot be loaded must be reported
+	 *
+	 * @throws ValidationException
+	 */
+	@Test(expected = ValidationException.class)
+	public void testMissingMap() throws ValidationException {
+		new GameSimulator().play("missingsimulatortest", Arrays.asList("aggressive", "random"), 30);
+	}
+
+	/**
+	 * A game without a max number of turns must be rejected, since a game of benevolent players never ends
+	 *
+	 * @throws ValidationException
+	 */
+	@Test(expected = ValidationException.class)
+	public void testNoTurnLimit() throws ValidationException {
+		new GameSimulator().play(MAP, Arrays.asList("benevolent", "benevolent"), -1, 3);
+	}
+}
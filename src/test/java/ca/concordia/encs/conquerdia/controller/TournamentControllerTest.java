@@ -0,0 +1,76 @@
+package ca.concordia.encs.conquerdia.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+
+/**
+ * Test for the {@link TournamentController} class
+ */
+public class TournamentControllerTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "tournamenttest";
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * @param numberOfThreads number of games played at the same time
+	 * @param output          the stream that the output of the games is printed to
+	 * @return the results table of a seeded tournament
+	 * @throws InterruptedException
+	 */
+	private String play(int numberOfThreads, ByteArrayOutputStream output) throws InterruptedException {
+		TournamentController tournament = new TournamentController(Arrays.asList(MAP, MAP),
+				Arrays.asList("aggressive", "random", "benevolent"), 4, 30, numberOfThreads);
+		tournament.setSeed(17);
+		return tournament.play(new PrintStream(output));
+	}
+
+	/**
+	 * A seeded tournament must have the same results whatever the number of games played at the same time
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testSameResultsOnAnyNumberOfThreads() throws InterruptedException {
+		ByteArrayOutputStream sequentialOutput = new ByteArrayOutputStream();
+		String sequential = play(1, sequentialOutput);
+		ByteArrayOutputStream parallelOutput = new ByteArrayOutputStream();
+		String parallel = play(4, parallelOutput);
+		assertFalse(sequential.contains("Error"));
+		assertEquals(sequential, parallel);
+		assertEquals(sequentialOutput.toString(), parallelOutput.toString());
+	}
+}
@@ -1,6 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PlayersModel;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,7 +30,7 @@ public class AttackCommandTest {
 	 */
 	@Test
 	public void testAttackCommand() {
-		AttackCommand attackCommand = new AttackCommand();
+		AttackCommand attackCommand = new AttackCommand(GameContext.current());
 		List<String> list = new ArrayList<String>();
 		list.add("attack");
 		list.add("Greece");
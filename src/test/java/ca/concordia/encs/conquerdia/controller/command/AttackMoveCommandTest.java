@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.junit.Test;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 /**
  * Test for attack move command
@@ -17,7 +18,7 @@ public class AttackMoveCommandTest extends AttackPhaseCommandTest {
 	@Test
 	public void testCommandValidity() {
 
-		DefendCommand defendCommand = new DefendCommand();
+		DefendCommand defendCommand = new DefendCommand(GameContext.current());
 		List<String> list = new ArrayList<String>();
 		list.add("attackmove");
 		list.add("-3");
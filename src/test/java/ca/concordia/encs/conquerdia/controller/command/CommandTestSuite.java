@@ -1,5 +1,8 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
+import ca.concordia.encs.conquerdia.controller.ComputerTurnDriverTest;
+import ca.concordia.encs.conquerdia.controller.GameSimulatorTest;
+import ca.concordia.encs.conquerdia.controller.TournamentControllerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -12,8 +15,12 @@ import org.junit.runners.Suite;
         AttackMoveCommandTest.class,
         AttackCommandTest.class,
         SaveGameCommandTest.class,
+        GenerateMapCommandTest.class,
         LoadGameCommandTest.class,
-        TournamentTest.class
+        TournamentTest.class,
+        ComputerTurnDriverTest.class,
+        GameSimulatorTest.class,
+        TournamentControllerTest.class
 })
 /**
  * Command package test suite
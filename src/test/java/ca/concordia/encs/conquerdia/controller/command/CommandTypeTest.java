@@ -2,9 +2,11 @@ package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.controller.command.CommandType;
 import ca.concordia.encs.conquerdia.controller.command.EditContinentCommand;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -20,10 +22,13 @@ public class CommandTypeTest {
 	}
 
 	/**
-	 * Test Get factory method
+	 * Test Get factory method, the command is executed on the given game
 	 */
 	@Test
 	public void getFactory() {
-		assertTrue(CommandType.EDIT_CONTINENT.getCommand() instanceof EditContinentCommand);
+		GameContext context = new GameContext();
+		Command command = CommandType.EDIT_CONTINENT.getCommand(context);
+		assertTrue(command instanceof EditContinentCommand);
+		assertSame(context, ((AbstractCommand) command).context);
 	}
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import java.util.List;
 import org.junit.Test;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 
 /**
  * Test for defend
@@ -19,7 +20,7 @@ public class DefendCommandTest extends AttackPhaseCommandTest {
 	@Test
 	public void testCommandValidity() {
 
-		DefendCommand defendCommand = new DefendCommand();
+		DefendCommand defendCommand = new DefendCommand(GameContext.current());
 		List<String> list = new ArrayList<String>();
 		list.add("defend");
 		list.add("-5");
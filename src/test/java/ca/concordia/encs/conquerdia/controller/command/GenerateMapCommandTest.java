@@ -0,0 +1,61 @@
+package ca.concordia.encs.conquerdia.controller.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.map.io.MapIO;
+
+/**
+ * Test for the generatemap command
+ */
+public class GenerateMapCommandTest {
+	/**
+	 * Name of the generated map
+	 */
+	private static final String MAP = "generatemapcommandtest";
+
+	/**
+	 * Delete the generated map
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(Paths.get(MapIO.MAPS_FOLDER_PATH + MAP + MapIO.MAP_FILE_EXTENSION));
+	}
+
+	/**
+	 * The generated map can be loaded to play
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testGenerateMap() throws ValidationException {
+		new GenerateMapCommand(new GameContext()).runCommand(Arrays.asList("generatemap", MAP, "300", "5", "scalefree", "9", "-conquest"));
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.loadMap(MAP);
+		assertTrue(worldMap.isMapLoaded());
+		assertEquals(300, worldMap.getCountries().size());
+	}
+
+	/**
+	 * An unknown topology is rejected
+	 *
+	 * @throws ValidationException
+	 */
+	@Test(expected = ValidationException.class)
+	public void testUnknownTopology() throws ValidationException {
+		new GenerateMapCommand(new GameContext()).runCommand(Arrays.asList("generatemap", MAP, "300", "5", "ring"));
+	}
+}
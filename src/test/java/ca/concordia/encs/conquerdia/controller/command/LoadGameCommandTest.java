@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PlayersModel;
 
 @Ignore
@@ -29,7 +30,7 @@ public class LoadGameCommandTest {
 	 */
 	@Test
 	public void testLoadGameCommand() {
-		LoadGameCommand loadgameCommand = new LoadGameCommand();
+		LoadGameCommand loadgameCommand = new LoadGameCommand(GameContext.current());
 		List<String> list = new ArrayList<String>();
 		list.add("loadgame");
 		list.add("game");
@@ -1,6 +1,7 @@
 package ca.concordia.encs.conquerdia.controller.command;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.PhaseModel;
 import ca.concordia.encs.conquerdia.model.PlayersModel;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
@@ -36,7 +37,7 @@ public class SaveGameCommandTest {
      */
     @Test
     public void testSaveGameCommand() {
-        SaveGameCommand savegameCommand = new SaveGameCommand();
+        SaveGameCommand savegameCommand = new SaveGameCommand(GameContext.current());
         List<String> list = new ArrayList<String>();
         list.add("savegame");
         list.add("game");
@@ -115,6 +115,53 @@ public class AbstractPlayerTest {
 		assertFalse(player.getCountryNames().contains("tree"));
 	}
 
+	/**
+	 * Test case for {@link Player#isConnected(Country, Country)} method
+	 */
+	@Test
+	public void isConnected() {
+		Country country4 = new Country.Builder("four", testContinent).build();
+		Country country5 = new Country.Builder("five", testContinent).build();
+		Country country6 = new Country.Builder("six", testContinent).build();
+		country4.addNeighbour(country5);
+		country5.addNeighbour(country4);
+		country5.addNeighbour(country6);
+		country6.addNeighbour(country5);
+		player.addCountry(country4);
+		player.addCountry(country6);
+		assertFalse(player.isConnected(country4, country6));
+		player.addCountry(country5);
+		assertTrue(player.isConnected(country4, country6));
+		assertFalse(player.isConnected(country4, country1));
+		player.removeCountry(country5.getName());
+		assertFalse(player.isConnected(country4, country6));
+		player.addCountry(country5);
+		assertTrue(player.isConnected(country6, country4));
+	}
+
+	/**
+	 * Test case for {@link Player#getTotalNumberOfArmies()}, the total must follow the armies and the owners of the
+	 * countries
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void getTotalNumberOfArmies() throws ValidationException {
+		assertEquals(0, player.getTotalNumberOfArmies());
+		country1.placeOneArmy();
+		country2.placeArmy(5);
+		country3.setNumberOfArmies(4);
+		assertEquals(10, player.getTotalNumberOfArmies());
+		country2.removeArmy(7);
+		assertEquals(5, player.getTotalNumberOfArmies());
+
+		Player other = Player.factory("other", "human");
+		player.removeCountry(country3.getName());
+		other.addCountry(country3);
+		assertEquals(1, player.getTotalNumberOfArmies());
+		assertEquals(4, other.getTotalNumberOfArmies());
+	}
+
 	/**
 	 * Test case for {@link Player#getNumberOfCountries()} method
 	 */
@@ -153,6 +200,27 @@ public class AbstractPlayerTest {
 		assertEquals(12, player.calculateNumberOfReinforcementArmies());
 	}
 
+	/**
+	 * The continent and its bonus must be lost with one of its countries and won back with it
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void continentOwnership() throws ValidationException {
+		Player other = Player.factory("other", "human");
+		player.removeCountry(country2.getName());
+		other.addCountry(country2);
+		assertEquals(0, player.getNumberOfContinents());
+		assertEquals(3, player.calculateNumberOfReinforcementArmies());
+
+		other.removeCountry(country2.getName());
+		player.addCountry(country2);
+		player.addCountry(country2);
+		assertEquals(1, player.getNumberOfContinents());
+		assertTrue(player.getContinentNames().contains("testContinent"));
+		assertEquals(9, player.calculateNumberOfReinforcementArmies());
+	}
+
 	/**
 	 * Test case for {@link Player#getUnplacedArmies() addUnplacedArmies} method
 	 */
@@ -7,7 +7,11 @@ import org.junit.runners.Suite;
 
 @Suite.SuiteClasses({
 	AbstractPlayerTest.class,
-	BattleTest.class
+	BattleTest.class,
+	GameContextTest.class,
+	AllOutAttackResolverTest.class,
+	DiceRollerTest.class,
+	BattleLogTest.class
 })
 /**
  * Player Test suite CLass
@@ -0,0 +1,155 @@
+package ca.concordia.encs.conquerdia.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.model.player.Player;
+
+/**
+ * Test for the {@link AllOutAttackResolver} class
+ */
+public class AllOutAttackResolverTest {
+
+	/**
+	 * Precision of the comparison of probabilities
+	 */
+	private static final double DELTA = 1e-12;
+
+	/**
+	 * Number of all out attacks sampled by each way of resolving them
+	 */
+	private static final int NUMBER_OF_TRIALS = 4000;
+
+	/**
+	 * Number of standard deviations allowed between the frequencies of a final state
+	 */
+	private static final double TOLERANCE = 4;
+
+	/**
+	 * The conquest probabilities must match the ones computed by hand from the dice
+	 */
+	@Test
+	public void testConquestProbability() {
+		AllOutAttackResolver resolver = new AllOutAttackResolver();
+		// one dice against one dice, the attacker needs a strictly greater face
+		assertEquals(15.0 / 36, resolver.getConquestProbability(2, 1), DELTA);
+		// two dice against one dice, then one dice against one dice if the first round is lost
+		assertEquals(125.0 / 216 + 91.0 / 216 * 15 / 36, resolver.getConquestProbability(3, 1), DELTA);
+		assertTrue(resolver.getConquestProbability(20, 5) > resolver.getConquestProbability(10, 5));
+		assertTrue(resolver.getConquestProbability(10, 10) < resolver.getConquestProbability(10, 5));
+	}
+
+	/**
+	 * A sampled final state must be an end of an all out attack
+	 */
+	@Test
+	public void testResolve() {
+		AllOutAttackResolver resolver = new AllOutAttackResolver();
+		DiceRoller diceRoller = new DiceRoller();
+		for (int i = 0; i < 1000; i++) {
+			AllOutAttackResolver.Result result = resolver.resolve(8, 6, diceRoller);
+			assertTrue(result.getAttackingArmies() >= 1 && result.getAttackingArmies() <= 8);
+			assertTrue(result.getDefendingArmies() >= 0 && result.getDefendingArmies() <= 6);
+			if (result.isConquered()) {
+				assertTrue(result.getAttackerDice() >= 1 && result.getAttackerDice() <= 3);
+			} else {
+				assertEquals(1, result.getAttackingArmies());
+				assertEquals(0, result.getAttackerDice());
+			}
+		}
+	}
+
+	/**
+	 * The attacks beyond the cap must be left to the round by round simulation
+	 */
+	@Test
+	public void testCap() {
+		AllOutAttackResolver resolver = new AllOutAttackResolver(10);
+		assertTrue(resolver.canResolve(10, 10));
+		assertFalse(resolver.canResolve(11, 3));
+		assertFalse(resolver.canResolve(1, 3));
+	}
+
+	/**
+	 * The final states sampled in one step must follow the same distribution as the ones of the battles rolled round
+	 * by round
+	 * 
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testDistributionMatchesRoundByRound() throws ValidationException {
+		int[][] attacks = { { 2, 1 }, { 4, 3 }, { 7, 5 }, { 12, 12 } };
+		for (int[] attack : attacks) {
+			int[][] rounds = sampleFinalStates(null, attack[0], attack[1], 11);
+			int[][] resolved = sampleFinalStates(new AllOutAttackResolver(), attack[0], attack[1], 13);
+			for (int i = 0; i <= attack[0]; i++) {
+				for (int j = 0; j <= attack[1]; j++) {
+					double expected = (rounds[i][j] + resolved[i][j]) / (2.0 * NUMBER_OF_TRIALS);
+					double deviation = Math.sqrt(2 * expected * (1 - expected) / NUMBER_OF_TRIALS);
+					double difference = Math.abs(rounds[i][j] - resolved[i][j]) / (double) NUMBER_OF_TRIALS;
+					assertTrue(String.format("Final state %d/%d of %d/%d", i, j, attack[0], attack[1]),
+							difference <= TOLERANCE * deviation + 1.0 / NUMBER_OF_TRIALS);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run the same all out attack many times in a game with two players
+	 * 
+	 * @param resolver        resolver of the game, null to roll the dice round by round
+	 * @param attackingArmies number of armies in the attacking country
+	 * @param defendingArmies number of armies in the defending country
+	 * @param seed            seed of the dice of the game
+	 * @return the number of attacks that ended with each number of attacking and defending armies
+	 * @throws ValidationException
+	 */
+	private static int[][] sampleFinalStates(AllOutAttackResolver resolver, int attackingArmies, int defendingArmies,
+			long seed) throws ValidationException {
+		GameContext context = new GameContext();
+		context.setSeed(seed);
+		context.setHeadless(true);
+		context.setAllOutAttackResolver(resolver);
+
+		WorldMap worldMap = context.getWorldMap();
+		worldMap.addContinent("Asia", 1);
+		worldMap.addCountry("Iran", "Asia");
+		worldMap.addCountry("Greece", "Asia");
+		worldMap.addCountry("Armenia", "Asia");
+		worldMap.addNeighbour("Iran", "Greece");
+		worldMap.addNeighbour("Greece", "Armenia");
+
+		PlayersModel playersModel = context.getPlayersModel();
+		playersModel.addPlayer("p1", "human");
+		playersModel.addPlayer("p2", "human");
+		Object[] players = playersModel.getPlayers().toArray();
+		Player attacker = (Player) players[0];
+		Player defender = (Player) players[1];
+		Country attackingCountry = worldMap.getCountry("Iran");
+		Country defendingCountry = worldMap.getCountry("Greece");
+		attacker.addCountry(attackingCountry);
+		defender.addCountry(defendingCountry);
+		// the defender keeps a country so that it stays in the game
+		defender.addCountry(worldMap.getCountry("Armenia"));
+
+		int[][] counts = new int[attackingArmies + 1][defendingArmies + 1];
+		for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+			attackingCountry.setNumberOfArmies(attackingArmies);
+			defendingCountry.setNumberOfArmies(defendingArmies);
+			Battle battle = new Battle(context, attackingCountry, defendingCountry);
+			battle.allOutAttack();
+			counts[attackingCountry.getNumberOfArmies()][defendingCountry.getNumberOfArmies()]++;
+			if (battle.isConquered()) {
+				attacker.removeCountry(defendingCountry.getName());
+				defender.addCountry(defendingCountry);
+			}
+		}
+		return counts;
+	}
+}
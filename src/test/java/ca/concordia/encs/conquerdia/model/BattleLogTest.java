@@ -0,0 +1,63 @@
+package ca.concordia.encs.conquerdia.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Test for the {@link BattleLog} class
+ */
+public class BattleLogTest {
+
+	/**
+	 * The events must be rendered to the same messages as the ones that were formatted eagerly before
+	 */
+	@Test
+	public void testRender() {
+		BattleLog log = new BattleLog(true);
+		log.add("Player p defended with 1 dice(s).");
+		log.add(BattleEvent.roll(new int[] { 6, 3, 1 }, 2, new int[] { 4, 0 }, 1, 1, 0, "Iran", 5, "Iraq", 0));
+		log.add(BattleEvent.conquest("p", "Iran", "Iraq", 2));
+
+		assertEquals(3, log.size());
+		assertEquals("Player p defended with 1 dice(s).", log.get(0));
+		assertEquals("Attacker Rolled:  [6, 3] & Defender rolled [4]. Attacker killed: 1 & Defender killed: 0."
+				+ " Army Count: Iran (5) & Iraq (0)", log.get(1));
+		assertEquals("Congrats! p has conquered Iraq. Please move atleast 2 of your armies from Iran to the"
+				+ " conquered country Iraq.", log.get(2));
+		assertEquals(BattleEvent.Type.ROLL, log.getEvent(1).getType());
+		assertEquals(2, log.getEvent(2).getNumberOfDiceToMove());
+		assertEquals(0, log.getEvent(2).getKilledByDefender());
+	}
+
+	/**
+	 * Adding a log to another one must keep its events
+	 */
+	@Test
+	public void testAddAll() {
+		BattleLog first = new BattleLog(true);
+		BattleLog second = new BattleLog(true);
+		BattleEvent event = BattleEvent.kickedOut("p");
+		second.add(event);
+		first.addAll(second);
+		assertSame(event, first.getEvent(0));
+		assertEquals("p is kicked out from game.", first.get(0));
+	}
+
+	/**
+	 * The log of a headless game must drop everything
+	 */
+	@Test
+	public void testHeadless() {
+		GameContext context = new GameContext();
+		context.setHeadless(true);
+		BattleLog log = new BattleLog(context);
+		assertFalse(log.isEnabled());
+		log.add("message");
+		log.add(BattleEvent.noMoreArmy("p"));
+		log.addAll(new BattleLog(true));
+		assertEquals(0, log.size());
+	}
+}
@@ -14,6 +14,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
 import ca.concordia.encs.conquerdia.model.map.Country;
 import ca.concordia.encs.conquerdia.model.map.WorldMap;
 import ca.concordia.encs.conquerdia.model.player.Player;
@@ -111,7 +112,7 @@ public class BattleTest {
 	 */
 	@Test
 	public void testGetMaxDiceCountForAttacker() {
-		Battle battle = new Battle(attackingCountry, defendingCountry);
+		Battle battle = new Battle(GameContext.current(), attackingCountry, defendingCountry);
 		attackingCountry.setNumberOfArmies(1);
 		assertEquals(0, battle.getNumberOfAttackerDices());
 	}
@@ -0,0 +1,60 @@
+package ca.concordia.encs.conquerdia.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.util.RandomSource;
+
+/**
+ * Test for the {@link DiceRoller} class
+ */
+public class DiceRollerTest {
+
+	/**
+	 * The sorted dice must be in descending order and only the requested dice must be written
+	 */
+	@Test
+	public void testRollSortedDices() {
+		DiceRoller diceRoller = new DiceRoller(RandomSource.fast(7));
+		int[] dice = new int[4];
+		for (int i = 0; i < 1000; i++) {
+			dice[3] = -1;
+			diceRoller.rollSortedDices(3, dice);
+			assertTrue(dice[0] >= dice[1] && dice[1] >= dice[2]);
+			assertTrue(dice[2] >= 1 && dice[0] <= DiceRoller.NUMBER_OF_FACES);
+			assertEquals(-1, dice[3]);
+		}
+	}
+
+	/**
+	 * All the faces must be rolled about as often as each other over several batches
+	 */
+	@Test
+	public void testFacesAreUniform() {
+		DiceRoller diceRoller = new DiceRoller(RandomSource.fast(11));
+		int numberOfRolls = DiceRoller.BATCH_SIZE * 5000;
+		int[] counts = new int[DiceRoller.NUMBER_OF_FACES + 1];
+		for (int i = 0; i < numberOfRolls; i++) {
+			counts[diceRoller.rollDice()]++;
+		}
+		double expected = (double) numberOfRolls / DiceRoller.NUMBER_OF_FACES;
+		for (int face = 1; face <= DiceRoller.NUMBER_OF_FACES; face++) {
+			assertEquals(expected, counts[face], expected * 0.05);
+		}
+	}
+
+	/**
+	 * The array API must return the same dice as the buffer API for the same seed
+	 */
+	@Test
+	public void testGenerateSortedDices() {
+		DiceRoller first = new DiceRoller(RandomSource.fast(3));
+		DiceRoller second = new DiceRoller(RandomSource.fast(3));
+		int[] dice = new int[2];
+		second.rollSortedDices(2, dice);
+		assertArrayEquals(dice, first.generateSortedDices(2));
+	}
+}
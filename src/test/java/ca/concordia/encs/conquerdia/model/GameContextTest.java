@@ -0,0 +1,201 @@
+package ca.concordia.encs.conquerdia.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.controller.CommandController;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+import ca.concordia.encs.conquerdia.util.ObserverDispatcher;
+
+/**
+ * Test for the {@link GameContext} class
+ */
+public class GameContextTest {
+
+	/**
+	 * Give a new default context to the current thread after each test
+	 */
+	@After
+	public void tearDown() {
+		GameContext.bind(null);
+	}
+
+	/**
+	 * Two games must not share any model
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testGamesAreIsolated() throws ValidationException {
+		GameContext first = new GameContext();
+		GameContext second = new GameContext();
+		assertNotSame(first.getWorldMap(), second.getWorldMap());
+		assertNotSame(first.getPhaseModel(), second.getPhaseModel());
+		assertNotSame(first.getPlayersModel(), second.getPlayersModel());
+
+		first.getWorldMap().addContinent("Asia", 5);
+		first.getWorldMap().addCountry("Iran", "Asia");
+		assertEquals(1, first.getWorldMap().getCountries().size());
+		assertEquals(0, second.getWorldMap().getCountries().size());
+	}
+
+	/**
+	 * A command controller must execute the commands on its own game, whatever game is bound to the calling thread
+	 */
+	@Test
+	public void testCommandControllerUsesItsContext() {
+		GameContext game = new GameContext();
+		GameContext threadGame = GameContext.current();
+		new CommandController(game).executeCommand("editmap gamecontexttest.map");
+
+		assertEquals("gamecontexttest.map", game.getWorldMap().getFileName());
+		assertSame(threadGame, GameContext.current());
+		assertSame(threadGame.getWorldMap(), WorldMap.getInstance());
+		assertEquals(null, WorldMap.getInstance().getFileName());
+	}
+
+	/**
+	 * Two games with the same seed must roll the same dice, and every dice must be between 1 and 6
+	 */
+	@Test
+	public void testSeed() {
+		GameContext first = new GameContext();
+		GameContext second = new GameContext();
+		first.setSeed(2019);
+		second.setSeed(2019);
+		for (int i = 0; i < 100; i++) {
+			int dice = first.getDiceRoller().rollDice();
+			assertEquals(dice, second.getDiceRoller().rollDice());
+			assertTrue(dice >= 1 && dice <= DiceRoller.NUMBER_OF_FACES);
+		}
+	}
+
+	/**
+	 * The notifications of a state model fired while a view is busy must be merged into one update on the thread of
+	 * the dispatcher
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testObserverDispatcher() throws InterruptedException {
+		GameContext game = new GameContext();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger updates = new AtomicInteger();
+		AtomicReference<Thread> viewThread = new AtomicReference<>();
+		try (ObserverDispatcher dispatcher = new ObserverDispatcher()) {
+			game.setObserverDispatcher(dispatcher);
+			game.getPlayersModel().addObserver((o, arg) -> {
+				viewThread.set(Thread.currentThread());
+				updates.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			game.getPlayersModel().update();
+			started.await();
+			for (int i = 0; i < 5; i++) {
+				game.getPlayersModel().update();
+			}
+			release.countDown();
+			dispatcher.flush();
+			assertEquals(2, updates.get());
+			assertNotSame(Thread.currentThread(), viewThread.get());
+		}
+	}
+
+	/**
+	 * An observer that fails must not stop the other notifications, and its exception must be thrown by the next
+	 * flush
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testObserverFailure() throws InterruptedException {
+		GameContext game = new GameContext();
+		List<Object> updates = new ArrayList<>();
+		try (ObserverDispatcher dispatcher = new ObserverDispatcher()) {
+			game.setObserverDispatcher(dispatcher);
+			game.getPlayersModel().addObserver((o, arg) -> {
+				throw new IllegalArgumentException("broken view");
+			});
+			game.getCommandResultModel().addObserver((o, arg) -> updates.add(arg));
+			game.getPlayersModel().update();
+			game.getCommandResultModel().addResult("result");
+			try {
+				dispatcher.flush();
+				fail();
+			} catch (IllegalStateException e) {
+				assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+			assertEquals(1, updates.size());
+			dispatcher.flush();
+		}
+	}
+
+	/**
+	 * A view that is called on the thread of the dispatcher must read the state taken when the model is notified, even
+	 * when the game changes the model in the middle of the update
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testModelChangedWhileDelivering() throws InterruptedException {
+		GameContext game = new GameContext();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<List<Object>> updates = new ArrayList<>();
+		AtomicReference<RuntimeException> error = new AtomicReference<>();
+		try (ObserverDispatcher dispatcher = new ObserverDispatcher()) {
+			game.setObserverDispatcher(dispatcher);
+			game.getCommandResultModel().addObserver((o, arg) -> {
+				try {
+					List<Object> results = new ArrayList<>();
+					Iterator<?> iterator = ((List<?>) arg).iterator();
+					results.add(iterator.next());
+					started.countDown();
+					release.await();
+					while (iterator.hasNext()) {
+						results.add(iterator.next());
+					}
+					updates.add(results);
+				} catch (RuntimeException e) {
+					error.set(e);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			game.getCommandResultModel().addResultList(Arrays.asList("first", "second"));
+			started.await();
+			game.getCommandResultModel().addResult("third");
+			game.getCommandResultModel().clear();
+			game.getCommandResultModel().addResult("fourth");
+			release.countDown();
+			dispatcher.flush();
+			assertNull(error.get());
+			assertEquals(3, updates.size());
+			assertEquals(Arrays.asList("first", "second"), updates.get(0));
+			assertEquals(Arrays.asList("first", "second", "third"), updates.get(1));
+			assertEquals(Arrays.asList("fourth"), updates.get(2));
+		}
+	}
+}
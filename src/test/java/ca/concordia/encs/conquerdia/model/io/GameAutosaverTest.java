@@ -0,0 +1,143 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.controller.ComputerTurnDriver;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+
+/**
+ * Test for the {@link GameAutosaver} class
+ */
+public class GameAutosaverTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "autosavertest";
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * A game of computer players must be saved to a rolling set of snapshots that can be loaded
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRollingSnapshots() throws Exception {
+		Path folder = Files.createTempDirectory("autosave");
+		try (GameAutosaver autosaver = new GameAutosaver(folder.resolve("game").toString(), 2)) {
+			GameContext context = new GameContext();
+			context.setSeed(3);
+			context.setHeadless(true);
+			context.setAutosaver(autosaver);
+			GameContext previous = GameContext.bind(context);
+			try {
+				context.getPhaseModel().setMaxNumberOfTurns(6);
+				context.getWorldMap().loadMap(MAP);
+				context.getPhaseModel().changePhase();
+				context.getPlayersModel().addPlayer("aggressive", "aggressive");
+				context.getPlayersModel().addPlayer("benevolent", "benevolent");
+				context.getPhaseModel().populateCountries();
+			} finally {
+				GameContext.bind(previous);
+			}
+			new ComputerTurnDriver(context).play();
+			autosaver.flush();
+			assertNotNull(autosaver.getLastSnapshotFileName());
+			// the snapshots of a fast game may be merged, so save twice more to fill the rolling set
+			for (int i = 0; i < 2; i++) {
+				autosaver.turnStarted(context);
+				autosaver.flush();
+			}
+
+			assertTrue(Files.exists(Paths.get(autosaver.getSnapshotFileName(1) + GameSnapshot.FILE_EXTENSION)));
+			assertTrue(Files.exists(Paths.get(autosaver.getSnapshotFileName(2) + GameSnapshot.FILE_EXTENSION)));
+			assertFalse(Files.exists(Paths.get(autosaver.getSnapshotFileName(3) + GameSnapshot.FILE_EXTENSION)));
+
+			GameContext loaded = new GameContext();
+			GameSnapshot.read(Paths.get(autosaver.getLastSnapshotFileName() + GameSnapshot.FILE_EXTENSION))
+					.restore(loaded);
+			assertEquals(2, loaded.getPlayersModel().getPlayers().size());
+			assertEquals(context.getWorldMap().getNumberOfCountries(),
+					loaded.getPlayersModel().getPlayers().stream().mapToInt(player -> player.getNumberOfCountries())
+							.sum());
+		} finally {
+			try (Stream<Path> files = Files.list(folder)) {
+				files.forEach(file -> file.toFile().delete());
+			}
+			Files.delete(folder);
+		}
+	}
+
+	/**
+	 * A snapshot that cannot be written must be kept as the last error and reported at the start of the next turn
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWriteError() throws Exception {
+		Path folder = Files.createTempDirectory("autosave");
+		Files.delete(folder);
+		try (GameAutosaver autosaver = new GameAutosaver(folder.resolve("game").toString(), 2)) {
+			GameContext context = new GameContext();
+			context.getWorldMap().loadMap(MAP);
+			autosaver.turnStarted(context);
+			autosaver.flush();
+			assertNotNull(autosaver.getLastError());
+			assertNull(autosaver.getLastSnapshotFileName());
+
+			context.getCommandResultModel().clear();
+			autosaver.turnStarted(context);
+			assertEquals(1, context.getCommandResultModel().getResultList().size());
+			assertTrue(context.getCommandResultModel().getResultList().get(0)
+					.startsWith("The game cannot be saved automatically"));
+
+			Files.createDirectory(folder);
+			autosaver.flush();
+			autosaver.turnStarted(context);
+			autosaver.flush();
+			assertNull(autosaver.getLastError());
+		} finally {
+			if (Files.exists(folder)) {
+				try (Stream<Path> files = Files.list(folder)) {
+					files.forEach(file -> file.toFile().delete());
+				}
+				Files.delete(folder);
+			}
+		}
+	}
+}
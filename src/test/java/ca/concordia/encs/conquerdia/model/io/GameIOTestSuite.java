@@ -0,0 +1,18 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+
+@Suite.SuiteClasses({
+		GameSnapshotTest.class,
+		GameAutosaverTest.class,
+		GameJournalTest.class
+})
+/**
+ * Test Suite Class of the game io classes
+ */
+public class GameIOTestSuite {
+
+}
@@ -0,0 +1,231 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.controller.ComputerTurnDriver;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.player.Player;
+
+/**
+ * Test for the {@link GameJournal} class
+ */
+public class GameJournalTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "journaltest";
+
+	/**
+	 * The folder of the journal of a test
+	 */
+	private Path folder;
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * Create the folder of the journal of a test
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void before() throws IOException {
+		folder = Files.createTempDirectory("journal");
+	}
+
+	/**
+	 * Delete the folder of the journal of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void after() throws IOException {
+		try (Stream<Path> files = Files.list(folder)) {
+			files.forEach(file -> file.toFile().delete());
+		}
+		Files.delete(folder);
+	}
+
+	/**
+	 * Play a game of computer players with a journal
+	 *
+	 * @param fileName              base name of the journal files
+	 * @param turnsBetweenSnapshots number of turns between two snapshots
+	 * @return the game
+	 * @throws Exception
+	 */
+	private GameContext play(String fileName, int turnsBetweenSnapshots) throws Exception {
+		GameContext context = new GameContext();
+		try (GameJournal journal = new GameJournal(fileName, turnsBetweenSnapshots)) {
+			context.setSeed(9);
+			context.setHeadless(true);
+			context.setJournal(journal);
+			GameContext previous = GameContext.bind(context);
+			try {
+				context.getPhaseModel().setMaxNumberOfTurns(8);
+				context.getWorldMap().loadMap(MAP);
+				context.getPhaseModel().changePhase();
+				context.getPlayersModel().addPlayer("aggressive", "aggressive");
+				context.getPlayersModel().addPlayer("random", "random");
+				context.getPlayersModel().addPlayer("benevolent", "benevolent");
+				context.getPhaseModel().populateCountries();
+				context.journal(GameJournal.RecordType.SETUP);
+			} finally {
+				GameContext.bind(previous);
+			}
+			new ComputerTurnDriver(context).play();
+			journal.flush();
+		}
+		return context;
+	}
+
+	/**
+	 * @param expected the game that is played
+	 * @param actual   the game that is loaded
+	 */
+	private void assertSameGame(GameContext expected, GameContext actual) {
+		for (Country country : expected.getWorldMap().getCountries()) {
+			Country loadedCountry = actual.getWorldMap().getCountry(country.getName());
+			assertEquals(country.getName(), country.getNumberOfArmies(), loadedCountry.getNumberOfArmies());
+			assertEquals(country.getName(), country.getOwner().getName(), loadedCountry.getOwner().getName());
+		}
+		List<Player> expectedPlayers = new ArrayList<>(expected.getPlayersModel().getPlayers());
+		List<Player> actualPlayers = new ArrayList<>(actual.getPlayersModel().getPlayers());
+		assertEquals(expectedPlayers.size(), actualPlayers.size());
+		for (int i = 0; i < expectedPlayers.size(); i++) {
+			assertEquals(expectedPlayers.get(i).getName(), actualPlayers.get(i).getName());
+			assertEquals(expectedPlayers.get(i).getUnplacedArmies(), actualPlayers.get(i).getUnplacedArmies());
+			assertEquals(expectedPlayers.get(i).getTotalNumberOfArmies(),
+					actualPlayers.get(i).getTotalNumberOfArmies());
+			assertEquals(expectedPlayers.get(i).getCards(), actualPlayers.get(i).getCards());
+		}
+		assertEquals(expected.getPhaseModel().getCurrentPhase(), actual.getPhaseModel().getCurrentPhase());
+		assertEquals(expected.getPlayersModel().getNumberOfTurns(), actual.getPlayersModel().getNumberOfTurns());
+		assertEquals(expected.getPlayersModel().getNumberOfArmiesForExchangeCard(),
+				actual.getPlayersModel().getNumberOfArmiesForExchangeCard());
+	}
+
+	/**
+	 * The snapshot and the records that follow it must give the state at the end of the game
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReplay() throws Exception {
+		String fileName = folder.resolve("game").toString();
+		GameContext played = play(fileName, 1000);
+		GameContext loaded = new GameContext();
+		assertTrue(GameJournal.load(fileName, loaded) > 0);
+		assertSameGame(played, loaded);
+	}
+
+	/**
+	 * The periodic snapshots must give the same state as the replay of all the records
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPeriodicSnapshots() throws Exception {
+		String fileName = folder.resolve("game").toString();
+		GameContext played = play(fileName, 2);
+		GameContext loaded = new GameContext();
+		GameJournal.load(fileName, loaded);
+		assertSameGame(played, loaded);
+	}
+
+	/**
+	 * A record that is cut by a crash must be dropped with the records after it
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCutRecord() throws Exception {
+		String fileName = folder.resolve("game").toString();
+		play(fileName, 1000);
+		int numberOfRecords = GameJournal.load(fileName, new GameContext());
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName + GameJournal.FILE_EXTENSION),
+				StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+		assertEquals(numberOfRecords - 1, GameJournal.load(fileName, new GameContext()));
+	}
+
+	/**
+	 * A snapshot that cannot be written must stop the records until the error is reported at the start of the next
+	 * turn, then the journal must start again from a new snapshot
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWriteError() throws Exception {
+		String fileName = folder.resolve("game").toString();
+		Path snapshotPath = Paths.get(fileName + GameSnapshot.FILE_EXTENSION);
+		// the temporary snapshot file cannot be written over a folder
+		Path blockedPath = Files.createDirectory(Paths.get(fileName + GameSnapshot.FILE_EXTENSION + ".tmp"));
+		try (GameJournal journal = new GameJournal(fileName, 1000)) {
+			GameContext context = new GameContext();
+			context.getWorldMap().loadMap(MAP);
+			journal.record(GameJournal.RecordType.SETUP, context);
+			journal.flush();
+			assertNotNull(journal.getLastError());
+			assertFalse(Files.exists(snapshotPath));
+
+			Files.delete(blockedPath);
+			journal.record(GameJournal.RecordType.SETUP, context);
+			journal.flush();
+			assertFalse(Files.exists(snapshotPath));
+
+			context.getCommandResultModel().clear();
+			journal.turnStarted(context);
+			assertEquals(1, context.getCommandResultModel().getResultList().size());
+			assertTrue(context.getCommandResultModel().getResultList().get(0)
+					.startsWith("The game cannot be journaled"));
+			journal.record(GameJournal.RecordType.SETUP, context);
+			journal.flush();
+			assertNull(journal.getLastError());
+			assertTrue(Files.exists(snapshotPath));
+		}
+		GameJournal.load(fileName, new GameContext());
+	}
+}
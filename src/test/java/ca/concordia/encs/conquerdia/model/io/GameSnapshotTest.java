@@ -0,0 +1,216 @@
+package ca.concordia.encs.conquerdia.model.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.CardType;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.PhaseModel.PhaseTypes;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.player.Player;
+
+/**
+ * Test for the {@link GameSnapshot} class
+ */
+public class GameSnapshotTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "snapshottest";
+
+	/**
+	 * The snapshot file of a test
+	 */
+	private Path snapshotPath;
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * Create the snapshot file of a test
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void before() throws IOException {
+		snapshotPath = Files.createTempFile("game", GameSnapshot.FILE_EXTENSION);
+	}
+
+	/**
+	 * Delete the snapshot file of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void after() throws IOException {
+		Files.deleteIfExists(snapshotPath);
+	}
+
+	/**
+	 * @return a game whose countries are given to three players
+	 * @throws ValidationException
+	 */
+	private GameContext startGame() throws ValidationException {
+		GameContext context = new GameContext();
+		context.setSeed(5);
+		GameContext previous = GameContext.bind(context);
+		try {
+			context.getWorldMap().loadMap(MAP);
+			context.getPhaseModel().changePhase();
+			context.getPlayersModel().addPlayer("p1", "aggressive");
+			context.getPlayersModel().addPlayer("p2", "benevolent");
+			context.getPlayersModel().addPlayer("p3", "human");
+			context.getPhaseModel().populateCountries();
+		} finally {
+			GameContext.bind(previous);
+		}
+		int armies = 1;
+		for (Country country : context.getWorldMap().getCountries()) {
+			country.placeArmy(armies++);
+		}
+		context.getPlayersModel().giveTurnToAnotherPlayer();
+		context.getPlayersModel().giveTurnToAnotherPlayer();
+		context.getPlayersModel().nextNumberOfArmiesForExchangeCard();
+		context.getPlayersModel().nextNumberOfArmiesForExchangeCard();
+		context.getPlayersModel().getCurrentPlayer().getCards().add(CardType.CAVALRY);
+		context.getPlayersModel().getCurrentPlayer().getCards().add(CardType.ARTILLERY);
+		return context;
+	}
+
+	/**
+	 * A restored game must have the countries, the players and the phase of the saved game
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testWriteAndRestore() throws ValidationException {
+		GameContext saved = startGame();
+		GameSnapshot.capture(saved).write(snapshotPath);
+
+		GameContext loaded = new GameContext();
+		GameSnapshot snapshot = GameSnapshot.read(snapshotPath);
+		assertEquals(MAP, snapshot.getMapFileName());
+		assertEquals(GameSnapshot.fingerprint(saved.getWorldMap()), snapshot.getMapFingerprint());
+		snapshot.restore(loaded);
+
+		for (Country country : saved.getWorldMap().getCountries()) {
+			Country loadedCountry = loaded.getWorldMap().getCountry(country.getName());
+			assertEquals(country.getNumberOfArmies(), loadedCountry.getNumberOfArmies());
+			assertEquals(country.getOwner().getName(), loadedCountry.getOwner().getName());
+		}
+		List<Player> savedPlayers = new ArrayList<>(saved.getPlayersModel().getPlayers());
+		List<Player> loadedPlayers = new ArrayList<>(loaded.getPlayersModel().getPlayers());
+		assertEquals(savedPlayers.size(), loadedPlayers.size());
+		for (int i = 0; i < savedPlayers.size(); i++) {
+			Player savedPlayer = savedPlayers.get(i);
+			Player loadedPlayer = loadedPlayers.get(i);
+			assertEquals(savedPlayer.getName(), loadedPlayer.getName());
+			assertEquals(savedPlayer.getStrategy(), loadedPlayer.getStrategy());
+			assertEquals(savedPlayer.getUnplacedArmies(), loadedPlayer.getUnplacedArmies());
+			assertEquals(savedPlayer.getTotalNumberOfArmies(), loadedPlayer.getTotalNumberOfArmies());
+			assertEquals(savedPlayer.getCountryNames(), loadedPlayer.getCountryNames());
+			assertEquals(savedPlayer.getCards(), loadedPlayer.getCards());
+		}
+		assertNotNull(loaded.getPlayersModel().getFirstPlayer());
+		assertEquals(saved.getPlayersModel().getFirstPlayer().getName(),
+				loaded.getPlayersModel().getFirstPlayer().getName());
+		assertSame(PhaseTypes.START_UP, loaded.getPhaseModel().getCurrentPhase());
+		assertEquals(saved.getPhaseModel().getNumberOfInitialArmies(),
+				loaded.getPhaseModel().getNumberOfInitialArmies());
+		assertEquals(saved.getPhaseModel().isAllCountriesArePopulated(),
+				loaded.getPhaseModel().isAllCountriesArePopulated());
+		assertEquals(saved.getPlayersModel().getNumberOfTurns(), loaded.getPlayersModel().getNumberOfTurns());
+		assertEquals(10, loaded.getPlayersModel().getNumberOfArmiesForExchangeCard());
+		assertEquals(15, loaded.getPlayersModel().nextNumberOfArmiesForExchangeCard());
+	}
+
+	/**
+	 * A game with a country whose armies do not fit in a snapshot must be rejected instead of saved corrupted
+	 *
+	 * @throws ValidationException
+	 */
+	@Test(expected = ValidationException.class)
+	public void testTooManyArmies() throws ValidationException {
+		GameContext saved = startGame();
+		saved.getWorldMap().getCountries().iterator().next().placeArmy(GameSnapshot.MAX_ARMIES);
+		GameSnapshot.capture(saved);
+	}
+
+	/**
+	 * A snapshot must be restored from the map that it stores, even when the map file is gone
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@Test
+	public void testRestoreWithoutMapFile() throws ValidationException, IOException {
+		GameContext saved = startGame();
+		GameSnapshot.capture(saved).write(snapshotPath);
+		TestMaps.deleteMap(MAP);
+		try {
+			GameContext loaded = new GameContext();
+			GameSnapshot.read(snapshotPath).restore(loaded);
+			assertTrue(loaded.getWorldMap().isMapLoaded());
+			assertEquals(MAP, loaded.getWorldMap().getFileName());
+			assertEquals(saved.getWorldMap().getContinents().size(), loaded.getWorldMap().getContinents().size());
+			for (Country country : saved.getWorldMap().getCountries()) {
+				Country loadedCountry = loaded.getWorldMap().getCountry(country.getName());
+				assertEquals(country.getAdjacentCountriesName(), loadedCountry.getAdjacentCountriesName());
+				assertEquals(country.getContinent().getName(), loadedCountry.getContinent().getName());
+			}
+		} finally {
+			TestMaps.writeSmallMap(MAP, false);
+		}
+	}
+
+	/**
+	 * A snapshot file that is cut must be rejected
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@Test(expected = ValidationException.class)
+	public void testDamagedSnapshot() throws ValidationException, IOException {
+		GameSnapshot.capture(startGame()).write(snapshotPath);
+		try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 5);
+		}
+		GameSnapshot.read(snapshotPath);
+	}
+}
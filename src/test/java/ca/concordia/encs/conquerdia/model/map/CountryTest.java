@@ -5,8 +5,13 @@ import ca.concordia.encs.conquerdia.model.map.Country;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
 
 /**
  * This class is design to test all different functionality of {@link Country}
@@ -73,4 +78,21 @@ public class CountryTest {
 		assertSame(country.getContinent(), testContinent);
 	}
 
+	/**
+	 * This test case is designed to check that {@link Country#getAdjacentCountries()} is an unmodifiable view that
+	 * follows the changes of the borders.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void adjacentCountriesViewTestCase() {
+		Set<Country> adjacentCountries = country.getAdjacentCountries();
+		country.addNeighbour(country1);
+		country.addNeighbour(country2);
+		assertSame(adjacentCountries, country.getAdjacentCountries());
+		assertEquals(2, adjacentCountries.size());
+		assertTrue(adjacentCountries.contains(country1));
+		assertFalse(adjacentCountries.contains(country3));
+		country.removeNeighbour(country1.getName());
+		assertFalse(adjacentCountries.contains(country1));
+		adjacentCountries.remove(country2);
+	}
 }
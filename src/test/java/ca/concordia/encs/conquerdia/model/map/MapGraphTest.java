@@ -0,0 +1,106 @@
+package ca.concordia.encs.conquerdia.model.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+
+/**
+ * This class tests the graph algorithms of {@link MapGraph}.
+ */
+public class MapGraphTest {
+
+	/**
+	 * Worldmap
+	 */
+	private WorldMap worldMap;
+
+	/**
+	 * Builds a map where Europe is only connected through Asia: France - Italy and England - Iran - Japan - France
+	 *
+	 * @throws ValidationException
+	 */
+	@Before
+	public void setUp() throws ValidationException {
+		worldMap = new WorldMap();
+		worldMap.addContinent("Europe", 5);
+		worldMap.addContinent("Asia", 7);
+		worldMap.addCountry("France", "Europe");
+		worldMap.addCountry("Italy", "Europe");
+		worldMap.addCountry("England", "Europe");
+		worldMap.addCountry("Iran", "Asia");
+		worldMap.addCountry("Japan", "Asia");
+		worldMap.addNeighbour("France", "Italy");
+		worldMap.addNeighbour("England", "Iran");
+		worldMap.addNeighbour("Iran", "Japan");
+		worldMap.addNeighbour("Japan", "France");
+	}
+
+	/**
+	 * The graph must have one id per country and keep the borders
+	 */
+	@Test
+	public void testCompile() {
+		MapGraph graph = worldMap.getGraph();
+		assertEquals(5, graph.getNumberOfCountries());
+		assertEquals(-1, graph.getId("Canada"));
+		int iran = graph.getId("Iran");
+		assertEquals("Iran", graph.getCountry(iran).getName());
+		assertEquals(2, graph.getLastNeighbourIndex(iran) - graph.getFirstNeighbourIndex(iran));
+	}
+
+	/**
+	 * The graph must be compiled again after the borders change
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testGraphIsRecompiledAfterChange() throws ValidationException {
+		MapGraph graph = worldMap.getGraph();
+		assertSame(graph, worldMap.getGraph());
+		worldMap.removeNeighbour("Japan", "France");
+		MapGraph newGraph = worldMap.getGraph();
+		assertNotSame(graph, newGraph);
+		int france = newGraph.getId("France");
+		assertEquals(1, newGraph.getLastNeighbourIndex(france) - newGraph.getFirstNeighbourIndex(france));
+		assertFalse(newGraph.isTherePath(france, newGraph.getId("Iran"), id -> true));
+	}
+
+	/**
+	 * A continent that is only connected through another continent is still a connected subgraph, like Europe in
+	 * the sample tiny.map, but not when the other continent is cut off
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testContinentConnectivity() throws ValidationException {
+		assertTrue(worldMap.checkAllMapValidationRules());
+
+		worldMap.addCountry("Spain", "Europe");
+		worldMap.addNeighbour("Spain", "France");
+		assertTrue(worldMap.checkAllMapValidationRules());
+
+		worldMap.removeNeighbour("Iran", "Japan");
+		assertFalse(worldMap.checkAllMapValidationRules());
+		assertTrue(worldMap.validateMap().contains("continents"));
+	}
+
+	/**
+	 * A path must only pass through the allowed countries
+	 */
+	@Test
+	public void testIsTherePath() {
+		MapGraph graph = worldMap.getGraph();
+		int england = graph.getId("England");
+		int italy = graph.getId("Italy");
+		int japan = graph.getId("Japan");
+		assertTrue(graph.isTherePath(england, italy, id -> true));
+		assertFalse(graph.isTherePath(england, italy, id -> id != japan));
+	}
+}
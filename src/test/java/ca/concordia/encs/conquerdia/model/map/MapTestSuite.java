@@ -8,7 +8,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	CountryTest.class,
 	MapFormattorTest.class,
-	MapValidationTest.class
+	MapValidationTest.class,
+	MapGraphTest.class
 })
 /**
  * Test Suite for Map and Country Test classes
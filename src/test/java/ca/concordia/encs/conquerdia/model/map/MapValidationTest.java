@@ -1,9 +1,15 @@
 package ca.concordia.encs.conquerdia.model.map;
 
+import ca.concordia.encs.conquerdia.TestMaps;
 import ca.concordia.encs.conquerdia.exception.ValidationException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -21,6 +27,7 @@ public class MapValidationTest {
 	 */
 	@Before
 	public void setUp() throws ValidationException {
+		WorldMap.clear();
 		worldMap = WorldMap.getInstance();
 
 		// CONTINENTS
@@ -50,4 +57,62 @@ public class MapValidationTest {
 	public void checkAllMapValidationRulesTestCase() {
 		assertTrue(worldMap.checkAllMapValidationRules());
 	}
+
+	/**
+	 * The validation must follow the borders that are removed and added while the map is edited
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void validationAfterEditTestCase() throws ValidationException {
+		worldMap.removeNeighbour("Greece", "Turkey");
+		assertFalse(worldMap.checkAllMapValidationRules());
+		worldMap.addNeighbour("Greece", "Armenia");
+		assertTrue(worldMap.checkAllMapValidationRules());
+		worldMap.removeCountry("Iran");
+		assertFalse(worldMap.checkAllMapValidationRules());
+		worldMap.addNeighbour("Armenia", "SaudiArabia");
+		assertTrue(worldMap.checkAllMapValidationRules());
+	}
+
+	/**
+	 * A long chain of countries must be validated without running out of stack
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void longChainValidationTestCase() throws ValidationException {
+		String previous = "Greece";
+		for (int i = 0; i < 50000; i++) {
+			String country = "Europe" + i;
+			worldMap.addCountry(country, "Europe");
+			worldMap.addNeighbour(previous, country);
+			previous = country;
+		}
+		assertTrue(worldMap.checkAllMapValidationRules());
+		worldMap.removeNeighbour("Europe0", "Europe1");
+		assertFalse(worldMap.checkAllMapValidationRules());
+	}
+
+	/**
+	 * A map without any country must not be valid, and an empty map file must not be loaded
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void emptyMapValidationTestCase() throws IOException {
+		WorldMap.clear();
+		worldMap = WorldMap.getInstance();
+		assertFalse(worldMap.checkAllMapValidationRules());
+
+		String mapName = "emptymaptest";
+		Path mapPath = TestMaps.getMapPath(mapName);
+		Files.write(mapPath, new byte[0]);
+		try {
+			worldMap.loadMap(mapName);
+			assertFalse(worldMap.isMapLoaded());
+		} finally {
+			TestMaps.deleteMap(mapName);
+		}
+	}
 }
@@ -0,0 +1,130 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * Test for the {@link BinaryMapFile} class
+ */
+public class BinaryMapFileTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "binarymaptest";
+
+	/**
+	 * Absolute path to the map file
+	 */
+	private final Path mapFullPath = TestMaps.getMapPath(MAP);
+
+	/**
+	 * Absolute path to the compiled map file
+	 */
+	private final Path binaryPath = BinaryMapFile.getPath(MAP);
+
+	/**
+	 * Save a small map with its compiled map
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@Before
+	public void setup() throws ValidationException, IOException {
+		end();
+		TestMaps.writeSmallMap(MAP, true);
+	}
+
+	/**
+	 * Delete the files of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(mapFullPath);
+		Files.deleteIfExists(binaryPath);
+		MapTopologyCache.getShared().clear();
+	}
+
+	/**
+	 * The compiled map has the topology of the map file and the result of its validation
+	 *
+	 * @throws IOException
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testReadCompiledMap() throws IOException, ValidationException {
+		assertTrue(Files.exists(binaryPath));
+		MapTopology topology = BinaryMapFile.read(binaryPath, MapTopologyCache.hash(Files.readAllBytes(mapFullPath)));
+		assertNotNull(topology);
+		assertTrue(topology.isValid());
+		assertEquals(2, topology.getNumberOfContinents());
+		assertEquals(TestMaps.NUMBER_OF_COUNTRIES, topology.getNumberOfCountries());
+		assertEquals(TestMaps.NUMBER_OF_BORDERS, topology.getNumberOfBorders());
+		MapTopologyCache.getShared().clear();
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.loadMap(MAP);
+		assertTrue(worldMap.isMapLoaded());
+		assertTrue(worldMap.getCountry("Country0").isAdjacentTo("Country7"));
+	}
+
+	/**
+	 * A compiled map of another content of the map file is not used, and it is compiled again when the map is loaded
+	 *
+	 * @throws IOException
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testOutOfDate() throws IOException, ValidationException {
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.editMap(MAP);
+		worldMap.addCountry("Country8", "South");
+		worldMap.addNeighbour("Country8", "Country7");
+		worldMap.saveMap(MAP);
+		byte[] hash = MapTopologyCache.hash(Files.readAllBytes(mapFullPath));
+		assertNull(BinaryMapFile.read(binaryPath, hash));
+		MapTopologyCache.getShared().clear();
+		new GameContext().getWorldMap().loadMap(MAP);
+		MapTopology topology = BinaryMapFile.read(binaryPath, hash);
+		assertNotNull(topology);
+		assertEquals(TestMaps.NUMBER_OF_COUNTRIES + 1, topology.getNumberOfCountries());
+	}
+
+	/**
+	 * A damaged compiled map is rejected, and the map file is parsed instead
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testDamagedCompiledMap() throws IOException {
+		byte[] content = Files.readAllBytes(binaryPath);
+		content[content.length / 2] ^= 0x55;
+		Files.write(binaryPath, content);
+		try {
+			BinaryMapFile.read(binaryPath, MapTopologyCache.hash(Files.readAllBytes(mapFullPath)));
+			assertTrue(false);
+		} catch (ValidationException e) {
+			assertTrue(e.getMessage().endsWith("is damaged."));
+		}
+		MapTopologyCache.getShared().clear();
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.loadMap(MAP);
+		assertTrue(worldMap.isMapLoaded());
+		assertEquals(TestMaps.NUMBER_OF_COUNTRIES, worldMap.getNumberOfCountries());
+	}
+}
@@ -0,0 +1,57 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * Loads every map bundled with the game
+ */
+public class BundledMapsTest {
+	/**
+	 * Every bundled map is a valid map
+	 *
+	 * @throws IOException
+	 * @throws URISyntaxException
+	 */
+	@Test
+	public void testLoadBundledMaps() throws IOException, URISyntaxException {
+		URL folder = getClass().getResource("/" + MapIO.MAPS_FOLDER);
+		assumeNotNull(folder);
+		int numberOfMaps = 0;
+		try (DirectoryStream<Path> maps = Files.newDirectoryStream(Paths.get(folder.toURI()), "*.map")) {
+			for (Path map : maps) {
+				String name = FileHelper.getFileNameWithoutExtension(map.getFileName().toString());
+				Path mapFullPath = Paths.get(MapIO.MAPS_FOLDER_PATH + map.getFileName());
+				boolean copied = !Files.exists(mapFullPath);
+				if (copied) {
+					Files.copy(map, mapFullPath);
+				}
+				try {
+					WorldMap worldMap = new GameContext().getWorldMap();
+					String message = worldMap.loadMap(name);
+					assertTrue(name + ": " + message, worldMap.isMapLoaded());
+				} finally {
+					if (copied) {
+						Files.delete(mapFullPath);
+					}
+				}
+				numberOfMaps++;
+			}
+		}
+		assertFalse(numberOfMaps == 0);
+	}
+}
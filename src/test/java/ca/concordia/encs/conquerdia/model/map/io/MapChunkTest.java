@@ -0,0 +1,163 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * Test for the map files that are read in parallel {@link MapChunk}s
+ */
+public class MapChunkTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "chunktest";
+
+	/**
+	 * Number of countries of the maps, enough to split their sections in chunks
+	 */
+	private static final int NUMBER_OF_COUNTRIES = 100000;
+
+	/**
+	 * Absolute path to the map file
+	 */
+	private final Path mapFullPath = Paths.get(MapIO.getMapFilePath(MAP));
+
+	/**
+	 * Delete the map of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(mapFullPath);
+	}
+
+	/**
+	 * Write a Domination map where every country is a neighbour of the next one
+	 *
+	 * @param badLine number of a line of the borders section to break, 0 for none
+	 * @throws IOException
+	 */
+	private void writeDominationMap(int badLine) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(mapFullPath)) {
+			writer.write("[continents]\nWest 5\nEast 5\n\n[countries]\n");
+			for (int i = 1; i <= NUMBER_OF_COUNTRIES; i++) {
+				writer.write(i + " Territory_" + i + " " + (i <= NUMBER_OF_COUNTRIES / 2 ? 1 : 2) + " 0 0\n");
+			}
+			writer.write("\n[borders]\n");
+			for (int i = 1; i <= NUMBER_OF_COUNTRIES; i++) {
+				writer.write(i + " " + (i % NUMBER_OF_COUNTRIES + 1) + (i == badLine ? " x" : "") + " "
+						+ ((i + NUMBER_OF_COUNTRIES - 2) % NUMBER_OF_COUNTRIES + 1) + "\n");
+			}
+		}
+	}
+
+	/**
+	 * The countries keep the order of the file and every border is kept once
+	 *
+	 * @throws IOException
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testDominationMap() throws IOException, ValidationException {
+		writeDominationMap(0);
+		assertTrue(Files.size(mapFullPath) >= 2 * MapChunk.PARALLEL_MIN_SIZE);
+		MapTopology topology = MapReader.parseTopology(MAP);
+		assertEquals(NUMBER_OF_COUNTRIES, topology.getNumberOfCountries());
+		assertEquals(NUMBER_OF_COUNTRIES, topology.getNumberOfBorders());
+		assertEquals("Territory_1", topology.getCountryNames()[0]);
+		assertEquals("Territory_" + NUMBER_OF_COUNTRIES, topology.getCountryNames()[NUMBER_OF_COUNTRIES - 1]);
+		assertTrue(topology.isValid());
+		WorldMap worldMap = new GameContext().getWorldMap();
+		topology.copyTo(worldMap);
+		Country country = worldMap.getCountry("Territory_77777");
+		assertEquals("East", country.getContinent().getName());
+		assertTrue(country.isAdjacentTo("Territory_77778"));
+		assertTrue(country.isAdjacentTo("Territory_77776"));
+	}
+
+	/**
+	 * The error is the one of the first bad line, with its number in the file
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testDominationError() throws IOException {
+		writeDominationMap(76543);
+		try {
+			MapReader.parseTopology(MAP);
+			assertTrue(false);
+		} catch (IllegalStateException e) {
+			int lineNumber = 5 + NUMBER_OF_COUNTRIES + 2 + 76543;
+			assertEquals("Line " + lineNumber + ": Invalid number in the map file.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Write a Conquest map where every territory is a neighbour of the next one
+	 *
+	 * @param badLine number of a territory with an unknown continent, 0 for none
+	 * @throws IOException
+	 */
+	private void writeConquestMap(int badLine) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(mapFullPath)) {
+			writer.write("[Map]\nauthor=test\n\n[Continents]\nWest=5\nEast=5\n\n[Territories]\n");
+			for (int i = 1; i <= NUMBER_OF_COUNTRIES; i++) {
+				String continent = i == badLine ? "North" : i <= NUMBER_OF_COUNTRIES / 2 ? "West" : "East";
+				writer.write("territory " + i + ",0,0," + continent + ",territory " + (i % NUMBER_OF_COUNTRIES + 1)
+						+ ",territory " + ((i + NUMBER_OF_COUNTRIES - 2) % NUMBER_OF_COUNTRIES + 1) + "\n");
+				if (i % 1000 == 0) {
+					writer.write("\n");
+				}
+			}
+		}
+	}
+
+	/**
+	 * The territories keep the order of the file and every border given by both territories is kept once
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testConquestMap() throws IOException {
+		writeConquestMap(0);
+		assertTrue(Files.size(mapFullPath) >= 2 * MapChunk.PARALLEL_MIN_SIZE);
+		MapTopology topology = ConquestMapReader.parseTopology(MAP);
+		assertEquals(NUMBER_OF_COUNTRIES, topology.getNumberOfCountries());
+		assertEquals(NUMBER_OF_COUNTRIES, topology.getNumberOfBorders());
+		assertEquals("Territory_1", topology.getCountryNames()[0]);
+		assertEquals("Territory_54321", topology.getCountryNames()[54320]);
+		assertTrue(topology.isValid());
+	}
+
+	/**
+	 * The error is the one of the first bad line, with its number in the file
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testConquestError() throws IOException {
+		writeConquestMap(65432);
+		try {
+			ConquestMapReader.parseTopology(MAP);
+			assertTrue(false);
+		} catch (IllegalStateException e) {
+			int lineNumber = 8 + 65432 + 65;
+			assertEquals("Line " + lineNumber + ": The continent North does not exist.", e.getMessage());
+		}
+	}
+}
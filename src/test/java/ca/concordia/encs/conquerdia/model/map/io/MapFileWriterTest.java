@@ -0,0 +1,92 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link MapFileWriter} class
+ */
+public class MapFileWriterTest {
+	/**
+	 * Path of the file of the tests
+	 */
+	private static final String PATH = "mapfilewritertest.map";
+
+	/**
+	 * Path of the temporary file of the tests
+	 */
+	private static final Path TEMPORARY_PATH = Paths.get(PATH + ".tmp");
+
+	/**
+	 * Write the old content of the file
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void setup() throws IOException {
+		Files.write(Paths.get(PATH), "old".getBytes(Charset.defaultCharset()));
+	}
+
+	/**
+	 * Delete the files of the tests
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(Paths.get(PATH));
+		Files.deleteIfExists(TEMPORARY_PATH);
+	}
+
+	/**
+	 * A committed writer replaces the file with a text larger than its buffers, and removes its temporary file
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testCommit() throws IOException {
+		StringBuilder expected = new StringBuilder();
+		try (MapFileWriter writer = new MapFileWriter(PATH)) {
+			for (int i = -20000; i < 20000; i++) {
+				writer.append("Country").append(i).append(',').append(Integer.MIN_VALUE).newLine();
+				expected.append("Country").append(i).append(',').append(Integer.MIN_VALUE)
+						.append(System.lineSeparator());
+			}
+			writer.commit();
+		}
+		assertEquals(expected.toString(), read());
+		assertFalse(Files.exists(TEMPORARY_PATH));
+	}
+
+	/**
+	 * A writer closed before it is committed leaves the old file, and removes its temporary file
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testNotCommitted() throws IOException {
+		try (MapFileWriter writer = new MapFileWriter(PATH)) {
+			writer.appendLine("new");
+		}
+		assertEquals("old", read());
+		assertFalse(Files.exists(TEMPORARY_PATH));
+	}
+
+	/**
+	 * @return the content of the file
+	 * @throws IOException
+	 */
+	private static String read() throws IOException {
+		return new String(Files.readAllBytes(Paths.get(PATH)), Charset.defaultCharset());
+	}
+}
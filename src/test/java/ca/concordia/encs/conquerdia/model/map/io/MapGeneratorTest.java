@@ -0,0 +1,144 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.map.io.MapGenerator.Topology;
+
+/**
+ * Test for the {@link MapGenerator} class
+ */
+public class MapGeneratorTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "generatortest";
+
+	/**
+	 * Absolute path to the map file
+	 */
+	private final Path mapFullPath = Paths.get(MapIO.getMapFilePath(MAP));
+
+	/**
+	 * Delete the map of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(mapFullPath);
+	}
+
+	/**
+	 * Every topology generates a valid map with the requested numbers of countries and continents, even when the
+	 * countries do not fill the last row of the grid
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testValidMaps() throws ValidationException {
+		for (Topology topology : Topology.values()) {
+			for (int numberOfCountries : new int[] { 1, 2, 7, 50, 5003 }) {
+				int numberOfContinents = Math.min(numberOfCountries, 6);
+				MapTopology map = new MapGenerator.Builder(numberOfCountries, numberOfContinents)
+						.setTopology(topology).setSeed(numberOfCountries).build().generate();
+				assertEquals(numberOfCountries, map.getNumberOfCountries());
+				assertEquals(numberOfContinents, map.getNumberOfContinents());
+				assertTrue(topology + " " + numberOfCountries, map.isValid());
+			}
+		}
+	}
+
+	/**
+	 * The average number of neighbours of each topology is close to the expected one, and the scale-free map has a
+	 * country with many more neighbours than the others
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testDegrees() throws ValidationException {
+		int numberOfCountries = 10000;
+		int[] gridDegrees = getDegrees(Topology.GRID, numberOfCountries);
+		int[] planarDegrees = getDegrees(Topology.PLANAR, numberOfCountries);
+		int[] scaleFreeDegrees = getDegrees(Topology.SCALE_FREE, numberOfCountries);
+		assertEquals(4, Arrays.stream(gridDegrees).max().getAsInt());
+		assertEquals(4.0, Arrays.stream(planarDegrees).average().getAsDouble(), 0.5);
+		assertEquals(4.0, Arrays.stream(scaleFreeDegrees).average().getAsDouble(), 0.5);
+		assertTrue(Arrays.stream(scaleFreeDegrees).max().getAsInt() > 50);
+	}
+
+	/**
+	 * The same seed generates the same map, another seed generates another map
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testSeed() throws ValidationException {
+		for (Topology topology : new Topology[] { Topology.PLANAR, Topology.SCALE_FREE }) {
+			MapGenerator.Builder builder = new MapGenerator.Builder(1000, 10).setTopology(topology);
+			MapTopology first = builder.setSeed(42).build().generate();
+			MapTopology second = builder.setSeed(42).build().generate();
+			MapTopology other = builder.setSeed(43).build().generate();
+			assertArrayEquals(first.getBorders(), second.getBorders());
+			assertFalse(Arrays.equals(first.getBorders(), other.getBorders()));
+		}
+	}
+
+	/**
+	 * The generated maps are written as Domination or Conquest maps and read back
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testWrite() throws ValidationException {
+		MapGenerator generator = new MapGenerator.Builder(500, 8).setSeed(7).build();
+		MapTopology expected = generator.generate();
+		for (boolean conquest : new boolean[] { false, true }) {
+			generator.write(MAP, conquest);
+			assertEquals(conquest, ConquestMapIO.isConquestMap(MAP));
+			MapTopology map = MapTopology.read(MAP, conquest);
+			assertNotNull(map);
+			assertTrue(map.isValid());
+			assertEquals(expected.getNumberOfCountries(), map.getNumberOfCountries());
+			assertEquals(expected.getNumberOfContinents(), map.getNumberOfContinents());
+			assertEquals(expected.getNumberOfBorders(), map.getNumberOfBorders());
+		}
+	}
+
+	/**
+	 * The settings that cannot generate a valid map are rejected
+	 */
+	@Test(expected = ValidationException.class)
+	public void testTooManyContinents() throws ValidationException {
+		new MapGenerator.Builder(3, 4).build();
+	}
+
+	/**
+	 * @param topology          the topology of the map
+	 * @param numberOfCountries the number of countries
+	 * @return the number of neighbours of each country
+	 * @throws ValidationException
+	 */
+	private static int[] getDegrees(Topology topology, int numberOfCountries) throws ValidationException {
+		MapTopology map = new MapGenerator.Builder(numberOfCountries, 20).setTopology(topology).setSeed(1).build()
+				.generate();
+		int[] degrees = new int[numberOfCountries];
+		for (int border : map.getBorders()) {
+			degrees[border]++;
+		}
+		return degrees;
+	}
+}
@@ -11,7 +11,14 @@ import org.junit.runners.Suite;
 		MapReaderTest.class,
 		MapWriterTest.class,
 		ConquestMapWriterTest.class,
-		ConquestMapReaderTest.class
+		ConquestMapReaderTest.class,
+		MapTopologyCacheTest.class,
+		MapTopologyTest.class,
+		BinaryMapFileTest.class,
+		MapChunkTest.class,
+		MapFileWriterTest.class,
+		MapGeneratorTest.class,
+		BundledMapsTest.class
 })
 /**
  * Test Suite Class map io classses
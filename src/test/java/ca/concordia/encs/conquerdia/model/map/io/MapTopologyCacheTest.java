@@ -0,0 +1,114 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.TestMaps;
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * Test for the {@link MapTopologyCache} class
+ */
+public class MapTopologyCacheTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "topologycachetest";
+
+	/**
+	 * Write the small map of the tests
+	 *
+	 * @throws ValidationException
+	 * @throws IOException
+	 */
+	@BeforeClass
+	public static void setup() throws ValidationException, IOException {
+		TestMaps.writeSmallMap(MAP, false);
+	}
+
+	/**
+	 * Delete the map of the tests
+	 *
+	 * @throws IOException
+	 */
+	@AfterClass
+	public static void end() throws IOException {
+		TestMaps.deleteMap(MAP);
+	}
+
+	/**
+	 * A map loaded again is copied from the cache, with new countries
+	 */
+	@Test
+	public void testLoadAgain() {
+		MapTopologyCache cache = MapTopologyCache.getShared();
+		WorldMap first = new GameContext().getWorldMap();
+		first.loadMap(MAP);
+		long hits = cache.getHits();
+		WorldMap second = new GameContext().getWorldMap();
+		second.loadMap(MAP);
+		assertTrue(second.isMapLoaded());
+		assertEquals(hits + 1, cache.getHits());
+		assertEquals(2, second.getContinents().size());
+		assertEquals(TestMaps.NUMBER_OF_COUNTRIES, second.getNumberOfCountries());
+		Country country = second.getCountry("Country0");
+		assertNotSame(first.getCountry("Country0"), country);
+		assertEquals(3, country.getNumberOfNeighbours());
+		assertTrue(country.isAdjacentTo("Country7"));
+		assertSame(second.getContinent("North"), country.getContinent());
+	}
+
+	/**
+	 * A map that is saved again is read again
+	 *
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testChangedFile() throws ValidationException {
+		WorldMap worldMap = new GameContext().getWorldMap();
+		worldMap.loadMap(MAP);
+		worldMap.editMap(MAP);
+		worldMap.addCountry("Country8", "South");
+		worldMap.addNeighbour("Country8", "Country7");
+		worldMap.saveMap(MAP);
+		MapTopologyCache cache = MapTopologyCache.getShared();
+		long misses = cache.getMisses();
+		WorldMap reloaded = new GameContext().getWorldMap();
+		reloaded.loadMap(MAP);
+		assertEquals(misses + 1, cache.getMisses());
+		assertEquals(TestMaps.NUMBER_OF_COUNTRIES + 1, reloaded.getNumberOfCountries());
+		worldMap.editMap(MAP);
+		worldMap.removeCountry("Country8");
+		worldMap.saveMap(MAP);
+	}
+
+	/**
+	 * The topology used least recently is dropped when the cache is full
+	 */
+	@Test
+	public void testEviction() {
+		MapTopologyCache cache = new MapTopologyCache(2);
+		MapTopology topology = MapTopology.read(MAP, false);
+		byte[] hash = MapTopologyCache.hash(new byte[] { 1 });
+		cache.put("a", hash, topology);
+		cache.put("b", hash, topology);
+		assertSame(topology, cache.get("a", hash));
+		cache.put("c", hash, topology);
+		assertEquals(2, cache.size());
+		assertNull(cache.get("b", hash));
+		assertSame(topology, cache.get("a", hash));
+		assertNull(cache.get("a", MapTopologyCache.hash(new byte[] { 2 })));
+	}
+}
@@ -0,0 +1,143 @@
+package ca.concordia.encs.conquerdia.model.map.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ca.concordia.encs.conquerdia.exception.ValidationException;
+import ca.concordia.encs.conquerdia.model.GameContext;
+import ca.concordia.encs.conquerdia.model.map.Country;
+import ca.concordia.encs.conquerdia.model.map.WorldMap;
+
+/**
+ * Test for the {@link MapTopology} read by a {@link MapReader} or a {@link ConquestMapReader}
+ */
+public class MapTopologyTest {
+	/**
+	 * Name of the map of the tests
+	 */
+	private static final String MAP = "topologytest";
+
+	/**
+	 * Absolute path to the map file
+	 */
+	private final Path mapFullPath = Paths.get(MapIO.getMapFilePath(MAP));
+
+	/**
+	 * Delete the map of a test
+	 *
+	 * @throws IOException
+	 */
+	@After
+	public void end() throws IOException {
+		Files.deleteIfExists(mapFullPath);
+	}
+
+	/**
+	 * The invalid continents and countries are left out, the borders given twice are kept once, and the spaces and
+	 * line breaks do not matter
+	 *
+	 * @throws IOException
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testReadTopology() throws IOException, ValidationException {
+		Files.write(mapFullPath, ("; a comment\r\n[continents]\r\nNorth 2\r\nNorth 5\r\nSouth\t3\r\n\r\n"
+				+ "[countries]\n1 A 1 0 0\n2 B 1\n3 A 2\n3  C  2 0 0\n\n"
+				+ "[borders]\n1 2 3\n2 1\n3 1 2\n").getBytes());
+		MapTopology topology = MapReader.readTopology(MAP);
+		assertNotNull(topology);
+		assertEquals(2, topology.getNumberOfContinents());
+		assertEquals(3, topology.getNumberOfCountries());
+		assertEquals(3, topology.getNumberOfBorders());
+		WorldMap worldMap = new GameContext().getWorldMap();
+		topology.copyTo(worldMap);
+		Country c = worldMap.getCountry("C");
+		assertEquals("South", c.getContinent().getName());
+		assertEquals(2, c.getNumberOfNeighbours());
+		assertTrue(worldMap.getCountry("A").isAdjacentTo("B"));
+		assertTrue(worldMap.checkAllMapValidationRules());
+	}
+
+	/**
+	 * A border to a country that does not exist fails the read
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testUnknownCountry() throws IOException {
+		Files.write(mapFullPath, "[continents]\nNorth 2\n\n[countries]\n1 A 1\n\n[borders]\n1 2\n".getBytes());
+		assertNull(MapReader.readTopology(MAP));
+	}
+
+	/**
+	 * A map file large enough to be mapped in memory
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testLargeMap() throws IOException {
+		int numberOfCountries = 40000;
+		try (BufferedWriter writer = Files.newBufferedWriter(mapFullPath)) {
+			writer.write("[continents]\nWest 5\nEast 5\n\n[countries]\n");
+			for (int i = 1; i <= numberOfCountries; i++) {
+				writer.write(i + " Territory_" + i + " " + (i <= numberOfCountries / 2 ? 1 : 2) + " 0 0\n");
+			}
+			writer.write("\n[borders]\n");
+			for (int i = 1; i <= numberOfCountries; i++) {
+				writer.write(i + " " + (i % numberOfCountries + 1) + " " + ((i + numberOfCountries - 2)
+						% numberOfCountries + 1) + "\n");
+			}
+		}
+		assertTrue(Files.size(mapFullPath) >= MapBuffer.MAPPED_FILE_MIN_SIZE);
+		MapTopology topology = MapReader.readTopology(MAP);
+		assertNotNull(topology);
+		assertEquals(numberOfCountries, topology.getNumberOfCountries());
+		assertEquals(numberOfCountries, topology.getNumberOfBorders());
+	}
+
+	/**
+	 * The territory names are formatted once, the neighbours can be given before their territory and the borders
+	 * given by both territories are kept once
+	 *
+	 * @throws IOException
+	 * @throws ValidationException
+	 */
+	@Test
+	public void testReadConquestTopology() throws IOException, ValidationException {
+		Files.write(mapFullPath, ("[Map]\nauthor=test\n\n[Continents]\nnorth  land=2\nSouth=3\n\n[Territories]\n"
+				+ "alpha,0,0,North Land,beta, gamma\nBeta,0,0,north land,Alpha,\n\n"
+				+ "Gamma,0,0,south,alpha,beta\n").getBytes());
+		MapTopology topology = ConquestMapReader.readTopology(MAP);
+		assertNotNull(topology);
+		assertEquals(2, topology.getNumberOfContinents());
+		assertEquals(3, topology.getNumberOfCountries());
+		assertEquals(3, topology.getNumberOfBorders());
+		WorldMap worldMap = new GameContext().getWorldMap();
+		topology.copyTo(worldMap);
+		assertEquals("North_Land", worldMap.getCountry("Alpha").getContinent().getName());
+		assertTrue(worldMap.getCountry("Gamma").isAdjacentTo("Beta"));
+		assertTrue(worldMap.checkAllMapValidationRules());
+	}
+
+	/**
+	 * A neighbour which is not a territory fails the read
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testUnknownTerritory() throws IOException {
+		Files.write(mapFullPath, "[Continents]\nNorth=2\n\n[Territories]\nAlpha,0,0,North,Beta\n".getBytes());
+		assertNull(ConquestMapReader.readTopology(MAP));
+	}
+}